@@ -0,0 +1,244 @@
+#!/usr/bin/env python3
+"""
+SSE 연결 soak 테스트
+- 서블릿 구독(GET {url}/api/v1/subscribe, 기본 8080)과 SSE 게이트웨이(sse.gateway.enabled=true, 기본 8090)에
+  같은 방식으로 연결을 열고 유지하면서, 연결 수와 연결당 메모리를 주기적으로 출력함
+- 서버 지표는 actuator prometheus에서 읽음 (kiero_sse_connections, jvm_memory_used_bytes, jvm_threads_live_threads)
+- --pid를 주면 같은 호스트의 서버 프로세스 RSS도 함께 읽음 (/proc/<pid>/status)
+- 연결 중 renew 이벤트를 받으면 세션을 연장하므로, 토큰 만료 시각보다 길게 유지할 수 있음
+
+회원 한 명의 연결 수는 sse.max-connections-per-key로 제한되므로 토큰 파일(한 줄에 토큰 하나)의 토큰을
+--per-token개씩 나눠 씀 (토큰 하나로 많은 연결을 열려면 서버의 sse.max-connections-per-key를 올려야 함)
+
+예) 두 방식을 차례로 측정
+  python3 scripts/sse-soak.py --url http://localhost:8080 --tokens-file tokens.txt --connections 10000 --pid 1234
+  python3 scripts/sse-soak.py --url http://localhost:8090 --tokens-file tokens.txt --connections 10000 --pid 1234 \
+    --label gateway
+"""
+import argparse
+import asyncio
+import json
+import resource
+import time
+import urllib.parse
+import urllib.request
+
+SUBSCRIBE_PATH = "/api/v1/subscribe"
+RENEW_PATH = "/api/v1/subscribe/sessions/{}/renew"
+
+
+class Stats:
+    def __init__(self):
+        self.open = 0
+        self.failed = 0
+        self.closed = 0
+        self.events = 0
+        self.renewed = 0
+
+
+def parse_args():
+    parser = argparse.ArgumentParser(description="SSE 연결 soak 테스트")
+    parser.add_argument("--url", required=True, help="구독 서버 주소 (서블릿: 8080, 게이트웨이: 8090)")
+    parser.add_argument("--api-url", help="renew를 보낼 API 서버 주소 (기본: 8080 포트의 --url 호스트)")
+    parser.add_argument("--metrics-url", help="actuator prometheus 주소 (기본: {api-url}/actuator/prometheus)")
+    parser.add_argument("--tokens-file", required=True, help="구독 토큰 파일 (한 줄에 하나)")
+    parser.add_argument("--connections", type=int, default=10000)
+    parser.add_argument("--per-token", type=int, default=5, help="토큰 하나로 열 연결 수 (max-connections-per-key 이하)")
+    parser.add_argument("--ramp", type=int, default=500, help="초당 새로 여는 연결 수")
+    parser.add_argument("--hold", type=int, default=600, help="모든 연결을 연 뒤 유지하는 시간(초)")
+    parser.add_argument("--interval", type=int, default=10, help="지표 출력 주기(초)")
+    parser.add_argument("--pid", type=int, help="서버 프로세스 pid (RSS 측정용)")
+    parser.add_argument("--label", default="servlet")
+    args = parser.parse_args()
+
+    if not args.api_url:
+        parsed = urllib.parse.urlparse(args.url)
+        args.api_url = "{}://{}:8080".format(parsed.scheme, parsed.hostname)
+    if not args.metrics_url:
+        args.metrics_url = args.api_url + "/actuator/prometheus"
+    return args
+
+
+def raise_fd_limit():
+    soft, hard = resource.getrlimit(resource.RLIMIT_NOFILE)
+    resource.setrlimit(resource.RLIMIT_NOFILE, (hard, hard))
+    return hard
+
+
+def read_metrics(metrics_url):
+    body = urllib.request.urlopen(metrics_url, timeout=5).read().decode()
+    metrics = {"connections": 0.0, "heap": 0.0, "nonheap": 0.0, "threads": 0.0}
+    for line in body.splitlines():
+        if line.startswith("#") or not line:
+            continue
+        name, _, value = line.rpartition(" ")
+        if name.startswith("kiero_sse_connections"):
+            metrics["connections"] += float(value)
+        elif name.startswith("jvm_memory_used_bytes"):
+            metrics["heap" if 'area="heap"' in name else "nonheap"] += float(value)
+        elif name.startswith("jvm_threads_live_threads"):
+            metrics["threads"] += float(value)
+    return metrics
+
+
+def read_rss(pid):
+    if pid is None:
+        return None
+    with open("/proc/{}/status".format(pid)) as status:
+        for line in status:
+            if line.startswith("VmRSS:"):
+                return int(line.split()[1]) * 1024
+    return None
+
+
+async def renew(api_url, session_id, stats):
+    parsed = urllib.parse.urlparse(api_url)
+    try:
+        reader, writer = await asyncio.open_connection(parsed.hostname, parsed.port or 80)
+        writer.write((
+            "POST {} HTTP/1.1\r\nHost: {}\r\nContent-Length: 0\r\nConnection: close\r\n\r\n"
+        ).format(RENEW_PATH.format(session_id), parsed.netloc).encode())
+        await writer.drain()
+        status_line = await reader.readline()
+        writer.close()
+    except OSError:
+        return
+    if b" 200 " in status_line:
+        stats.renewed += 1
+
+
+async def read_body(reader, chunked):
+    """응답 본문을 (chunked면 디코딩해) 줄 단위로 돌려줌"""
+    if not chunked:
+        while True:
+            line = await reader.readline()
+            if not line:
+                return
+            yield line.decode(errors="replace").rstrip("\r\n")
+
+    pending = b""
+    while True:
+        size = int((await reader.readline()).split(b";")[0].strip() or b"0", 16)
+        if size == 0:
+            return
+        pending += await reader.readexactly(size)
+        await reader.readexactly(2)
+        *lines, pending = pending.split(b"\n")
+        for line in lines:
+            yield line.decode(errors="replace").rstrip("\r")
+
+
+def renew_session_ids(event_name, data):
+    """renew 이벤트(또는 batch 안의 renew 이벤트)의 세션 id"""
+    if event_name not in ("renew", "batch"):
+        return []
+    try:
+        payload = json.loads(data)
+        if event_name == "renew":
+            return [payload["sessionId"]]
+        return [item["data"]["sessionId"] for item in payload if item.get("event") == "renew"]
+    except (ValueError, KeyError, TypeError):
+        return []
+
+
+async def hold_connection(args, token, stats, stop):
+    parsed = urllib.parse.urlparse(args.url)
+    try:
+        reader, writer = await asyncio.open_connection(parsed.hostname, parsed.port or 80)
+        writer.write((
+            "GET {} HTTP/1.1\r\nHost: {}\r\nAuthorization: Bearer {}\r\nAccept: text/event-stream\r\n\r\n"
+        ).format(SUBSCRIBE_PATH, parsed.netloc, token).encode())
+        await writer.drain()
+        status_line = await reader.readline()
+        if b" 200 " not in status_line:
+            stats.failed += 1
+            writer.close()
+            return
+        chunked = False
+        while True:
+            header = (await reader.readline()).strip().lower()
+            if not header:
+                break
+            chunked = chunked or header == b"transfer-encoding: chunked"
+    except OSError:
+        stats.failed += 1
+        return
+
+    stats.open += 1
+    event_name = None
+    try:
+        async for line in read_body(reader, chunked):
+            if stop.is_set():
+                break
+            if line.startswith("event:"):
+                event_name = line[len("event:"):]
+                stats.events += 1
+            elif line.startswith("data:"):
+                for session_id in renew_session_ids(event_name, line[len("data:"):]):
+                    asyncio.create_task(renew(args.api_url, session_id, stats))
+    except (OSError, ValueError, asyncio.IncompleteReadError):
+        pass
+    finally:
+        stats.open -= 1
+        stats.closed += 1
+        writer.close()
+
+
+def report(args, stats, baseline, started):
+    metrics = read_metrics(args.metrics_url)
+    rss = read_rss(args.pid)
+    connections = max(metrics["connections"] - baseline["connections"], 1)
+    heap_per_connection = (metrics["heap"] - baseline["heap"]) / connections
+    row = "{:>6.0f}s {:>8} open={:<7} failed={:<6} closed={:<6} server={:<7.0f} threads={:<5.0f}".format(
+        time.monotonic() - started, args.label, stats.open, stats.failed, stats.closed,
+        metrics["connections"], metrics["threads"])
+    row += " heap/conn={:>9.0f}B".format(heap_per_connection)
+    if rss is not None and baseline.get("rss") is not None:
+        row += " rss/conn={:>9.0f}B".format((rss - baseline["rss"]) / connections)
+    print(row, flush=True)
+
+
+async def main():
+    args = parse_args()
+    fd_limit = raise_fd_limit()
+    if fd_limit < args.connections + 100:
+        print("경고: 파일 디스크립터 한도({})가 연결 수보다 작음".format(fd_limit))
+
+    with open(args.tokens_file) as tokens_file:
+        tokens = [line.strip() for line in tokens_file if line.strip()]
+    if len(tokens) * args.per_token < args.connections:
+        print("경고: 토큰 {}개 x {}개로는 {}개 연결을 유지할 수 없음 (오래된 연결이 끊김)".format(
+            len(tokens), args.per_token, args.connections))
+
+    baseline = read_metrics(args.metrics_url)
+    baseline["rss"] = read_rss(args.pid)
+    print("baseline: {}".format(json.dumps(baseline)), flush=True)
+
+    stats = Stats()
+    stop = asyncio.Event()
+    started = time.monotonic()
+    last_report = started
+    tasks = []
+    for i in range(args.connections):
+        token = tokens[(i // args.per_token) % len(tokens)]
+        tasks.append(asyncio.create_task(hold_connection(args, token, stats, stop)))
+        if (i + 1) % args.ramp == 0:
+            await asyncio.sleep(1)
+            if time.monotonic() - last_report >= args.interval:
+                report(args, stats, baseline, started)
+                last_report = time.monotonic()
+
+    hold_until = time.monotonic() + args.hold
+    while time.monotonic() < hold_until:
+        await asyncio.sleep(args.interval)
+        report(args, stats, baseline, started)
+
+    stop.set()
+    for task in tasks:
+        task.cancel()
+    await asyncio.gather(*tasks, return_exceptions=True)
+    print("done: events={} renewed={} failed={}".format(stats.events, stats.renewed, stats.failed))
+
+
+if __name__ == "__main__":
+    asyncio.run(main())
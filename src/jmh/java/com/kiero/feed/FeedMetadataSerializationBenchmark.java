@@ -0,0 +1,83 @@
+package com.kiero.feed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.feed.infrastructure.converter.RawJsonConverter;
+import com.kiero.feed.presentation.dto.FeedItemDto;
+import com.kiero.global.util.RawJson;
+
+/*
+피드 한 페이지의 metadata를 DB 문자열에서 응답 JSON까지 만드는 비용 비교
+- jsonNodeRoundTrip: 이전 방식 (JsonNodeConverter처럼 행마다 readTree 후 JsonNode로 다시 직렬화)
+- rawJsonPassthrough: RawJsonConverter로 감싼 원문을 그대로 씀
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedMetadataSerializationBenchmark {
+
+	@Param({"20", "50"})
+	int pageSize;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final RawJsonConverter rawJsonConverter = new RawJsonConverter();
+	private final LocalDateTime occurredAt = LocalDateTime.of(2026, 1, 23, 19, 46);
+
+	private List<String> columns;
+
+	record JsonNodeFeedItemDto(
+		EventType eventType,
+		@JsonFormat(pattern = "yyyy.MM.dd HH:mm")
+		LocalDateTime occurredAt,
+		JsonNode metadata
+	) {
+	}
+
+	@Setup
+	public void setUp() {
+		columns = new ArrayList<>(pageSize);
+		for (int i = 0; i < pageSize; i++) {
+			columns.add(switch (i % 3) {
+				case 0 -> "{\"amount\": " + i + ", \"content\": \"받아쓰기 만점\"}";
+				case 1 -> "{\"content\": \"피아노 학원\", \"imageUrl\": "
+					+ "\"https://kiero-bucket.s3.ap-northeast-2.amazonaws.com/schedule/piano.JPG\"}";
+				default -> "{\"amount\": 10}";
+			});
+		}
+	}
+
+	@Benchmark
+	public String jsonNodeRoundTrip() throws Exception {
+		List<JsonNodeFeedItemDto> items = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			items.add(new JsonNodeFeedItemDto(EventType.MISSION, occurredAt, objectMapper.readTree(column)));
+		}
+		return objectMapper.writeValueAsString(items);
+	}
+
+	@Benchmark
+	public String rawJsonPassthrough() throws Exception {
+		List<FeedItemDto> items = new ArrayList<>(columns.size());
+		for (String column : columns) {
+			items.add(new FeedItemDto(EventType.MISSION, occurredAt, rawJsonConverter.convertToEntityAttribute(column)));
+		}
+		return objectMapper.writeValueAsString(items);
+	}
+}
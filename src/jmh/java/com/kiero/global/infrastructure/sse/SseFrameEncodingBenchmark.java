@@ -0,0 +1,120 @@
+package com.kiero.global.infrastructure.sse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kiero.global.infrastructure.sse.domain.EncodedSseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+
+/*
+같은 SSE 이벤트를 여러 연결에 쓰는 비용 비교 (소켓 대신 바이트를 버리는 출력 스트림에 씀)
+- perRecipientConversion: 이전 방식 (연결마다 SseEmitter.event()를 만들고 메시지 컨버터로 data를 직렬화)
+- sharedEncodedFrame: 프레임을 한 번 인코딩하고 연결마다 같은 바이트를 씀
+메시지 컨버터 선택은 ResponseBodyEmitterReturnValueHandler와 같은 순서(앞에서부터 canWrite)로 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseFrameEncodingBenchmark {
+
+	@Param({"1", "10", "10000"})
+	int recipients;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final List<HttpMessageConverter<?>> converters = List.of(
+		new ByteArrayHttpMessageConverter(),
+		new StringHttpMessageConverter(),
+		new MappingJackson2HttpMessageConverter(objectMapper));
+	private final DiscardingOutputMessage output = new DiscardingOutputMessage();
+
+	private final SseFrame frame = new SseFrame(1_769_165_160_000L, "feed", new FeedEvent(
+		"MISSION", "받아쓰기 만점", 300, LocalDateTime.of(2026, 1, 23, 19, 46)));
+
+	record FeedEvent(
+		String eventType,
+		String content,
+		int amount,
+		@JsonFormat(pattern = "yyyy.MM.dd HH:mm")
+		LocalDateTime occurredAt
+	) {
+	}
+
+	@Benchmark
+	public long perRecipientConversion() throws IOException {
+		for (int i = 0; i < recipients; i++) {
+			write(frame.toEvent().build());
+		}
+		return output.written;
+	}
+
+	@Benchmark
+	public long sharedEncodedFrame() throws IOException {
+		EncodedSseFrame encoded = (EncodedSseFrame)frame.encode(objectMapper).data();
+		for (int i = 0; i < recipients; i++) {
+			write(encoded.toData());
+		}
+		return output.written;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void write(Iterable<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+		for (ResponseBodyEmitter.DataWithMediaType item : items) {
+			Object data = item.getData();
+			MediaType mediaType = item.getMediaType();
+			for (HttpMessageConverter<?> converter : converters) {
+				if (converter.canWrite(data.getClass(), mediaType)) {
+					((HttpMessageConverter<Object>)converter).write(data, mediaType, output);
+					break;
+				}
+			}
+		}
+	}
+
+	private static final class DiscardingOutputMessage implements HttpOutputMessage {
+		private long written;
+		private final OutputStream body = new OutputStream() {
+			@Override
+			public void write(int b) {
+				written++;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				written += len;
+			}
+		};
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		// 응답이 이미 시작된 뒤라 컨버터가 쓰는 헤더는 버려짐
+		@Override
+		public HttpHeaders getHeaders() {
+			return new HttpHeaders();
+		}
+	}
+}
@@ -5,6 +5,8 @@ import com.kiero.coupon.presentation.dto.CouponResponse;
 import com.kiero.coupon.service.CouponService;
 import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
 import com.kiero.global.response.dto.SuccessResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,7 @@ public class CouponController {
     private final CouponService couponService;
 
     @PreAuthorize("hasAnyRole('CHILD', 'PARENT', 'ADMIN')")
+    @ConditionalGet(ResourceVersionScope.COUPON_CATALOG)
     @GetMapping
     public ResponseEntity<SuccessResponse<List<CouponResponse>>> getAllCoupons() {
         List<CouponResponse> coupons = couponService.getAllCoupons();
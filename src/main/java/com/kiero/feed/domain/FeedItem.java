@@ -2,12 +2,11 @@ package com.kiero.feed.domain;
 
 import java.time.LocalDateTime;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.kiero.child.domain.Child;
 import com.kiero.feed.domain.enums.EventType;
-import com.kiero.feed.infrastructure.converter.JsonNodeConverter;
+import com.kiero.feed.infrastructure.converter.RawJsonConverter;
 import com.kiero.global.entity.BaseTimeEntity;
-import com.kiero.parent.domain.Parent;
+import com.kiero.global.util.RawJson;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -27,6 +26,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/*
+아이의 활동 기록 (이벤트 하나당 한 행)
+부모별로 복제하지 않고, 어떤 부모에게 보이는지는 조회 시 ParentChild로 판단함
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,27 +50,21 @@ public class FeedItem extends BaseTimeEntity {
 	@Column(name = FeedItemTableConstants.COLUMN_EVENT_TYPE, nullable = false)
 	private EventType eventType;
 
-	@Convert(converter = JsonNodeConverter.class)
+	@Convert(converter = RawJsonConverter.class)
 	@Column(name = FeedItemTableConstants.COLUMN_METADATA, columnDefinition = "json", nullable = false)
-	private JsonNode metadata;
-
-	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = FeedItemTableConstants.COLUMN_PARENT_ID, nullable = false)
-	private Parent parent;
+	private RawJson metadata;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = FeedItemTableConstants.COLUMN_CHILD_ID, nullable = false)
 	private Child child;
 
 	public static FeedItem create(
-		Parent parent,
 		Child child,
 		LocalDateTime occurredAt,
 		EventType eventType,
-		JsonNode metadata
+		RawJson metadata
 	) {
 		return FeedItem.builder()
-			.parent(parent)
 			.child(child)
 			.occurredAt(occurredAt)
 			.eventType(eventType)
@@ -0,0 +1,50 @@
+package com.kiero.feed.domain;
+
+import java.time.LocalDateTime;
+
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.feed.infrastructure.converter.RawJsonConverter;
+import com.kiero.global.util.RawJson;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+보관 기간이 지나 feed_item에서 옮겨진 피드 아이템 (읽기 전용)
+FeedRetentionJob이 월 단위 파티션을 통째로 옮기며, 깊은 커서 조회에서만 읽음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = FeedItemArchiveTableConstants.TABLE_FEED_ITEM_ARCHIVE)
+public class FeedItemArchive {
+
+	@Id
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_ID)
+	private Long id;
+
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_CREATED_AT, nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_OCCURRED_AT, nullable = false)
+	private LocalDateTime occurredAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_EVENT_TYPE, nullable = false)
+	private EventType eventType;
+
+	@Convert(converter = RawJsonConverter.class)
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_METADATA, columnDefinition = "json", nullable = false)
+	private RawJson metadata;
+
+	@Column(name = FeedItemArchiveTableConstants.COLUMN_CHILD_ID, nullable = false)
+	private Long childId;
+}
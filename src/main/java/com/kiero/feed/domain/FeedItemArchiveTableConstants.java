@@ -0,0 +1,11 @@
+package com.kiero.feed.domain;
+
+public class FeedItemArchiveTableConstants {
+	public static final String TABLE_FEED_ITEM_ARCHIVE = "feed_item_archive";
+	public static final String COLUMN_ID = "id";
+	public static final String COLUMN_CREATED_AT = "created_at";
+	public static final String COLUMN_OCCURRED_AT = "occurred_at";
+	public static final String COLUMN_EVENT_TYPE = "event_type";
+	public static final String COLUMN_METADATA = "metadata";
+	public static final String COLUMN_CHILD_ID = "child_id";
+}
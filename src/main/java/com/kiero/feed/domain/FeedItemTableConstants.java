@@ -6,6 +6,5 @@ public class FeedItemTableConstants {
 	public static final String COLUMN_OCCURRED_AT= "occurred_at";
 	public static final String COLUMN_EVENT_TYPE = "event_type";
 	public static final String COLUMN_METADATA = "metadata";
-	public static final String COLUMN_PARENT_ID = "parent_id";
 	public static final String COLUMN_CHILD_ID = "child_id";
 }
@@ -0,0 +1,23 @@
+package com.kiero.feed.infrastructure.converter;
+
+import com.kiero.global.util.RawJson;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+json 컬럼을 파싱하지 않고 문자열 그대로 읽고 씀
+ */
+@Converter
+public class RawJsonConverter implements AttributeConverter<RawJson, String> {
+
+	@Override
+	public String convertToDatabaseColumn(RawJson attribute) {
+		return attribute == null ? null : attribute.value();
+	}
+
+	@Override
+	public RawJson convertToEntityAttribute(String dbData) {
+		return RawJson.of(dbData);
+	}
+}
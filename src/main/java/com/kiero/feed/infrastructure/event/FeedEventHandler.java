@@ -1,176 +1,74 @@
 package com.kiero.feed.infrastructure.event;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.kiero.child.domain.Child;
 import com.kiero.coupon.presentation.dto.CouponPurchaseEvent;
-import com.kiero.feed.domain.FeedItem;
 import com.kiero.feed.domain.enums.EventType;
-import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent;
-import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
-import com.kiero.feed.repository.FeedItemRepository;
+import com.kiero.feed.infrastructure.event.dto.FeedOutboxPayload;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+import com.kiero.global.infrastructure.outbox.service.OutboxService;
+import com.kiero.global.util.RawJson;
 import com.kiero.mission.presentation.dto.MissionCompleteEvent;
-import com.kiero.parent.domain.Parent;
-import com.kiero.parent.repository.ParentChildRepository;
 import com.kiero.schedule.presentation.dto.NowScheduleCompleteEvent;
 import com.kiero.schedule.presentation.dto.FireLitEvent;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
+/*
+아이의 활동을 피드 이벤트로 아웃박스에 기록함
+- 아이 요청의 트랜잭션에서는 아웃박스 insert 한 번만 하고, 피드 아이템 생성과 부모 알림은 릴레이가 비동기로 처리함
+- 피드 아이템은 이벤트 하나당 아이 기준으로 한 행만 저장하고, 부모별 노출은 조회 시점에 ParentChild로 판단함
+ */
 @Component
 @RequiredArgsConstructor
 public class FeedEventHandler {
 
-	@PersistenceContext
-	private EntityManager entityManager;
-
-	private final ApplicationEventPublisher publisher;
-	private final FeedItemRepository feedItemRepository;
-	private final ParentChildRepository parentChildRepository;
+	private final OutboxService outboxService;
 	private final ObjectMapper objectMapper;
 
 	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
 	public void handle(NowScheduleCompleteEvent event) {
-		Child childRef = entityManager.getReference(Child.class, event.childId());
-		List<Parent> parents = parentChildRepository.findParentsByChildId(event.childId());
-
 		ObjectNode metadata = objectMapper.createObjectNode();
 		metadata.put("content", event.name());
 		metadata.put("imageUrl", event.imageUrl());
 
-		List<FeedItem> feedItems = parents.stream()
-			.map(parent -> FeedItem.create(
-				parent,
-				childRef,
-				event.occurredAt(),
-				EventType.SCHEDULE,
-				metadata.deepCopy()
-			))
-			.toList();
-
-		List<FeedItem> saved = feedItemRepository.saveAll(feedItems);
-
-		List<FeedItemInfo> items = saved.stream()
-			.map(fi -> new FeedItemInfo(
-				fi.getId(),
-				fi.getParent().getId(),
-				fi.getChild().getId(),
-				fi.getEventType(),
-				fi.getOccurredAt(),
-				fi.getMetadata()
-			))
-			.toList();
-		publisher.publishEvent(new FeedItemsCreatedEvent(items));
+		record(event.childId(), event.occurredAt(), EventType.SCHEDULE, metadata);
 	}
 
 	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
 	public void handle(FireLitEvent event) {
-		Child childRef = entityManager.getReference(Child.class, event.childId());
-		List<Parent> parents = parentChildRepository.findParentsByChildId(event.childId());
-
 		ObjectNode metadata = objectMapper.createObjectNode();
 		metadata.put("amount", event.amount());
 
-		List<FeedItem> feedItems = parents.stream()
-			.map(parent -> FeedItem.create(
-				parent,
-				childRef,
-				event.occurredAt(),
-				EventType.COMPLETE,
-				metadata.deepCopy()
-			))
-			.toList();
-
-		List<FeedItem> saved = feedItemRepository.saveAll(feedItems);
-
-		List<FeedItemInfo> items = saved.stream()
-			.map(fi -> new FeedItemInfo(
-				fi.getId(),
-				fi.getParent().getId(),
-				fi.getChild().getId(),
-				fi.getEventType(),
-				fi.getOccurredAt(),
-				fi.getMetadata()
-			))
-			.toList();
-		publisher.publishEvent(new FeedItemsCreatedEvent(items));
+		record(event.childId(), event.occurredAt(), EventType.COMPLETE, metadata);
 	}
 
 	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
 	public void handle(MissionCompleteEvent event) {
-		Child childRef = entityManager.getReference(Child.class, event.childId());
-		List<Parent> parents = parentChildRepository.findParentsByChildId(event.childId());
-
 		ObjectNode metadata = objectMapper.createObjectNode();
 		metadata.put("content", event.name());
 		metadata.put("amount", event.amount());
 
-		List<FeedItem> feedItems = parents.stream()
-			.map(parent -> FeedItem.create(
-				parent,
-				childRef,
-				event.occurredAt(),
-				EventType.MISSION,
-				metadata.deepCopy()
-			))
-			.toList();
-
-		List<FeedItem> saved = feedItemRepository.saveAll(feedItems);
-
-		List<FeedItemInfo> items = saved.stream()
-			.map(fi -> new FeedItemInfo(
-				fi.getId(),
-				fi.getParent().getId(),
-				fi.getChild().getId(),
-				fi.getEventType(),
-				fi.getOccurredAt(),
-				fi.getMetadata()
-			))
-			.toList();
-		publisher.publishEvent(new FeedItemsCreatedEvent(items));
+		record(event.childId(), event.occurredAt(), EventType.MISSION, metadata);
 	}
 
 	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
 	public void handle(CouponPurchaseEvent event) {
-		Child childRef = entityManager.getReference(Child.class, event.childId());
-		List<Parent> parents = parentChildRepository.findParentsByChildId(event.childId());
-
 		ObjectNode metadata = objectMapper.createObjectNode();
 		metadata.put("content", event.name());
 		metadata.put("amount", event.amount());
 
-		List<FeedItem> feedItems = parents.stream()
-			.map(parent -> FeedItem.create(
-				parent,
-				childRef,
-				event.occurredAt(),
-				EventType.COUPON,
-				metadata.deepCopy()
-			))
-			.toList();
-
-		List<FeedItem> saved = feedItemRepository.saveAll(feedItems);
-
-		List<FeedItemInfo> items = saved.stream()
-			.map(fi -> new FeedItemInfo(
-				fi.getId(),
-				fi.getParent().getId(),
-				fi.getChild().getId(),
-				fi.getEventType(),
-				fi.getOccurredAt(),
-				fi.getMetadata()
-			))
-			.toList();
-		publisher.publishEvent(new FeedItemsCreatedEvent(items));
+		record(event.childId(), event.occurredAt(), EventType.COUPON, metadata);
 	}
 
+	private void record(Long childId, LocalDateTime occurredAt, EventType eventType, ObjectNode metadata) {
+		outboxService.append(OutboxTopic.FEED_ITEM, childId,
+			new FeedOutboxPayload(eventType, occurredAt, RawJson.of(metadata.toString())));
+	}
 }
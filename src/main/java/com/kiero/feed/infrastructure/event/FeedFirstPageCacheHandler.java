@@ -0,0 +1,25 @@
+package com.kiero.feed.infrastructure.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent;
+import com.kiero.feed.service.FeedFirstPageCache;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+피드 아이템이 커밋된 후 아이 피드 첫 페이지 캐시에 붙임
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedFirstPageCacheHandler {
+
+	private final FeedFirstPageCache feedFirstPageCache;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(FeedItemsCreatedEvent event) {
+		event.items().forEach(feedFirstPageCache::append);
+	}
+}
@@ -0,0 +1,13 @@
+package com.kiero.feed.infrastructure.event.dto;
+
+import java.time.LocalDateTime;
+
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.global.util.RawJson;
+
+public record FeedOutboxPayload(
+	EventType eventType,
+	LocalDateTime occurredAt,
+	RawJson metadata
+) {
+}
@@ -0,0 +1,74 @@
+package com.kiero.feed.infrastructure.outbox;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.child.domain.Child;
+import com.kiero.feed.domain.FeedItem;
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent;
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
+import com.kiero.feed.infrastructure.event.dto.FeedOutboxPayload;
+import com.kiero.feed.repository.FeedItemRepository;
+import com.kiero.global.exception.KieroException;
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+import com.kiero.global.infrastructure.outbox.exception.OutboxErrorCode;
+import com.kiero.global.infrastructure.outbox.processor.OutboxEventProcessor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+/*
+아웃박스의 피드 이벤트로 피드 아이템을 만들고 FeedItemsCreatedEvent를 발행함
+SSE 알림, 첫 페이지 캐시, 리소스 버전은 이 트랜잭션이 커밋된 후에 반영됨 (커밋 전에 실패하면 이벤트가 재시도됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedItemOutboxProcessor implements OutboxEventProcessor {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ApplicationEventPublisher publisher;
+	private final FeedItemRepository feedItemRepository;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public OutboxTopic topic() {
+		return OutboxTopic.FEED_ITEM;
+	}
+
+	@Override
+	public void process(OutboxEvent event) {
+		FeedOutboxPayload payload = readPayload(event);
+
+		Child childRef = entityManager.getReference(Child.class, event.getChildId());
+		FeedItem saved = feedItemRepository.save(FeedItem.create(
+			childRef,
+			payload.occurredAt(),
+			payload.eventType(),
+			payload.metadata()
+		));
+
+		publisher.publishEvent(new FeedItemsCreatedEvent(List.of(new FeedItemInfo(
+			saved.getId(),
+			event.getChildId(),
+			saved.getEventType(),
+			saved.getOccurredAt(),
+			saved.getMetadata()
+		))));
+	}
+
+	private FeedOutboxPayload readPayload(OutboxEvent event) {
+		try {
+			return objectMapper.readValue(event.getPayload(), FeedOutboxPayload.class);
+		} catch (JsonProcessingException e) {
+			throw new KieroException(OutboxErrorCode.PAYLOAD_CONVERT_FAILED);
+		}
+	}
+}
@@ -13,6 +13,8 @@ import com.kiero.feed.presentation.dto.FeedGetResponse;
 import com.kiero.feed.service.FeedService;
 import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
 import com.kiero.global.response.dto.SuccessResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ public class FeedController {
 	private final FeedService feedService;
 
     @PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+	@ConditionalGet(value = ResourceVersionScope.FEED, childIdParam = "childId", skipIfPresent = "cursor")
 	@GetMapping("/{childId}")
 	public ResponseEntity<SuccessResponse<FeedGetResponse>> getFeed(
 		@PathVariable("childId") Long childId,
@@ -0,0 +1,44 @@
+package com.kiero.feed.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kiero.feed.domain.FeedItemArchive;
+import com.kiero.feed.repository.dto.FeedItemRow;
+
+@Repository
+public interface FeedItemArchiveRepository extends JpaRepository<FeedItemArchive, Long> {
+
+	@Query("""
+		select new com.kiero.feed.repository.dto.FeedItemRow(f.id, f.eventType, f.occurredAt, f.metadata)
+		from FeedItemArchive f
+		where f.childId = :childId
+		and (:since is null or f.occurredAt >= :since)
+		and (
+			:cursorOccurredAt is null
+			or f.occurredAt < :cursorOccurredAt
+			or (f.occurredAt = :cursorOccurredAt and f.id < :cursorId)
+		)
+		order by f.occurredAt desc, f.id desc
+		""")
+	List<FeedItemRow> findFeedItemsByCursor(
+		@Param("childId") Long childId,
+		@Param("since") LocalDateTime since,
+		@Param("cursorOccurredAt") LocalDateTime cursorOccurredAt,
+		@Param("cursorId") Long cursorId,
+		Pageable pageable
+	);
+
+	/*
+	데모데이용 임시 메서드
+	 */
+	void deleteByChildIdIn(List<Long> childIds);
+	/*
+	 */
+}
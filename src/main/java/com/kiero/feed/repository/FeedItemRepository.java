@@ -10,15 +10,16 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kiero.feed.domain.FeedItem;
+import com.kiero.feed.repository.dto.FeedItemRow;
 
 @Repository
 public interface FeedItemRepository extends JpaRepository<FeedItem, Long> {
 
 	@Query("""
-		select f
+		select new com.kiero.feed.repository.dto.FeedItemRow(f.id, f.eventType, f.occurredAt, f.metadata)
 		from FeedItem f
-		where f.parent.id = :parentId
-		and f.child.id = :childId
+		where f.child.id = :childId
+	    and (:since is null or f.occurredAt >= :since)
 	    and (
 				:cursorOccurredAt is null
 				or f.occurredAt < :cursorOccurredAt
@@ -26,9 +27,9 @@ public interface FeedItemRepository extends JpaRepository<FeedItem, Long> {
 		  )
 		order by f.occurredAt desc, f.id desc
 """)
-	List<FeedItem> findFeedItemsByCursor(
-		@Param("parentId") Long parentId,
+	List<FeedItemRow> findFeedItemsByCursor(
 		@Param("childId") Long childId,
+		@Param("since") LocalDateTime since,
 		@Param("cursorOccurredAt") LocalDateTime cursorOccurredAt,
 		@Param("cursorId") Long cursorId,
 		Pageable pageable
@@ -0,0 +1,14 @@
+package com.kiero.feed.repository.dto;
+
+import java.time.LocalDateTime;
+
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.global.util.RawJson;
+
+public record FeedItemRow(
+	Long id,
+	EventType eventType,
+	LocalDateTime occurredAt,
+	RawJson metadata
+) {
+}
@@ -0,0 +1,74 @@
+package com.kiero.feed.scheduler;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kiero.feed.service.FeedItemPartitionManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+feed_item 파티션 유지 배치
+- 다음 FUTURE_MONTHS개월의 파티션을 미리 만들고, hot-months보다 오래된 월은 아카이브로 옮김
+- 마이그레이션은 적용 시점의 월 파티션만 만드므로, 기동 시에도 다음 달 파티션을 만듦
+- 여러 노드에서 동시에 DDL을 실행하지 않도록 분산 락을 잡은 노드만 실행함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedRetentionJob {
+
+	private static final String LOCK_KEY = "lock:feed-retention";
+	private static final int FUTURE_MONTHS = 2;
+
+	@Value("${feed.retention.hot-months:12}")
+	private int hotMonths;
+
+	private final FeedItemPartitionManager feedItemPartitionManager;
+	private final RedissonClient redissonClient;
+	private final Clock clock;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void ensurePartitionsOnStartup() {
+		runLocked(() -> feedItemPartitionManager.ensurePartitionsUntil(YearMonth.now(clock).plusMonths(FUTURE_MONTHS)));
+	}
+
+	@Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+	public void run() {
+		runLocked(() -> {
+			YearMonth thisMonth = YearMonth.now(clock);
+			feedItemPartitionManager.ensurePartitionsUntil(thisMonth.plusMonths(FUTURE_MONTHS));
+			feedItemPartitionManager.archiveBefore(thisMonth.minusMonths(hotMonths));
+		});
+	}
+
+	// 락을 잡지 못하면 다른 노드가 같은 작업을 하고 있으므로 건너뜀
+	private void runLocked(Runnable task) {
+		RLock lock = redissonClient.getLock(LOCK_KEY);
+		try {
+			if (!lock.tryLock(0, 30, TimeUnit.MINUTES)) {
+				return;
+			}
+
+			task.run();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			log.error("피드 파티션 유지 배치 실패", e);
+		} finally {
+			if (lock.isHeldByCurrentThread()) {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package com.kiero.feed.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
+import com.kiero.feed.repository.dto.FeedItemRow;
+import com.kiero.global.util.RawJson;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+아이 피드 첫 페이지 캐시 (Redis 리스트, 아이당 최신 CAPACITY개)
+- 항목은 직렬화된 JSON으로 최신순(occurredAt desc, id desc)으로 저장함
+- 피드 아이템이 만들어지면 커밋 후 리스트 앞에 붙이고 CAPACITY개로 자름 (리스트가 없으면 붙이지 않음)
+- 리스트가 없으면 DB에서 첫 CAPACITY개를 읽어 다시 만듦
+  피드가 비어 있으면 빈 표시(EMPTY_MARKER) 하나만 담아 두어, 아직 피드가 없는 아이의 폴링도 DB까지 가지 않음
+- 세대 카운터: 붙이기/비우기마다 올리고, 다시 만들 때는 DB 조회 전에 읽은 세대가 그대로일 때만 저장하여
+  조회 도중 추가된 항목이 빠진 리스트가 저장되지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedFirstPageCache {
+
+	public static final int CAPACITY = 50;
+
+	private static final String KEY_PREFIX = "feed-first-page:";
+	private static final String GENERATION_KEY_PREFIX = "feed-first-page-generation:";
+	private static final Duration TTL = Duration.ofDays(1);
+	private static final String METRIC_NAME = "kiero.feed.first-page";
+	// 빈 첫 페이지를 나타내는 항목 (항목은 JSON 객체이므로 겹치지 않음)
+	private static final String EMPTY_MARKER = "EMPTY";
+
+	// 새 항목이 맨 앞 항목보다 최신이면 붙이고, 아니면(재시도 등으로 순서가 어긋난 경우) 리스트를 비움
+	// 빈 표시만 있으면 새 항목 하나짜리 리스트로 바꿈
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('INCR', KEYS[2])
+		local head = redis.call('LINDEX', KEYS[1], 0)
+		if not head then
+			return 0
+		end
+		if head == ARGV[6] then
+			redis.call('DEL', KEYS[1])
+			redis.call('LPUSH', KEYS[1], ARGV[1])
+			redis.call('EXPIRE', KEYS[1], ARGV[5])
+			return 1
+		end
+		local h = cjson.decode(head)
+		local sortKey = tonumber(ARGV[2])
+		local id = tonumber(ARGV[3])
+		if h.sortKey > sortKey or (h.sortKey == sortKey and h.id >= id) then
+			redis.call('DEL', KEYS[1])
+			return -1
+		end
+		redis.call('LPUSH', KEYS[1], ARGV[1])
+		redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[4]) - 1)
+		redis.call('EXPIRE', KEYS[1], ARGV[5])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+		local generation = redis.call('GET', KEYS[2]) or '0'
+		if generation ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[1])
+		if #ARGV > 2 then
+			redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+			redis.call('EXPIRE', KEYS[1], ARGV[2])
+		end
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	/*
+	첫 페이지를 size + 1개까지 반환함 (다음 페이지 존재 여부 판단용)
+	캐시가 없거나 Redis 조회에 실패하면 null
+	 */
+	public List<Entry> get(Long childId, int size) {
+		try {
+			List<String> raw = stringRedisTemplate.opsForList().range(key(childId), 0, size);
+			if (raw == null || raw.isEmpty()) {
+				count("miss");
+				return null;
+			}
+			if (raw.size() == 1 && EMPTY_MARKER.equals(raw.get(0))) {
+				count("hit");
+				return List.of();
+			}
+
+			List<Entry> entries = new ArrayList<>(raw.size());
+			for (String json : raw) {
+				entries.add(objectMapper.readValue(json, Entry.class));
+			}
+			count("hit");
+			return entries;
+		} catch (Exception e) {
+			log.warn("피드 첫 페이지 캐시 조회 실패: childId={}", childId, e);
+			count("error");
+			return null;
+		}
+	}
+
+	// DB 조회 전에 읽어 두고 put에 넘기는 세대 값 (Redis 조회에 실패하면 null)
+	public String stamp(Long childId) {
+		try {
+			String generation = stringRedisTemplate.opsForValue().get(generationKey(childId));
+			return generation == null ? "0" : generation;
+		} catch (Exception e) {
+			log.warn("피드 첫 페이지 캐시 세대 조회 실패: childId={}", childId, e);
+			return null;
+		}
+	}
+
+	// DB에서 읽은 최신 CAPACITY개로 리스트를 다시 만듦 (stamp 이후 세대가 바뀌었으면 저장하지 않음)
+	// 비어 있으면 빈 표시를 저장하며, 세대 비교는 같음
+	public void put(Long childId, String stamp, List<Entry> entries) {
+		if (stamp == null) {
+			return;
+		}
+
+		try {
+			List<String> args = new ArrayList<>(entries.size() + 2);
+			args.add(stamp);
+			args.add(String.valueOf(TTL.toSeconds()));
+			if (entries.isEmpty()) {
+				args.add(EMPTY_MARKER);
+			}
+			for (Entry entry : entries) {
+				args.add(objectMapper.writeValueAsString(entry));
+			}
+			stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(key(childId), generationKey(childId)), args.toArray());
+		} catch (Exception e) {
+			log.warn("피드 첫 페이지 캐시 저장 실패: childId={}", childId, e);
+		}
+	}
+
+	public void append(FeedItemInfo item) {
+		Entry entry = new Entry(item.feedItemId(), sortKey(item.occurredAt()), item.eventType(), item.occurredAt(),
+			item.metadata());
+		try {
+			stringRedisTemplate.execute(
+				APPEND_SCRIPT,
+				List.of(key(item.childId()), generationKey(item.childId())),
+				objectMapper.writeValueAsString(entry),
+				String.valueOf(entry.sortKey()),
+				String.valueOf(entry.id()),
+				String.valueOf(CAPACITY),
+				String.valueOf(TTL.toSeconds()),
+				EMPTY_MARKER
+			);
+		} catch (Exception e) {
+			// 붙이지 못했으면 리스트가 오래된 상태로 남지 않도록 비움
+			log.warn("피드 첫 페이지 캐시 추가 실패: childId={}, feedItemId={}", item.childId(), item.feedItemId(), e);
+			evict(item.childId());
+		}
+	}
+
+	/*
+	현재 트랜잭션이 커밋된 후에 캐시를 비움 (트랜잭션이 없으면 즉시)
+	 */
+	public void evictAfterCommit(Long childId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(childId);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(childId);
+			}
+		});
+	}
+
+	private void evict(Long childId) {
+		try {
+			stringRedisTemplate.opsForValue().increment(generationKey(childId));
+			stringRedisTemplate.delete(key(childId));
+		} catch (Exception e) {
+			log.warn("피드 첫 페이지 캐시 삭제 실패: childId={}", childId, e);
+		}
+	}
+
+	private void count(String result) {
+		meterRegistry.counter(METRIC_NAME, "result", result).increment();
+	}
+
+	private String key(Long childId) {
+		return KEY_PREFIX + childId;
+	}
+
+	private String generationKey(Long childId) {
+		return GENERATION_KEY_PREFIX + childId;
+	}
+
+	// (occurredAt, id) 정렬을 Lua에서 비교하기 위한 마이크로초 단위 값
+	private static long sortKey(LocalDateTime occurredAt) {
+		return occurredAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + occurredAt.getNano() / 1_000;
+	}
+
+	public record Entry(
+		Long id,
+		long sortKey,
+		EventType eventType,
+		LocalDateTime occurredAt,
+		RawJson metadata
+	) {
+		public static Entry from(FeedItemRow row) {
+			return new Entry(row.id(), sortKey(row.occurredAt()), row.eventType(), row.occurredAt(), row.metadata());
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.kiero.feed.service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+feed_item의 월별 파티션 관리
+- p{yyyyMM} 파티션은 해당 월의 행을 담고, 마지막의 p_future(MAXVALUE)를 나누어 다음 달 파티션을 미리 만듦
+- 보관 기간이 지난 월의 파티션은 feed_item_archive(압축 테이블)로 옮긴 뒤 DROP PARTITION으로 지움
+  (옮기기는 insert ignore이므로 옮긴 뒤 지우기 전에 실패해도 다음 실행에서 다시 처리됨)
+- 파티션 DDL은 암묵적으로 커밋되므로 트랜잭션 밖에서 JdbcTemplate으로 실행함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedItemPartitionManager {
+
+	private static final String FUTURE_PARTITION = "p_future";
+	private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private static final String SELECT_PARTITIONS = """
+		select partition_name, data_length + index_length
+		from information_schema.partitions
+		where table_schema = database()
+		  and table_name = 'feed_item'
+		  and partition_name is not null
+		order by partition_ordinal_position
+		""";
+
+	private static final String ARCHIVE_PARTITION = """
+		insert ignore into feed_item_archive (id, created_at, occurred_at, event_type, metadata, child_id)
+		select id, created_at, occurred_at, event_type, metadata, child_id
+		from feed_item partition (%s)
+		""";
+
+	private static final String METRIC_ROWS_MOVED = "kiero.feed.retention.rows.moved";
+	private static final String METRIC_BYTES_RECLAIMED = "kiero.feed.retention.bytes.reclaimed";
+	private static final String METRIC_PARTITIONS_DROPPED = "kiero.feed.retention.partitions.dropped";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+
+	/*
+	until(포함)까지의 월 파티션이 있도록 p_future를 나눔
+	 */
+	public void ensurePartitionsUntil(YearMonth until) {
+		YearMonth last = findPartitions().stream()
+			.map(Partition::month)
+			.filter(Objects::nonNull)
+			.reduce((first, second) -> second)
+			.orElse(null);
+		if (last == null) {
+			log.warn("feed_item에 월 파티션이 없어 다음 달 파티션을 만들지 않습니다.");
+			return;
+		}
+
+		while (last.isBefore(until)) {
+			last = last.plusMonths(1);
+			jdbcTemplate.execute("""
+				alter table feed_item reorganize partition %s into (
+					partition %s values less than ('%s'),
+					partition %s values less than (maxvalue)
+				)
+				""".formatted(FUTURE_PARTITION, partitionName(last), last.plusMonths(1).atDay(1), FUTURE_PARTITION));
+			log.info("feed_item 파티션 추가: {}", partitionName(last));
+		}
+	}
+
+	/*
+	before보다 이전 월의 파티션을 아카이브로 옮기고 지움
+	 */
+	public void archiveBefore(YearMonth before) {
+		for (Partition partition : findPartitions()) {
+			if (partition.month() == null || !partition.month().isBefore(before)) {
+				continue;
+			}
+
+			int moved = jdbcTemplate.update(ARCHIVE_PARTITION.formatted(partition.name()));
+			jdbcTemplate.execute("alter table feed_item drop partition " + partition.name());
+
+			// information_schema의 크기는 통계 기반의 추정치임
+			meterRegistry.counter(METRIC_ROWS_MOVED).increment(moved);
+			meterRegistry.counter(METRIC_BYTES_RECLAIMED).increment(partition.bytes());
+			meterRegistry.counter(METRIC_PARTITIONS_DROPPED).increment();
+			log.info("feed_item 파티션 보관 처리: partition={}, rows={}, bytes={}",
+				partition.name(), moved, partition.bytes());
+		}
+	}
+
+	private List<Partition> findPartitions() {
+		return jdbcTemplate.query(SELECT_PARTITIONS, (rs, rowNum) -> {
+			String name = rs.getString(1);
+			return new Partition(name, monthOf(name), rs.getLong(2));
+		});
+	}
+
+	// p_future처럼 월 파티션이 아니면 null
+	private static YearMonth monthOf(String partitionName) {
+		if (FUTURE_PARTITION.equals(partitionName)) {
+			return null;
+		}
+		return YearMonth.parse(partitionName.substring(1), PARTITION_MONTH);
+	}
+
+	private static String partitionName(YearMonth month) {
+		return "p" + month.format(PARTITION_MONTH);
+	}
+
+	private record Partition(String name, YearMonth month, long bytes) {
+	}
+}
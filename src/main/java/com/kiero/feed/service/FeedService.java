@@ -3,6 +3,7 @@ package com.kiero.feed.service;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.core.io.Resource;
@@ -14,11 +15,12 @@ import org.springframework.transaction.annotation.Transactional;
 import com.kiero.child.domain.Child;
 import com.kiero.child.exception.ChildErrorCode;
 import com.kiero.child.repository.ChildRepository;
-import com.kiero.feed.domain.FeedItem;
 import com.kiero.feed.presentation.dto.FeedCursor;
 import com.kiero.feed.presentation.dto.FeedGetResponse;
 import com.kiero.feed.presentation.dto.FeedItemDto;
+import com.kiero.feed.repository.FeedItemArchiveRepository;
 import com.kiero.feed.repository.FeedItemRepository;
+import com.kiero.feed.repository.dto.FeedItemRow;
 import com.kiero.global.exception.KieroException;
 import com.kiero.parent.exception.ParentErrorCode;
 import com.kiero.parent.repository.ParentChildRepository;
@@ -34,8 +36,10 @@ import lombok.extern.slf4j.Slf4j;
 public class FeedService {
 
 	private final FeedItemRepository feedItemRepository;
+	private final FeedItemArchiveRepository feedItemArchiveRepository;
 	private final ParentChildRepository parentChildRepository;
 	private final ChildRepository childRepository;
+	private final FeedFirstPageCache feedFirstPageCache;
 
 	private final EntityManager em;
 	private final ResourceLoader resourceLoader;
@@ -46,20 +50,21 @@ public class FeedService {
 		Child child = childRepository.findById(childId)
 			.orElseThrow(() -> new KieroException(ChildErrorCode.CHILD_NOT_FOUND));
 
-		isParentChildValid(parentId, childId);
+		// 피드는 아이 단위로 저장되므로, 부모가 볼 수 있는지는 ParentChild 관계로 판단함
+		// 아이 단위로 합치기 전과 같이, 부모는 아이와 연결된 이후에 발생한 항목만 봄
+		LocalDateTime linkedAt = findLinkedAt(parentId, childId);
 
 		FeedCursor feedCursor = FeedCursor.parse(cursor);
 
+		// 커서 없는 첫 페이지는 Redis 캐시에서 응답함
+		if (feedCursor == null && size < FeedFirstPageCache.CAPACITY) {
+			return getFirstPage(child, childId, linkedAt, size);
+		}
+
 		LocalDateTime cursorOccurredAt = (feedCursor == null ? null : feedCursor.occurredAt());
 		Long cursorId = (feedCursor == null ? null : feedCursor.id());
 
-		List<FeedItem> feedItems = feedItemRepository.findFeedItemsByCursor(
-			parentId,
-			childId,
-			cursorOccurredAt,
-			cursorId,
-			PageRequest.of(0, size + 1)
-		);
+		List<FeedItemRow> feedItems = findFeedItems(childId, linkedAt, cursorOccurredAt, cursorId, size + 1);
 
 		boolean hasNext = feedItems.size() > size;
 		if (hasNext)
@@ -71,17 +76,86 @@ public class FeedService {
 
 		String nextCursor = null;
 		if (hasNext && !feedItems.isEmpty()) {
-			FeedItem lastFeedItem = feedItems.get(feedItems.size() - 1);
-			nextCursor = new FeedCursor(lastFeedItem.getOccurredAt(), lastFeedItem.getId()).toCursorString();
+			FeedItemRow lastFeedItem = feedItems.get(feedItems.size() - 1);
+			nextCursor = new FeedCursor(lastFeedItem.occurredAt(), lastFeedItem.id()).toCursorString();
 		}
 
 		return new FeedGetResponse(child.getFirstName(), items, nextCursor);
 	}
 
-	public void isParentChildValid(Long parentId, Long childId) {
-		boolean parentChildExists = parentChildRepository.existsByParentIdAndChildId(parentId, childId);
-		if (!parentChildExists)
-			throw new KieroException(ParentErrorCode.NOT_ALLOWED_TO_CHILD);
+	/*
+	캐시는 아이 단위로 모든 부모가 함께 쓰므로 연결 시각과 상관없이 만들고, 응답할 때 연결 이전 항목을 뺌
+	항목이 최신순이므로 빠진 항목 뒤에는 볼 수 있는 항목이 없음
+	 */
+	private FeedGetResponse getFirstPage(Child child, Long childId, LocalDateTime linkedAt, int size) {
+		List<FeedFirstPageCache.Entry> entries = feedFirstPageCache.get(childId, size);
+		if (entries == null) {
+			String stamp = feedFirstPageCache.stamp(childId);
+			entries = findFeedItems(childId, null, null, null, FeedFirstPageCache.CAPACITY).stream()
+				.map(FeedFirstPageCache.Entry::from)
+				.toList();
+			feedFirstPageCache.put(childId, stamp, entries);
+		}
+		entries = entries.stream()
+			.filter(entry -> !entry.occurredAt().isBefore(linkedAt))
+			.toList();
+
+		boolean hasNext = entries.size() > size;
+		if (hasNext)
+			entries = entries.subList(0, size);
+
+		List<FeedItemDto> items = entries.stream()
+			.map(entry -> new FeedItemDto(entry.eventType(), entry.occurredAt(), entry.metadata()))
+			.toList();
+
+		String nextCursor = null;
+		if (hasNext && !entries.isEmpty()) {
+			FeedFirstPageCache.Entry lastEntry = entries.get(entries.size() - 1);
+			nextCursor = new FeedCursor(lastEntry.occurredAt(), lastEntry.id()).toCursorString();
+		}
+
+		return new FeedGetResponse(child.getFirstName(), items, nextCursor);
+	}
+
+	/*
+	커서 이후의 피드 아이템을 limit개까지 조회함 (since가 있으면 그 시각 이후에 발생한 항목만)
+	feed_item에서 모자라면 이어서 아카이브에서 읽음 (아카이브에는 feed_item보다 오래된 월만 있으므로 순서가 이어짐)
+	 */
+	private List<FeedItemRow> findFeedItems(Long childId, LocalDateTime since, LocalDateTime cursorOccurredAt,
+		Long cursorId, int limit) {
+		List<FeedItemRow> feedItems = feedItemRepository.findFeedItemsByCursor(
+			childId,
+			since,
+			cursorOccurredAt,
+			cursorId,
+			PageRequest.of(0, limit)
+		);
+		if (feedItems.size() >= limit) {
+			return feedItems;
+		}
+
+		FeedItemRow last = feedItems.isEmpty() ? null : feedItems.get(feedItems.size() - 1);
+		List<FeedItemRow> archived = feedItemArchiveRepository.findFeedItemsByCursor(
+			childId,
+			since,
+			last == null ? cursorOccurredAt : last.occurredAt(),
+			last == null ? cursorId : last.id(),
+			PageRequest.of(0, limit - feedItems.size())
+		);
+		if (archived.isEmpty()) {
+			return feedItems;
+		}
+
+		List<FeedItemRow> merged = new ArrayList<>(feedItems.size() + archived.size());
+		merged.addAll(feedItems);
+		merged.addAll(archived);
+		return merged;
+	}
+
+	// 부모-아이 연결 시각 (연결되지 않았으면 예외)
+	private LocalDateTime findLinkedAt(Long parentId, Long childId) {
+		return parentChildRepository.findLinkedAt(parentId, childId)
+			.orElseThrow(() -> new KieroException(ParentErrorCode.NOT_ALLOWED_TO_CHILD));
 	}
 
 	/*
@@ -90,6 +164,8 @@ public class FeedService {
 	@Transactional
 	public void deleteFeedsByChildIds(List<Long> childIds) {
 		feedItemRepository.deleteByChildIdIn(childIds);
+		feedItemArchiveRepository.deleteByChildIdIn(childIds);
+		childIds.forEach(feedFirstPageCache::evictAfterCommit);
 	}
 	/*
 	 */
@@ -98,17 +174,14 @@ public class FeedService {
 	솝트 데모데이 때 더미데이터를 넣기 위한 메서드
 	 */
 	@Transactional
-	public void insertDummy(List<Long> parentIds, Long childId) {
+	public void insertDummy(Long childId) {
 		String sqlPath = "sql/demo_feed_item_insert_dummy.sql";
 		String sql = loadSql(sqlPath);
 
 		Query q = em.createNativeQuery(sql);
-
-		for (Long parentId : parentIds) {
-			q.setParameter("parentId", parentId);
-			q.setParameter("childId", childId);
-			q.executeUpdate();
-		}
+		q.setParameter("childId", childId);
+		q.executeUpdate();
+		feedFirstPageCache.evictAfterCommit(childId);
 	}
 
 	private String loadSql(String path) {
@@ -122,11 +195,11 @@ public class FeedService {
 	/*
 	 */
 
-	private FeedItemDto toItemDto(FeedItem feedItem) {
+	private FeedItemDto toItemDto(FeedItemRow feedItem) {
 		return new FeedItemDto(
-			feedItem.getEventType(),
-			feedItem.getOccurredAt(),
-			feedItem.getMetadata()
+			feedItem.eventType(),
+			feedItem.occurredAt(),
+			feedItem.metadata()
 		);
 	}
 }
@@ -12,6 +12,7 @@ import com.kiero.child.service.ChildService;
 import com.kiero.feed.service.FeedService;
 import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
+import com.kiero.global.infrastructure.etag.service.ResourceVersionService;
 import com.kiero.mission.service.MissionService;
 import com.kiero.parent.service.ParentService;
 import com.kiero.schedule.service.ScheduleService;
@@ -30,6 +31,7 @@ public class DummyDataInsertController {
 	private final ParentService parentService;
 	private final FeedService feedService;
 	private final ChildService childService;
+	private final ResourceVersionService resourceVersionService;
 
 	// 아이의 '여정 시작하기'버튼 클릭 시 추가로 호출되는 api
 	@PostMapping()
@@ -41,8 +43,9 @@ public class DummyDataInsertController {
 		log.info("parentId = {}의 더미데이터 처리를 시작합니다. (ง •̀ω•́)ง✧", childId);
 
 		missionService.insertDummy(parentIds, childId);
-		feedService.insertDummy(parentIds, childId);
+		feedService.insertDummy(childId);
 		scheduleService.insertDummy(parentIds, childId);
+		resourceVersionService.bumpAllOfChild(childId);
 
 		return ResponseEntity.ok()
 			.body(null);
@@ -63,6 +66,7 @@ public class DummyDataInsertController {
 		parentService.deleteParentChildByChildIds(childIds);
 
 		childService.deleteChildByIds(childIds);
+		childIds.forEach(resourceVersionService::bumpAllOfChild);
 
 		return ResponseEntity.ok()
 			.body(null);
@@ -42,7 +42,8 @@ public class SecurityConfig {
 					"/api/v1/parents/login/access-token",
 					"/api/v1/children/signup",
 					"/api/v1/tokens/reissue/*",
-					"/api/v1/tokens/subscribe-token"
+					"/api/v1/tokens/subscribe-token",
+					"/api/v1/subscribe/sessions/*/renew"
 				).permitAll()
 
 				.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
@@ -6,8 +6,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.kiero.global.infrastructure.etag.interceptor.ConditionalGetInterceptor;
 import com.kiero.global.resolver.CurrentMemberArgumentResolver;
 
 import lombok.RequiredArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class WebConfig implements WebMvcConfigurer {
 
 	private final CurrentMemberArgumentResolver currentMemberArgumentResolver;
+	private final ConditionalGetInterceptor conditionalGetInterceptor;
 
 	@Value("${cors.allowed-origins}")
 	private String[] allowedOrigins;
@@ -26,6 +29,12 @@ public class WebConfig implements WebMvcConfigurer {
 		resolvers.add(currentMemberArgumentResolver);
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(conditionalGetInterceptor)
+			.addPathPatterns("/api/**");
+	}
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/**")
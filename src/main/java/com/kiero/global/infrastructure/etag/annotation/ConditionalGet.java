@@ -0,0 +1,26 @@
+package com.kiero.global.infrastructure.etag.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
+
+/*
+버전 카운터 기반 ETag를 붙이고, If-None-Match가 일치하면 컨트롤러를 거치지 않고 304로 응답함
+- childIdParam: 아이 id를 담은 path variable 또는 request param 이름 (없으면 로그인한 아이의 id를 사용)
+- skipIfPresent: 이 파라미터가 있으면 조건부 응답을 하지 않음 (ex. 피드의 두 번째 페이지 이후)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+	ResourceVersionScope value();
+
+	String childIdParam() default "";
+
+	String[] skipIfPresent() default {};
+}
@@ -0,0 +1,20 @@
+package com.kiero.global.infrastructure.etag.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ResourceVersionScope {
+
+	// 아이 단위
+	SCHEDULE("schedule", true),
+	MISSION("mission", true),
+	FEED("feed", true),
+
+	// 전체 공통
+	COUPON_CATALOG("coupon-catalog", false);
+
+	private final String key;
+	private final boolean childScoped;
+}
@@ -0,0 +1,56 @@
+package com.kiero.global.infrastructure.etag.handler;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent;
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
+import com.kiero.global.infrastructure.etag.service.ResourceVersionService;
+import com.kiero.mission.presentation.dto.MissionCompleteEvent;
+import com.kiero.mission.presentation.dto.MissionCreatedEvent;
+import com.kiero.schedule.presentation.dto.FireLitEvent;
+import com.kiero.schedule.presentation.dto.ScheduleCreatedEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+도메인 이벤트가 커밋된 후 해당 리소스의 버전을 올림
+- 피드는 피드 아이템이 실제로 만들어진 경우(미션 완료, 쿠폰 구매, 일정 완료, 불 돌 사용)에만 바뀌므로 FeedItemsCreatedEvent로 처리함
+ */
+@Component
+@RequiredArgsConstructor
+public class ResourceVersionEventHandler {
+
+	private final ResourceVersionService resourceVersionService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(ScheduleCreatedEvent event) {
+		resourceVersionService.bump(ResourceVersionScope.SCHEDULE, event.childId());
+	}
+
+	// 일정 탭의 불 돌 사용 여부가 바뀜
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(FireLitEvent event) {
+		resourceVersionService.bump(ResourceVersionScope.SCHEDULE, event.childId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(MissionCreatedEvent event) {
+		resourceVersionService.bump(ResourceVersionScope.MISSION, event.childId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(MissionCompleteEvent event) {
+		resourceVersionService.bump(ResourceVersionScope.MISSION, event.childId());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handle(FeedItemsCreatedEvent event) {
+		event.items().stream()
+			.map(FeedItemInfo::childId)
+			.distinct()
+			.forEach(childId -> resourceVersionService.bump(ResourceVersionScope.FEED, childId));
+	}
+}
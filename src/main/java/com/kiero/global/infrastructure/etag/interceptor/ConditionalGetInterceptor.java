@@ -0,0 +1,133 @@
+package com.kiero.global.infrastructure.etag.interceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.kiero.global.auth.enums.Role;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
+import com.kiero.global.infrastructure.etag.service.ResourceVersionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/*
+@ConditionalGet이 붙은 GET 요청에 버전 카운터 기반의 ETag를 붙이고, If-None-Match가 일치하면 304로 응답함
+- ETag = hash(리소스 버전, 요청자, URI + query, 오늘 날짜)
+  - 요청자를 포함하므로 다른 사용자가 받은 ETag로는 304를 받을 수 없음
+  - 오늘 날짜를 포함하므로, 날짜에 따라 달라지는 응답(오늘 이후 미션, 오늘 불 돌 사용 여부 등)은 자정이 지나면 다시 조회됨
+- 304 응답에는 본문이 없으며, 200 응답을 받은 적이 있는 요청자만 일치하는 ETag를 가짐
+- 응답을 만들기 전에 버전을 읽으므로, 조회 중 쓰기가 커밋되어도 이전 버전의 ETag에 새 응답이 붙을 뿐(다음 요청에서 다시 조회) 오래된 응답이 새 ETag를 갖지는 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+	private final ResourceVersionService resourceVersionService;
+	private final Clock clock;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod handlerMethod) || !"GET".equals(request.getMethod())) {
+			return true;
+		}
+
+		ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+		if (conditionalGet == null || hasAnyParameter(request, conditionalGet.skipIfPresent())) {
+			return true;
+		}
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return true;
+		}
+
+		ResourceVersionScope scope = conditionalGet.value();
+		Long childId = null;
+		if (scope.isChildScoped()) {
+			childId = resolveChildId(request, conditionalGet.childIdParam(), authentication);
+			// 여러 아이에 걸친 조회(ex. 부모의 전체 자녀 미션)는 하나의 버전으로 나타낼 수 없으므로 그대로 조회함
+			if (childId == null) {
+				return true;
+			}
+		}
+
+		Long version = resourceVersionService.currentVersion(scope, childId);
+		if (version == null) {
+			return true;
+		}
+
+		String etag = etag(request, authentication, scope, childId, version);
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
+	/*
+	아이는 자기 자신의 리소스만 조회하므로 요청 파라미터와 상관없이 인증된 아이 id를 사용함
+	(파라미터를 믿으면 다른 아이의 id로 그 아이의 버전을 담은 ETag를 받고, 이후 자기 응답이 바뀌어도 304를 받을 수 있음)
+	childIdParam은 부모/관리자 요청에만 사용함
+	 */
+	private Long resolveChildId(HttpServletRequest request, String childIdParam, Authentication authentication) {
+		if (hasRole(authentication, Role.CHILD)) {
+			return Long.valueOf(authentication.getPrincipal().toString());
+		}
+
+		if (!childIdParam.isEmpty()) {
+			String value = pathVariable(request, childIdParam);
+			if (value == null) {
+				value = request.getParameter(childIdParam);
+			}
+			if (value != null) {
+				try {
+					return Long.valueOf(value);
+				} catch (NumberFormatException e) {
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String pathVariable(HttpServletRequest request, String name) {
+		Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		return variables instanceof Map<?, ?> map ? ((Map<String, String>)map).get(name) : null;
+	}
+
+	private boolean hasAnyParameter(HttpServletRequest request, String[] names) {
+		return Arrays.stream(names).anyMatch(name -> request.getParameter(name) != null);
+	}
+
+	private boolean hasRole(Authentication authentication, Role role) {
+		return authentication.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.anyMatch(role.getRoleName()::equals);
+	}
+
+	private String etag(HttpServletRequest request, Authentication authentication, ResourceVersionScope scope,
+		Long childId, long version) {
+		String source = String.join("|",
+			scope.getKey(),
+			String.valueOf(childId),
+			String.valueOf(version),
+			authentication.getName(),
+			authentication.getAuthorities().toString(),
+			request.getRequestURI(),
+			String.valueOf(request.getQueryString()),
+			LocalDate.now(clock).toString());
+		return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+}
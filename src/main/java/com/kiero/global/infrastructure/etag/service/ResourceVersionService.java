@@ -0,0 +1,57 @@
+package com.kiero.global.infrastructure.etag.service;
+
+import java.util.Arrays;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+리소스별 버전 카운터 (Redis INCR)
+- 값이 바뀌는 쓰기가 커밋된 뒤에 올리며, 키가 없으면 0으로 봄
+- 조회에 실패하면 null을 반환하고, 호출하는 쪽은 조건부 응답을 하지 않고 그대로 조회하도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+	private static final String KEY_PREFIX = "resource-version:";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public Long currentVersion(ResourceVersionScope scope, Long childId) {
+		try {
+			String version = stringRedisTemplate.opsForValue().get(key(scope, childId));
+			return version == null ? 0L : Long.parseLong(version);
+		} catch (Exception e) {
+			log.warn("리소스 버전 조회 실패: scope={}, childId={}", scope, childId, e);
+			return null;
+		}
+	}
+
+	public void bump(ResourceVersionScope scope, Long childId) {
+		try {
+			stringRedisTemplate.opsForValue().increment(key(scope, childId));
+		} catch (Exception e) {
+			log.warn("리소스 버전 증가 실패: scope={}, childId={}", scope, childId, e);
+		}
+	}
+
+	// 아이 단위의 모든 리소스 버전을 올림 (더미 데이터 생성/삭제처럼 여러 도메인을 한 번에 바꾸는 경우)
+	public void bumpAllOfChild(Long childId) {
+		Arrays.stream(ResourceVersionScope.values())
+			.filter(ResourceVersionScope::isChildScoped)
+			.forEach(scope -> bump(scope, childId));
+	}
+
+	private String key(ResourceVersionScope scope, Long childId) {
+		return scope.isChildScoped()
+			? KEY_PREFIX + scope.getKey() + ":" + childId
+			: KEY_PREFIX + scope.getKey();
+	}
+}
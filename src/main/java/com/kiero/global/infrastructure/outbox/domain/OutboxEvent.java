@@ -0,0 +1,99 @@
+package com.kiero.global.infrastructure.outbox.domain;
+
+import java.time.LocalDateTime;
+
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxStatus;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+비즈니스 변경과 같은 트랜잭션에 기록되는 도메인 이벤트
+- 릴레이(OutboxRelay)가 PENDING 이벤트를 가져가 처리하고 PUBLISHED로 바꿈
+- nextAttemptAt은 재시도 시각이자, 릴레이가 가져간 동안의 임대 만료 시각으로도 쓰임
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = OutboxEventTableConstants.TABLE_OUTBOX_EVENT)
+public class OutboxEvent {
+
+	private static final int LAST_ERROR_MAX_LENGTH = 500;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = OutboxEventTableConstants.COLUMN_ID)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = OutboxEventTableConstants.COLUMN_TOPIC, nullable = false)
+	private OutboxTopic topic;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_CHILD_ID, nullable = false)
+	private Long childId;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_PAYLOAD, columnDefinition = "json", nullable = false)
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = OutboxEventTableConstants.COLUMN_STATUS, nullable = false)
+	private OutboxStatus status;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_ATTEMPTS, nullable = false)
+	private int attempts;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_NEXT_ATTEMPT_AT, nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_LAST_ERROR, length = LAST_ERROR_MAX_LENGTH)
+	private String lastError;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_CREATED_AT, nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = OutboxEventTableConstants.COLUMN_PUBLISHED_AT)
+	private LocalDateTime publishedAt;
+
+	public static OutboxEvent create(OutboxTopic topic, Long childId, String payload, LocalDateTime now) {
+		return OutboxEvent.builder()
+			.topic(topic)
+			.childId(childId)
+			.payload(payload)
+			.status(OutboxStatus.PENDING)
+			.attempts(0)
+			.nextAttemptAt(now)
+			.createdAt(now)
+			.build();
+	}
+
+	public void markPublished(LocalDateTime now) {
+		this.status = OutboxStatus.PUBLISHED;
+		this.publishedAt = now;
+		this.lastError = null;
+	}
+
+	// 최대 시도 횟수를 넘으면 FAILED로 두고 더 이상 가져가지 않음
+	public void markRetry(LocalDateTime nextAttemptAt, String error, int maxAttempts) {
+		this.nextAttemptAt = nextAttemptAt;
+		this.lastError = (error != null && error.length() > LAST_ERROR_MAX_LENGTH)
+			? error.substring(0, LAST_ERROR_MAX_LENGTH)
+			: error;
+		if (attempts >= maxAttempts) {
+			this.status = OutboxStatus.FAILED;
+		}
+	}
+}
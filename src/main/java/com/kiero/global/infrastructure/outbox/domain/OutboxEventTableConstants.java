@@ -0,0 +1,15 @@
+package com.kiero.global.infrastructure.outbox.domain;
+
+public class OutboxEventTableConstants {
+	public static final String TABLE_OUTBOX_EVENT = "outbox_event";
+	public static final String COLUMN_ID = "id";
+	public static final String COLUMN_TOPIC = "topic";
+	public static final String COLUMN_CHILD_ID = "child_id";
+	public static final String COLUMN_PAYLOAD = "payload";
+	public static final String COLUMN_STATUS = "status";
+	public static final String COLUMN_ATTEMPTS = "attempts";
+	public static final String COLUMN_NEXT_ATTEMPT_AT = "next_attempt_at";
+	public static final String COLUMN_LAST_ERROR = "last_error";
+	public static final String COLUMN_CREATED_AT = "created_at";
+	public static final String COLUMN_PUBLISHED_AT = "published_at";
+}
@@ -0,0 +1,7 @@
+package com.kiero.global.infrastructure.outbox.domain.enums;
+
+public enum OutboxStatus {
+	PENDING,
+	PUBLISHED,
+	FAILED
+}
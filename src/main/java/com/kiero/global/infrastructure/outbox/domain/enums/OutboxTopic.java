@@ -0,0 +1,5 @@
+package com.kiero.global.infrastructure.outbox.domain.enums;
+
+public enum OutboxTopic {
+	FEED_ITEM
+}
@@ -0,0 +1,21 @@
+package com.kiero.global.infrastructure.outbox.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.kiero.global.response.base.BaseCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxErrorCode implements BaseCode {
+	/*
+	500 INTERNAL SERVER ERROR
+	 */
+	PAYLOAD_CONVERT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "아웃박스 이벤트 변환 과정이 실패하였습니다."),
+	;
+
+	private final HttpStatus httpStatus;
+	private final String message;
+}
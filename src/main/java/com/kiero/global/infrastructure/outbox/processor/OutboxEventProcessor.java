@@ -0,0 +1,15 @@
+package com.kiero.global.infrastructure.outbox.processor;
+
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+
+/*
+토픽별 아웃박스 이벤트 처리기
+릴레이의 트랜잭션 안에서 호출되며, 예외를 던지면 해당 이벤트는 롤백된 뒤 백오프 후 재시도됨
+ */
+public interface OutboxEventProcessor {
+
+	OutboxTopic topic();
+
+	void process(OutboxEvent event);
+}
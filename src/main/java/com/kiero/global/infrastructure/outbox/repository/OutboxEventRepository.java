@@ -0,0 +1,77 @@
+package com.kiero.global.infrastructure.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/*
+	처리할 차례가 된 PENDING 이벤트의 id를 가져옴
+	다른 노드의 릴레이가 잠근 행은 건너뛰므로(SKIP LOCKED), 여러 노드가 동시에 돌아도 서로 기다리지 않음
+	 */
+	@Query(value = """
+		select o.id
+		from outbox_event o
+		where o.status = 'PENDING'
+		and o.next_attempt_at <= :now
+		order by o.id
+		limit :limit
+		for update skip locked
+		""", nativeQuery = true)
+	List<Long> findClaimableIdsForUpdate(
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	/*
+	가져간 이벤트의 임대 만료 시각을 leaseUntil로 미루고 시도 횟수를 올림
+	처리 중인 노드가 죽으면 임대가 만료된 뒤 다른 노드가 다시 가져감
+	 */
+	@Modifying
+	@Query("""
+		update OutboxEvent o
+		set o.nextAttemptAt = :leaseUntil,
+			o.attempts = o.attempts + 1
+		where o.id in :ids
+		""")
+	int lease(
+		@Param("ids") List<Long> ids,
+		@Param("leaseUntil") LocalDateTime leaseUntil
+	);
+
+	/*
+	처리할 이벤트를 잠가서 읽음
+	임대가 만료되어 두 노드가 같은 이벤트를 가져가도, 상태와 임대 시각 확인부터 PUBLISHED 커밋까지 한 노드만 진행함
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select o from OutboxEvent o where o.id = :id")
+	Optional<OutboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+	/*
+	처리가 끝난 지 오래된 이벤트를 지움 (한 번에 limit개씩)
+	 */
+	@Modifying
+	@Query(value = """
+		delete from outbox_event
+		where status = 'PUBLISHED'
+		and published_at < :before
+		limit :limit
+		""", nativeQuery = true)
+	int deletePublishedBefore(
+		@Param("before") LocalDateTime before,
+		@Param("limit") int limit
+	);
+}
@@ -0,0 +1,170 @@
+package com.kiero.global.infrastructure.outbox.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxStatus;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+import com.kiero.global.infrastructure.outbox.processor.OutboxEventProcessor;
+import com.kiero.global.infrastructure.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+아웃박스 이벤트를 비동기로 처리하는 릴레이
+- 한 번에 BATCH_SIZE개씩 SKIP LOCKED로 가져가 임대 시각을 기록하고 바로 커밋함 (가져가는 트랜잭션은 짧게 유지)
+- 이벤트마다 별도 트랜잭션에서 행을 잠그고(FOR UPDATE), 아직 PENDING이며 이 노드의 임대가 유지될 때만 처리기를 호출하고 PUBLISHED로 바꿈
+  배치가 임대 시간을 넘겨 다른 노드가 같은 이벤트를 다시 가져가도, 먼저 잠근 쪽만 처리하고 다른 쪽은 건너뜀
+- 실패하면 시도 횟수에 따라 지수 백오프 후 재시도하고, MAX_ATTEMPTS번 실패하면 FAILED로 둠
+- 처리 중 노드가 죽으면 임대가 만료된 뒤 다른 노드가 다시 가져가므로, 처리는 최소 한 번(at-least-once) 보장됨
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private static final long POLL_DELAY_MS = 200L;
+	private static final int BATCH_SIZE = 100;
+	// 한 배치를 처리하는 동안 다른 노드가 같은 이벤트를 가져가지 않도록 미뤄두는 시간
+	private static final Duration LEASE = Duration.ofSeconds(30);
+	private static final Duration BASE_BACKOFF = Duration.ofSeconds(1);
+	private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+	private static final int MAX_ATTEMPTS = 10;
+	private static final Duration RETENTION = Duration.ofDays(7);
+	private static final int PURGE_BATCH_SIZE = 1_000;
+	private static final String METRIC_NAME = "kiero.outbox.relay";
+	private static final String LAG_METRIC_NAME = "kiero.outbox.relay.lag";
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final Map<OutboxTopic, OutboxEventProcessor> processors = new EnumMap<>(OutboxTopic.class);
+
+	public OutboxRelay(
+		OutboxEventRepository outboxEventRepository,
+		TransactionTemplate transactionTemplate,
+		MeterRegistry meterRegistry,
+		Clock clock,
+		List<OutboxEventProcessor> processors
+	) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		processors.forEach(processor -> this.processors.put(processor.topic(), processor));
+	}
+
+	@Scheduled(fixedDelay = POLL_DELAY_MS)
+	public void relay() {
+		// 가득 찬 배치를 가져왔으면 밀린 이벤트가 더 있을 수 있으므로 바로 이어서 처리함
+		int claimed;
+		do {
+			claimed = relayBatch();
+		} while (claimed == BATCH_SIZE);
+	}
+
+	int relayBatch() {
+		LocalDateTime now = LocalDateTime.now(clock);
+		// DB(datetime(6))에 저장된 값과 그대로 비교할 수 있도록 마이크로초까지만 씀
+		LocalDateTime leaseUntil = now.plus(LEASE).truncatedTo(ChronoUnit.MICROS);
+		List<Long> ids;
+		try {
+			ids = transactionTemplate.execute(status -> claim(now, leaseUntil));
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 가져오기 실패", e);
+			return 0;
+		}
+
+		if (ids == null || ids.isEmpty()) {
+			return 0;
+		}
+		ids.forEach(id -> relayOne(id, leaseUntil));
+		return ids.size();
+	}
+
+	private List<Long> claim(LocalDateTime now, LocalDateTime leaseUntil) {
+		List<Long> ids = outboxEventRepository.findClaimableIdsForUpdate(now, BATCH_SIZE);
+		if (!ids.isEmpty()) {
+			outboxEventRepository.lease(ids, leaseUntil);
+		}
+		return ids;
+	}
+
+	private void relayOne(Long id, LocalDateTime leaseUntil) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findByIdForUpdate(id)
+				.filter(event -> isLeasedBy(event, leaseUntil))
+				.ifPresent(this::publish));
+		} catch (Exception e) {
+			log.warn("아웃박스 이벤트 처리 실패: id={}", id, e);
+			scheduleRetry(id, leaseUntil, e);
+		}
+	}
+
+	// 다른 노드가 임대 만료 후 다시 가져갔으면 임대 시각이 바뀌어 있으므로 이 노드는 손대지 않음
+	private boolean isLeasedBy(OutboxEvent event, LocalDateTime leaseUntil) {
+		return event.getStatus() == OutboxStatus.PENDING && leaseUntil.equals(event.getNextAttemptAt());
+	}
+
+	private void publish(OutboxEvent event) {
+		OutboxEventProcessor processor = processors.get(event.getTopic());
+		if (processor == null) {
+			throw new IllegalStateException("처리기가 없는 아웃박스 토픽입니다: " + event.getTopic());
+		}
+
+		processor.process(event);
+
+		LocalDateTime now = LocalDateTime.now(clock);
+		event.markPublished(now);
+		meterRegistry.counter(METRIC_NAME, "topic", event.getTopic().name(), "result", "published").increment();
+		meterRegistry.timer(LAG_METRIC_NAME, "topic", event.getTopic().name())
+			.record(Duration.between(event.getCreatedAt(), now));
+	}
+
+	private void scheduleRetry(Long id, LocalDateTime leaseUntil, Exception cause) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findByIdForUpdate(id)
+				.filter(event -> isLeasedBy(event, leaseUntil))
+				.ifPresent(event -> {
+					LocalDateTime nextAttemptAt = LocalDateTime.now(clock).plus(backoff(event.getAttempts()));
+					event.markRetry(nextAttemptAt, cause.toString(), MAX_ATTEMPTS);
+
+					String result = event.getStatus() == OutboxStatus.FAILED ? "failed" : "retry";
+					meterRegistry.counter(METRIC_NAME, "topic", event.getTopic().name(), "result", result)
+						.increment();
+				}));
+		} catch (Exception e) {
+			// 재시도 시각을 기록하지 못해도 임대가 만료되면 다시 가져가므로 로그만 남김
+			log.error("아웃박스 이벤트 재시도 예약 실패: id={}", id, e);
+		}
+	}
+
+	// PUBLISHED 이벤트는 RETENTION 동안만 보관함
+	@Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+	public void purgePublished() {
+		LocalDateTime before = LocalDateTime.now(clock).minus(RETENTION);
+		int deleted;
+		do {
+			deleted = transactionTemplate.execute(
+				status -> outboxEventRepository.deletePublishedBefore(before, PURGE_BATCH_SIZE));
+		} while (deleted == PURGE_BATCH_SIZE);
+	}
+
+	// 1초, 2초, 4초, ... 최대 5분
+	static Duration backoff(int attempts) {
+		int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+		Duration backoff = BASE_BACKOFF.multipliedBy(1L << exponent);
+		return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+	}
+}
@@ -0,0 +1,39 @@
+package com.kiero.global.infrastructure.outbox.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.exception.KieroException;
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+import com.kiero.global.infrastructure.outbox.exception.OutboxErrorCode;
+import com.kiero.global.infrastructure.outbox.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+
+	/*
+	현재 트랜잭션에 아웃박스 이벤트를 추가함
+	비즈니스 변경과 함께 커밋되거나 함께 롤백되므로, 커밋된 변경의 이벤트는 유실되지 않음
+	 */
+	public void append(OutboxTopic topic, Long childId, Object payload) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new KieroException(OutboxErrorCode.PAYLOAD_CONVERT_FAILED);
+		}
+		outboxEventRepository.save(OutboxEvent.create(topic, childId, json, LocalDateTime.now(clock)));
+	}
+}
@@ -1,7 +1,11 @@
 package com.kiero.global.infrastructure.sse.controller;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,8 +14,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
 import com.kiero.global.auth.enums.Role;
+import com.kiero.global.infrastructure.sse.domain.SseEventType;
+import com.kiero.global.infrastructure.sse.dto.SseNoticeRequest;
+import com.kiero.global.infrastructure.sse.dto.SseSessionResponse;
+import com.kiero.global.infrastructure.sse.exception.SseSuccessCode;
 import com.kiero.global.infrastructure.sse.service.EventSseService;
+import com.kiero.global.infrastructure.sse.service.SseService;
+import com.kiero.global.response.dto.SuccessResponse;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -20,21 +31,44 @@ import lombok.RequiredArgsConstructor;
 public class EventController {
 
 	private final EventSseService eventSseService;
+	private final SseService sseService;
 
 	@PreAuthorize("hasAnyRole('PARENT', 'CHILD', 'ADMIN')")
 	@GetMapping(produces = "text/event-stream")
 	public SseEmitter subscribe(
 		@CurrentMember CurrentAuth currentAuth,
-		@RequestHeader("Authorization") String authorization
+		@RequestHeader("Authorization") String authorization,
+		@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
 	) {
 		String token = authorization.substring("Bearer ".length());
 		Long memberId = currentAuth.memberId();
 		Role role = currentAuth.role();
 
 		if (role == Role.CHILD) {
-			return eventSseService.subscribeAsChild(memberId, token);
+			return eventSseService.subscribeAsChild(memberId, token, lastEventId);
 		} else {
-			return eventSseService.subscribeAsParent(memberId, token);
+			return eventSseService.subscribeAsParent(memberId, token, lastEventId);
 		}
 	}
+
+	// 구독 중 받은 renew 이벤트의 세션 id로 연결을 유지함 (세션 id가 곧 자격 증명이므로 인증 헤더 없이 호출함)
+	@PostMapping("/sessions/{sessionId}/renew")
+	public ResponseEntity<SuccessResponse<SseSessionResponse>> renewSession(
+		@PathVariable String sessionId
+	) {
+		SseSessionResponse response = sseService.renew(sessionId);
+		return ResponseEntity.ok()
+			.body(SuccessResponse.of(SseSuccessCode.SESSION_RENEW_SUCCESS, response));
+	}
+
+	// 연결된 모든 구독자에게 공지를 보냄
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/notices")
+	public ResponseEntity<SuccessResponse<Void>> broadcastNotice(
+		@Valid @RequestBody SseNoticeRequest request
+	) {
+		eventSseService.broadcast(SseEventType.NOTICE, request);
+		return ResponseEntity.ok()
+			.body(SuccessResponse.of(SseSuccessCode.NOTICE_BROADCAST_SUCCESS));
+	}
 }
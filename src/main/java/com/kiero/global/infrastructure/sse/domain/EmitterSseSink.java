@@ -0,0 +1,34 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 서블릿 SseEmitter로 쓰는 연결 (요청마다 Tomcat의 비동기 요청 하나를 점유함)
+@Getter
+@RequiredArgsConstructor
+public class EmitterSseSink implements SseSink {
+
+	private final SseEmitter emitter;
+
+	@Override
+	public void send(SseFrame frame) throws IOException {
+		frame.writeTo(emitter);
+	}
+
+	@Override
+	public void complete() {
+		emitter.complete();
+	}
+
+	@Override
+	public void onTerminate(Consumer<String> callback) {
+		emitter.onCompletion(() -> callback.accept("completed"));
+		emitter.onTimeout(() -> callback.accept("timeout"));
+		emitter.onError(e -> callback.accept("error"));
+	}
+}
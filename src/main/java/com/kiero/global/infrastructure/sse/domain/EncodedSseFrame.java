@@ -0,0 +1,43 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.util.RawJson;
+
+/*
+id/event/data 줄까지 완성된 SSE 이벤트 한 건의 바이트
+- 같은 이벤트를 여러 연결에 보낼 때 한 번만 만들고, 연결마다 메시지 변환 없이 바이트를 그대로 씀
+  (byte[]는 ByteArrayHttpMessageConverter가 복사 없이 씀)
+- payload는 송신 전에 다른 이벤트와 batch로 다시 묶일 때 쓰는 데이터 (문자열은 그대로, 그 외는 직렬화한 RawJson)
+ */
+public record EncodedSseFrame(Object payload, byte[] bytes) {
+
+	public static EncodedSseFrame encode(Long id, String eventName, Object data, ObjectMapper objectMapper)
+		throws JsonProcessingException {
+		Object payload = (data instanceof String || data instanceof RawJson)
+			? data
+			: RawJson.of(objectMapper.writeValueAsString(data));
+
+		StringBuilder frame = new StringBuilder();
+		if (id != null) {
+			frame.append("id:").append(id).append('\n');
+		}
+		frame.append("event:").append(eventName).append('\n');
+		// 줄바꿈이 있는 문자열은 줄마다 data: 로 나눠야 한 이벤트로 전달됨
+		for (String line : payload.toString().split("\r?\n", -1)) {
+			frame.append("data:").append(line).append('\n');
+		}
+		frame.append('\n');
+		return new EncodedSseFrame(payload, frame.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public Set<ResponseBodyEmitter.DataWithMediaType> toData() {
+		return Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+	}
+}
@@ -0,0 +1,172 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+/*
+구독 연결 하나(기기 하나)와 그 연결의 송신 큐
+- id는 노드 안에서 연결을 연 순서대로 증가함
+- sessionId는 클라이언트가 세션(만료 시각)을 연장할 때 쓰는 값으로, 이 연결에만 전달됨
+- 이벤트는 큐에 넣기만 하고, 실제 송신은 SseDispatcher의 스레드가 큐를 비우며 함
+- 한 연결의 큐는 한 번에 하나의 스레드만 비우므로(draining) 이벤트 순서가 유지됨
+ */
+public class SseConnection {
+
+	@Getter
+	private final long id;
+	@Getter
+	private final String sessionId;
+	@Getter
+	private final SseSink sink;
+	@Getter
+	private volatile LocalDateTime expiresAt;
+	private final Consumer<SseConnection> onClose;
+	private final int capacity;
+
+	// this로 보호
+	private final Deque<SseFrame> queue = new ArrayDeque<>();
+	private boolean draining;
+	private boolean closed;
+
+	// 송신 중인 이벤트의 송신 시작 시각 (송신 중이 아니면 0)
+	private volatile long sendStartedNanos;
+
+	public SseConnection(long id, String sessionId, SseSink sink, LocalDateTime expiresAt, int capacity,
+		Consumer<SseConnection> onClose) {
+		this.id = id;
+		this.sessionId = sessionId;
+		this.sink = sink;
+		this.expiresAt = expiresAt;
+		this.capacity = capacity;
+		this.onClose = onClose;
+	}
+
+	/*
+	이벤트를 큐에 넣음
+	큐가 가득 차 있으면 policy에 따라 처리하며, 결과로 버린 이벤트 수와 드레인을 시작해야 하는지를 반환함
+	 */
+	public synchronized Offer offer(SseFrame frame, SseOverflowPolicy policy) {
+		if (closed) {
+			return Offer.CLOSED;
+		}
+
+		int dropped = 0;
+		if (queue.size() >= capacity) {
+			switch (policy) {
+				case DROP_OLDEST -> {
+					queue.pollFirst();
+					dropped = 1;
+				}
+				case COALESCE -> {
+					dropped = queue.size() + 1;
+					frame = SseFrame.snapshotRequired(latestIdOf(frame));
+					queue.clear();
+				}
+				case DISCONNECT -> {
+					return Offer.OVERFLOWED;
+				}
+			}
+		}
+
+		queue.addLast(frame);
+		if (draining) {
+			return new Offer(dropped, false, false);
+		}
+		draining = true;
+		return new Offer(dropped, true, false);
+	}
+
+	/*
+	드레인 중인 스레드가 쌓인 이벤트를 최대 max개까지 한 번에 꺼냄
+	큐가 비었거나 닫혔으면 드레인을 끝내고 빈 목록을 반환함
+	 */
+	public synchronized List<SseFrame> pollBatchOrFinish(int max) {
+		if (closed || queue.isEmpty()) {
+			draining = false;
+			return List.of();
+		}
+
+		List<SseFrame> frames = new ArrayList<>(Math.min(max, queue.size()));
+		while (frames.size() < max && !queue.isEmpty()) {
+			frames.add(queue.pollFirst());
+		}
+		return frames;
+	}
+
+	// 한 번에 보낼 만큼 보낸 뒤 호출함. 남은 이벤트가 있으면 true(드레인을 이어서 다시 예약), 없으면 드레인을 끝냄
+	public synchronized boolean hasPending() {
+		if (!closed && !queue.isEmpty()) {
+			return true;
+		}
+		draining = false;
+		return false;
+	}
+
+	// 처음 닫을 때만 true
+	public boolean close() {
+		synchronized (this) {
+			if (closed) {
+				return false;
+			}
+			closed = true;
+			queue.clear();
+		}
+
+		try {
+			sink.complete();
+		} catch (Exception ignore) { }
+		onClose.accept(this);
+		return true;
+	}
+
+	public void extendTo(LocalDateTime expiresAt) {
+		this.expiresAt = expiresAt;
+	}
+
+	public synchronized int queueSize() {
+		return queue.size();
+	}
+
+	public synchronized boolean isClosed() {
+		return closed;
+	}
+
+	public void markSendStarted(long nowNanos) {
+		sendStartedNanos = nowNanos;
+	}
+
+	public void markSendFinished() {
+		sendStartedNanos = 0;
+	}
+
+	public long getSendStartedNanos() {
+		return sendStartedNanos;
+	}
+
+	// 합쳐지는 이벤트 중 가장 최근 id (재구독 시 여기서부터 이어받음)
+	private Long latestIdOf(SseFrame frame) {
+		if (frame.id() != null) {
+			return frame.id();
+		}
+		Iterator<SseFrame> iterator = queue.descendingIterator();
+		while (iterator.hasNext()) {
+			Long id = iterator.next().id();
+			if (id != null) {
+				return id;
+			}
+		}
+		return null;
+	}
+
+	public record Offer(int dropped, boolean drainRequired, boolean overflowed) {
+		public static final Offer CLOSED = new Offer(0, false, false);
+		public static final Offer OVERFLOWED = new Offer(0, false, true);
+	}
+}
@@ -18,7 +18,10 @@ public enum SseEventType {
 	MISSION_COMPLETED("feed", "미션 완료"),
 	COUPON_PURCHASED("feed", "쿠폰 구매"),
 	SCHEDULE_COMPLETED("feed", "스케줄 완료"),
-	FIRE_LIT("feed", "불 돌 사용");
+	FIRE_LIT("feed", "불 돌 사용"),
+
+	// 전체 구독자 이벤트
+	NOTICE("notice", "서비스 공지");
 
 	private final String eventName;
 	private final String description;
@@ -0,0 +1,74 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+구독자에게 보내는 SSE 이벤트 한 건
+- id: key 안에서 단조 증가하는 이벤트 id (재구독 시 Last-Event-ID로 돌아옴), 없으면 null
+- 여러 이벤트를 한 번에 보낼 때는 batch 이벤트 하나로 묶고, data는 [{id, event, data}, ...] 배열이 됨
+- 여러 연결에 보낼 때는 encode로 바이트까지 한 번만 만든 프레임(data가 EncodedSseFrame)을 함께 씀
+ */
+public record SseFrame(Long id, String eventName, Object data) {
+
+	// 놓친 이벤트를 보낼 수 없어 클라이언트가 화면을 다시 조회해야 함을 알리는 이벤트
+	public static final String SNAPSHOT_REQUIRED_EVENT_NAME = "snapshot-required";
+	public static final String BATCH_EVENT_NAME = "batch";
+
+	public static SseFrame snapshotRequired(Long latestId) {
+		return new SseFrame(latestId, SNAPSHOT_REQUIRED_EVENT_NAME, SNAPSHOT_REQUIRED_EVENT_NAME);
+	}
+
+	// 프레임 id는 묶인 이벤트 중 마지막 id (재구독 시 여기서부터 이어받음)
+	public static SseFrame batch(List<SseFrame> frames) {
+		List<BatchItem> items = new ArrayList<>(frames.size());
+		Long latestId = null;
+		for (SseFrame frame : frames) {
+			items.add(new BatchItem(frame.id(), frame.eventName(), frame.payload()));
+			if (frame.id() != null) {
+				latestId = frame.id();
+			}
+		}
+		return new SseFrame(latestId, BATCH_EVENT_NAME, items);
+	}
+
+	public boolean isBatch() {
+		return BATCH_EVENT_NAME.equals(eventName);
+	}
+
+	// 이미 인코딩된 프레임이면 그대로 반환함
+	public SseFrame encode(ObjectMapper objectMapper) throws JsonProcessingException {
+		if (data instanceof EncodedSseFrame) {
+			return this;
+		}
+		return new SseFrame(id, eventName, EncodedSseFrame.encode(id, eventName, data, objectMapper));
+	}
+
+	// 인코딩된 프레임은 바이트를 그대로 쓰고, 아니면 emitter의 메시지 변환을 거침
+	public void writeTo(SseEmitter emitter) throws IOException {
+		if (data instanceof EncodedSseFrame encoded) {
+			emitter.send(encoded.toData());
+			return;
+		}
+		emitter.send(toEvent());
+	}
+
+	public SseEmitter.SseEventBuilder toEvent() {
+		SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName).data(data);
+		return id == null ? event : event.id(String.valueOf(id));
+	}
+
+	// batch로 묶일 때의 데이터 (인코딩된 프레임은 직렬화해 둔 값을 다시 씀)
+	private Object payload() {
+		return data instanceof EncodedSseFrame encoded ? encoded.payload() : data;
+	}
+
+	public record BatchItem(Long id, String event, Object data) {
+	}
+}
@@ -0,0 +1,16 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+/*
+연결별 송신 큐가 가득 찼을 때의 처리 방식
+ */
+public enum SseOverflowPolicy {
+
+	// 가장 오래된 이벤트를 버리고 새 이벤트를 넣음
+	DROP_OLDEST,
+
+	// 큐에 쌓인 이벤트를 snapshot-required 이벤트 하나로 합침 (클라이언트가 화면을 한 번 다시 조회함)
+	COALESCE,
+
+	// 연결을 끊음 (클라이언트가 재구독하면 Last-Event-ID로 재전송됨)
+	DISCONNECT
+}
@@ -0,0 +1,19 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.util.List;
+
+/*
+재구독 시 Last-Event-ID 이후로 다시 보낼 이벤트들
+- snapshotRequired: 놓친 이벤트가 이미 버퍼에서 밀려나 재전송할 수 없음 (클라이언트가 화면을 다시 조회해야 함)
+- latestId: key의 가장 최근 이벤트 id (알 수 없으면 null)
+ */
+public record SseReplay(List<SseFrame> frames, boolean snapshotRequired, Long latestId) {
+
+	public static SseReplay of(List<SseFrame> frames, Long latestId) {
+		return new SseReplay(frames, false, latestId);
+	}
+
+	public static SseReplay snapshotRequired(Long latestId) {
+		return new SseReplay(List.of(), true, latestId);
+	}
+}
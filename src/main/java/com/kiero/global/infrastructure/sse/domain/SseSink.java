@@ -0,0 +1,20 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/*
+연결 하나가 이벤트를 실제로 쓰는 곳 (전송 방식마다 구현이 다름)
+- EmitterSseSink: 서블릿(Tomcat) SseEmitter
+- NettySseSink: reactor-netty SSE 게이트웨이 (sse.gateway.enabled=true)
+send는 SseDispatcher의 송신 스레드에서만 호출되며, 실패하면 예외를 던져 연결이 정리되게 함
+ */
+public interface SseSink {
+
+	void send(SseFrame frame) throws IOException;
+
+	void complete();
+
+	// 클라이언트가 끊었거나 오류/타임아웃으로 끝났을 때 이유(completed, timeout, error)와 함께 호출됨
+	void onTerminate(Consumer<String> callback);
+}
@@ -0,0 +1,12 @@
+package com.kiero.global.infrastructure.sse.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record SseNoticeRequest(
+	@NotBlank(message = "공지 제목을 입력해주세요.")
+	String title,
+
+	@NotBlank(message = "공지 내용을 입력해주세요.")
+	String content
+) {
+}
@@ -0,0 +1,12 @@
+package com.kiero.global.infrastructure.sse.dto;
+
+import java.time.LocalDateTime;
+
+public record SseSessionResponse(
+	String sessionId,
+	LocalDateTime expiresAt
+) {
+	public static SseSessionResponse of(String sessionId, LocalDateTime expiresAt) {
+		return new SseSessionResponse(sessionId, expiresAt);
+	}
+}
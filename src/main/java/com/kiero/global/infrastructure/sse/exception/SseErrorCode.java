@@ -0,0 +1,26 @@
+package com.kiero.global.infrastructure.sse.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.kiero.global.response.base.BaseCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SseErrorCode implements BaseCode {
+	/*
+	404 NOT FOUND
+	 */
+	SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "SSE 세션이 존재하지 않거나 이미 만료되었습니다."),
+
+	/*
+	500 INTERNAL SERVER ERROR
+	 */
+	EVENT_CONVERT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SSE 이벤트 변환 과정이 실패하였습니다."),
+	;
+
+	private final HttpStatus httpStatus;
+	private final String message;
+}
@@ -0,0 +1,22 @@
+package com.kiero.global.infrastructure.sse.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.kiero.global.response.base.BaseCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SseSuccessCode implements BaseCode {
+	/*
+	200 OK
+	 */
+	SESSION_RENEW_SUCCESS(HttpStatus.OK, "SSE 세션 연장에 성공하였습니다."),
+	NOTICE_BROADCAST_SUCCESS(HttpStatus.OK, "공지 전송에 성공하였습니다."),
+	;
+
+	private final HttpStatus httpStatus;
+	private final String message;
+}
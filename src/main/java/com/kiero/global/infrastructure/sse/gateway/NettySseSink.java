@@ -0,0 +1,70 @@
+package com.kiero.global.infrastructure.sse.gateway;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.EncodedSseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseSink;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.SignalType;
+import reactor.util.concurrent.Queues;
+
+/*
+SSE 게이트웨이 연결 하나의 송신 버퍼
+- 송신 스레드는 인코딩된 프레임 바이트를 버퍼에 넣기만 하고, 소켓 write는 Netty 이벤트 루프가 함
+- 버퍼는 bufferSize개로 제한되며, 가득 차면 (클라이언트가 읽지 않으면) 송신 실패로 보고 연결을 끊음
+  (서블릿 방식에서 send-timeout watchdog이 하던 역할)
+ */
+@Slf4j
+class NettySseSink implements SseSink {
+
+	// 종료는 송신 스레드가 아닌 스레드(하트비트 만료, 연결 수 제한, watchdog)에서도 호출되므로,
+	// 동시에 진행 중인 송신과 겹쳐 FAIL_NON_SERIALIZED가 나면 송신이 끝날 때까지 이 시간 동안 재시도함
+	private static final Duration COMPLETE_RETRY_TIMEOUT = Duration.ofSeconds(1);
+
+	private final ObjectMapper objectMapper;
+	private final Sinks.Many<byte[]> frames;
+	private volatile Consumer<String> onTerminate = reason -> {
+	};
+
+	NettySseSink(ObjectMapper objectMapper, int bufferSize) {
+		this.objectMapper = objectMapper;
+		this.frames = Sinks.many().unicast().onBackpressureBuffer(Queues.<byte[]>get(bufferSize).get());
+	}
+
+	@Override
+	public void send(SseFrame frame) throws IOException {
+		EncodedSseFrame encoded = (EncodedSseFrame)frame.encode(objectMapper).data();
+		Sinks.EmitResult result = frames.tryEmitNext(encoded.bytes());
+		if (result.isFailure()) {
+			throw new IOException("SSE 게이트웨이 송신 실패: " + result);
+		}
+	}
+
+	@Override
+	public void complete() {
+		try {
+			// 이미 종료되었거나 클라이언트가 끊은 경우(FAIL_TERMINATED, FAIL_CANCELLED)는 조용히 무시됨
+			frames.emitComplete(Sinks.EmitFailureHandler.busyLooping(COMPLETE_RETRY_TIMEOUT));
+		} catch (Sinks.EmissionException e) {
+			log.warn("SSE 게이트웨이 연결 종료 실패: {}", e.getReason(), e);
+		}
+	}
+
+	@Override
+	public void onTerminate(Consumer<String> callback) {
+		this.onTerminate = callback;
+	}
+
+	// 응답으로 내보낼 프레임 스트림 (클라이언트가 끊으면 cancel로 끝남)
+	Flux<byte[]> asFlux() {
+		return frames.asFlux()
+			.doFinally(signal -> onTerminate.accept(signal == SignalType.ON_ERROR ? "error" : "completed"));
+	}
+}
@@ -0,0 +1,127 @@
+package com.kiero.global.infrastructure.sse.gateway;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.auth.enums.Role;
+import com.kiero.global.auth.jwt.enums.JwtValidationType;
+import com.kiero.global.auth.jwt.service.JwtTokenProvider;
+import com.kiero.global.infrastructure.sse.service.EventSseService;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.LoopResources;
+
+/*
+SSE 구독만 받는 reactor-netty 서버 (sse.gateway.enabled=true일 때 별도 포트로 뜸)
+- 서블릿 방식은 연결마다 Tomcat의 비동기 요청과 커넥션 슬롯을 점유하지만,
+  게이트웨이는 연결을 이벤트 루프 스레드 몇 개(worker-threads)로 유지하므로 유휴 연결을 더 많이 받을 수 있음
+- 구독 경로, 인증(Authorization: Bearer), Last-Event-ID는 EventController의 GET /api/v1/subscribe와 같음
+- 구독 이후의 세션/heartbeat/재전송/송신 큐는 EventSseService를 그대로 거치므로 서블릿 방식과 동작이 같음
+- 세션 생성과 재전송 조회는 Redis를 블로킹으로 호출하므로 이벤트 루프가 아닌 boundedElastic에서 실행함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.gateway.enabled", havingValue = "true")
+public class SseNettyGateway {
+
+	private static final String SUBSCRIBE_PATH = "/api/v1/subscribe";
+	private static final String BEARER_PREFIX = "Bearer ";
+
+	private final EventSseService eventSseService;
+	private final JwtTokenProvider jwtTokenProvider;
+	private final ObjectMapper objectMapper;
+	private final int port;
+	private final int bufferSize;
+	private final LoopResources loopResources;
+
+	private DisposableServer server;
+
+	public SseNettyGateway(
+		EventSseService eventSseService,
+		JwtTokenProvider jwtTokenProvider,
+		ObjectMapper objectMapper,
+		@Value("${sse.gateway.port:8090}") int port,
+		@Value("${sse.gateway.worker-threads:2}") int workerThreads,
+		@Value("${sse.gateway.buffer-frames:32}") int bufferSize
+	) {
+		this.eventSseService = eventSseService;
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.objectMapper = objectMapper;
+		this.port = port;
+		this.bufferSize = bufferSize;
+		this.loopResources = LoopResources.create("sse-gateway", 1, workerThreads, true);
+	}
+
+	// 애플리케이션이 준비된 뒤에 구독을 받기 시작함
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		server = HttpServer.create()
+			.port(port)
+			.runOn(loopResources)
+			.route(routes -> routes.get(SUBSCRIBE_PATH, this::subscribe))
+			.bindNow();
+		log.info("SSE 게이트웨이 시작: port={}", server.port());
+	}
+
+	@PreDestroy
+	void stop() {
+		if (server != null) {
+			server.disposeNow(Duration.ofSeconds(5));
+		}
+		loopResources.dispose();
+	}
+
+	private Mono<Void> subscribe(HttpServerRequest request, HttpServerResponse response) {
+		String token = resolveToken(request.requestHeaders().get(HttpHeaderNames.AUTHORIZATION));
+		if (token == null) {
+			return response.status(HttpResponseStatus.UNAUTHORIZED).send().then();
+		}
+
+		// JwtAuthenticationFilter와 같은 상태 코드 (만료 401, 그 외 400)
+		JwtValidationType validationType = jwtTokenProvider.validateToken(token);
+		if (!validationType.isValid()) {
+			HttpResponseStatus status = validationType == JwtValidationType.EXPIRED_JWT_TOKEN
+				? HttpResponseStatus.UNAUTHORIZED
+				: HttpResponseStatus.BAD_REQUEST;
+			return response.status(status).send().then();
+		}
+
+		String lastEventId = request.requestHeaders().get("Last-Event-ID");
+		NettySseSink sink = new NettySseSink(objectMapper, bufferSize);
+		return Mono.fromRunnable(() -> {
+				Long memberId = jwtTokenProvider.getMemberIdFromJwt(token);
+				Role role = jwtTokenProvider.getRoleFromJwt(token);
+				eventSseService.subscribe(memberId, role, token, lastEventId, sink);
+			})
+			.subscribeOn(Schedulers.boundedElastic())
+			.doOnError(e -> log.warn("SSE 게이트웨이 구독 실패", e))
+			// 구독이 등록된 뒤에 응답 헤더를 보내며, 프레임마다 flush해야 클라이언트가 바로 받음
+			.then(Mono.defer(() -> response.sse()
+				.send(sink.asFlux().map(Unpooled::wrappedBuffer), buffer -> true)
+				.then()));
+	}
+
+	private String resolveToken(String authorization) {
+		if (StringUtils.hasText(authorization) && authorization.startsWith(BEARER_PREFIX)) {
+			return authorization.substring(BEARER_PREFIX.length());
+		}
+		return null;
+	}
+}
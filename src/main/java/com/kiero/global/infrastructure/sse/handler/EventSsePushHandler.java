@@ -1,6 +1,9 @@
 package com.kiero.global.infrastructure.sse.handler;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Component;
@@ -11,10 +14,12 @@ import com.kiero.feed.domain.enums.EventType;
 import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent;
 import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
 import com.kiero.global.infrastructure.sse.domain.SseEventType;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
 import com.kiero.child.presentation.dto.ChildJoinedEvent;
 import com.kiero.mission.presentation.dto.MissionCreatedEvent;
 import com.kiero.schedule.presentation.dto.ScheduleCreatedEvent;
 import com.kiero.global.infrastructure.sse.service.EventSseService;
+import com.kiero.parent.repository.ParentChildRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,10 +30,24 @@ import lombok.extern.slf4j.Slf4j;
 public class EventSsePushHandler {
 
 	private final EventSseService eventSseService;
+	private final ParentChildRepository parentChildRepository;
 
+	/*
+	아웃박스 릴레이가 피드 아이템을 만든 트랜잭션이 커밋된 후에 푸시함
+	- 롤백된 피드 아이템(존재하지 않는 feedItemId)이나, 재시도로 다시 만들어진 아이템이 중복으로 푸시되지 않음
+	- 커밋 후 푸시 전에 노드가 죽으면 이 알림은 유실됨 (피드 아이템은 남아 있으므로 다음 피드 조회에서 보임)
+	 */
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handle(FeedItemsCreatedEvent event) {
+		// 피드 아이템은 아이 단위로 저장되므로, 알릴 부모는 푸시 시점에 아이별로 한 번씩 조회함
+		Map<Long, List<Long>> parentIdsByChildId = new HashMap<>();
+		// 부모마다 이번 이벤트의 피드 아이템들을 모아 한 번에 보냄
+		Map<Long, List<SseFrame>> framesByParentId = new LinkedHashMap<>();
+
 		for (FeedItemInfo item : event.items()) {
+			List<Long> parentIds = parentIdsByChildId.computeIfAbsent(
+				item.childId(), parentChildRepository::findParentIdsByChildId);
+
 			SseEventType sseEventType = mapToSseEventType(item.eventType());
 
 			Map<String, Object> data = new LinkedHashMap<>();
@@ -38,11 +57,15 @@ public class EventSsePushHandler {
 			data.put("occurredAt", item.occurredAt().toString());
 			data.put("metadata", item.metadata());
 
-			log.debug("부모 SSE 푸시 (피드): parentId={}, childId={}, feedItemId={}, eventType={}",
-				item.parentId(), item.childId(), item.feedItemId(), sseEventType);
+			log.debug("부모 SSE 푸시 (피드): parentIds={}, childId={}, feedItemId={}, eventType={}",
+				parentIds, item.childId(), item.feedItemId(), sseEventType);
 
-			eventSseService.pushToParent(item.parentId(), sseEventType, data);
+			SseFrame frame = new SseFrame(null, sseEventType.getEventName(), data);
+			parentIds.forEach(parentId ->
+				framesByParentId.computeIfAbsent(parentId, id -> new ArrayList<>()).add(frame));
 		}
+
+		framesByParentId.forEach(eventSseService::pushAllToParent);
 	}
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -57,7 +80,13 @@ public class EventSsePushHandler {
 		eventSseService.pushToParent(event.parentId(), SseEventType.CHILD_JOINED, data);
 	}
 
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	/*
+	미션/일정 생성 이벤트는 트랜잭션이 아직 진행 중인 커밋 직전에 SseEventCoalescer에 모으고, 커밋 후에 아이에게 한 번에 보냄
+	- 일괄 생성처럼 한 트랜잭션에서 여러 개가 발행되어도 batch 이벤트 하나로 나감
+	- 커밋에 실패하거나 롤백되면 보내지 않음
+	- 트랜잭션 밖에서 발행되면 바로 보냄 (fallbackExecution)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
 	public void handle(MissionCreatedEvent event) {
 		Map<String, Object> data = new LinkedHashMap<>();
 		data.put("eventType", SseEventType.MISSION_CREATED.name());
@@ -70,7 +99,7 @@ public class EventSsePushHandler {
 		eventSseService.pushToChild(event.childId(), SseEventType.MISSION_CREATED, data);
 	}
 
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
 	public void handle(ScheduleCreatedEvent event) {
 		Map<String, Object> data = new LinkedHashMap<>();
 		data.put("eventType", SseEventType.SCHEDULE_CREATED.name());
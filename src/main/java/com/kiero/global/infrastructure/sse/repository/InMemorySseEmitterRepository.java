@@ -1,31 +1,172 @@
 package com.kiero.global.infrastructure.sse.repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/*
+이 노드에 연결된 emitter만 보관하고, 이 노드 안에서만 이벤트를 전달함 (sse.delivery.mode=local)
+- key(회원)마다 연결 id -> 연결 맵을 두어, 한 회원이 여러 기기로 구독해도 서로의 연결을 덮어쓰거나 지우지 않음
+- key별 연결 수가 maxConnectionsPerKey를 넘으면 가장 오래된 연결부터 끊음
+ */
 @Component
+@ConditionalOnProperty(name = "sse.delivery.mode", havingValue = "local", matchIfMissing = true)
 public class InMemorySseEmitterRepository implements SseEmitterRepository<String> {
-	private final ConcurrentHashMap<String, SseEmitterWrapper> emitters = new ConcurrentHashMap<>();
+
+	private static final String METRIC_NAME = "kiero.sse.delivery";
+
+	private final ConcurrentHashMap<String, Map<Long, SseConnection>> connections = new ConcurrentHashMap<>();
+	protected final MeterRegistry meterRegistry;
+	protected final ObjectMapper objectMapper;
+	private final SseDispatcher sseDispatcher;
+	private final int maxConnectionsPerKey;
+
+	public InMemorySseEmitterRepository(
+		MeterRegistry meterRegistry,
+		ObjectMapper objectMapper,
+		SseDispatcher sseDispatcher,
+		@Value("${sse.max-connections-per-key:5}") int maxConnectionsPerKey
+	) {
+		this.meterRegistry = meterRegistry;
+		this.objectMapper = objectMapper;
+		this.sseDispatcher = sseDispatcher;
+		this.maxConnectionsPerKey = maxConnectionsPerKey;
+	}
+
+	@Override
+	public Collection<SseConnection> get(String key) {
+		Map<Long, SseConnection> byId = connections.get(key);
+		return byId == null ? List.of() : byId.values();
+	}
+
+	@Override
+	public void save(String key, SseConnection connection) {
+		boolean[] added = new boolean[1];
+		Map<Long, SseConnection> byId = connections.compute(key, (k, existing) -> {
+			if (existing == null) {
+				existing = new ConcurrentHashMap<>();
+				onKeyAdded(k);
+				added[0] = true;
+			}
+			existing.put(connection.getId(), connection);
+			return existing;
+		});
+		if (added[0]) {
+			afterKeyChanged(key);
+		}
+
+		// 끊긴 연결은 onClose에서 remove됨
+		int overflow = byId.size() - maxConnectionsPerKey;
+		if (overflow > 0) {
+			byId.values().stream()
+				.sorted(Comparator.comparingLong(SseConnection::getId))
+				.limit(overflow)
+				.toList()
+				.forEach(oldest -> sseDispatcher.close(oldest, "connection_limit"));
+		}
+	}
 
 	@Override
-	public SseEmitterWrapper get(String key) {
-		return emitters.get(key);
+	public Collection<SseConnection> findAll() {
+		return connections.values().stream()
+			.flatMap(byId -> byId.values().stream())
+			.toList();
 	}
 
-	public void save(String key, SseEmitter emitter, LocalDateTime expiresAt) {
-		emitters.put(key, new SseEmitterWrapper(emitter, expiresAt));
+	@Override
+	public void remove(String key, SseConnection connection) {
+		boolean[] removed = new boolean[1];
+		connections.computeIfPresent(key, (k, byId) -> {
+			byId.remove(connection.getId(), connection);
+			if (byId.isEmpty()) {
+				onKeyRemoved(k);
+				removed[0] = true;
+				return null;
+			}
+			return byId;
+		});
+		if (removed[0]) {
+			afterKeyChanged(key);
+		}
 	}
 
-	public Map<String, SseEmitterWrapper> findAll() {
-		return emitters;
+	@Override
+	public void send(String key, SseFrame frame) {
+		sendLocal(key, frame);
 	}
 
-	public void remove(String key) {
-		emitters.remove(key);
+	@Override
+	public void broadcast(SseFrame frame) {
+		broadcastLocal(frame);
 	}
 
+	// key에 연결이 처음 생길 때 (key 단위로 직렬화되어 맵의 compute 안에서 호출되므로 I/O를 하면 안 됨)
+	protected void onKeyAdded(String key) {
+	}
+
+	// key의 마지막 연결이 사라질 때 (key 단위로 직렬화되어 맵의 compute 안에서 호출되므로 I/O를 하면 안 됨)
+	protected void onKeyRemoved(String key) {
+	}
+
+	// onKeyAdded/onKeyRemoved가 맵에 반영된 뒤 compute 밖에서 호출됨 (다른 key의 변화와 순서가 보장되지 않음)
+	protected void afterKeyChanged(String key) {
+	}
+
+	// 이 노드에 연결된 구독자의 송신 큐에 넣음 (송신 실패 시 연결 정리는 SseDispatcher가 함)
+	protected void sendLocal(String key, SseFrame frame) {
+		Collection<SseConnection> targets = get(key);
+		if (targets.isEmpty()) {
+			count("no_subscriber");
+			return;
+		}
+
+		// 여러 기기로 보낼 때는 프레임을 한 번만 인코딩해 모든 연결이 같은 바이트를 씀
+		SseFrame shared = targets.size() > 1 ? encodeOnce(frame) : frame;
+		for (SseConnection connection : targets) {
+			sseDispatcher.enqueue(connection, shared);
+		}
+		meterRegistry.counter(METRIC_NAME, "result", "queued").increment(targets.size());
+	}
+
+	// 이 노드의 모든 연결에 한 번 인코딩한 프레임을 넣음
+	protected void broadcastLocal(SseFrame frame) {
+		Collection<SseConnection> targets = findAll();
+		if (targets.isEmpty()) {
+			count("no_subscriber");
+			return;
+		}
+
+		SseFrame shared = encodeOnce(frame);
+		for (SseConnection connection : targets) {
+			sseDispatcher.enqueue(connection, shared);
+		}
+		meterRegistry.counter(METRIC_NAME, "result", "broadcast").increment(targets.size());
+	}
+
+	protected void count(String result) {
+		meterRegistry.counter(METRIC_NAME, "result", result).increment();
+	}
+
+	// 인코딩하지 못하면 연결마다 메시지 변환을 거치는 원래 프레임을 보냄
+	private SseFrame encodeOnce(SseFrame frame) {
+		try {
+			return frame.encode(objectMapper);
+		} catch (JsonProcessingException e) {
+			return frame;
+		}
+	}
 }
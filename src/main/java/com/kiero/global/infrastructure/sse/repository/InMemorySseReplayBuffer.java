@@ -0,0 +1,90 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseReplay;
+
+/*
+노드 메모리에 key별 링 버퍼를 두는 재전송 버퍼 (sse.replay.store=memory)
+한동안 이벤트도 재구독도 없는 key의 버퍼는 비움
+ */
+@Component
+@ConditionalOnProperty(name = "sse.replay.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySseReplayBuffer implements SseReplayBuffer {
+
+	private static final Duration IDLE_EXPIRATION = Duration.ofHours(6);
+	private static final int MAXIMUM_KEYS = 100_000;
+
+	private final int capacity;
+	private final Clock clock;
+	private final Cache<String, Ring> rings = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_KEYS)
+		.expireAfterAccess(IDLE_EXPIRATION)
+		.build();
+
+	public InMemorySseReplayBuffer(@Value("${sse.replay.capacity:100}") int capacity, Clock clock) {
+		this.capacity = capacity;
+		this.clock = clock;
+	}
+
+	@Override
+	public long append(String key, String eventName, Object data) {
+		return rings.get(key, k -> new Ring(capacity, clock.instant().getEpochSecond() * ID_SEED_MULTIPLIER))
+			.append(eventName, data);
+	}
+
+	@Override
+	public SseReplay readAfter(String key, long lastEventId) {
+		Ring ring = rings.getIfPresent(key);
+		if (ring == null) {
+			return SseReplay.snapshotRequired(null);
+		}
+		return ring.readAfter(lastEventId);
+	}
+
+	private static final class Ring {
+		private final SseFrame[] frames;
+		private final long seedId;
+		private long latestId;
+
+		private Ring(int capacity, long seedId) {
+			this.frames = new SseFrame[capacity];
+			this.seedId = seedId;
+			this.latestId = seedId;
+		}
+
+		private synchronized long append(String eventName, Object data) {
+			long id = ++latestId;
+			frames[slot(id)] = new SseFrame(id, eventName, data);
+			return id;
+		}
+
+		private synchronized SseReplay readAfter(long lastEventId) {
+			long oldestId = Math.max(latestId - frames.length + 1, seedId + 1);
+			// 버퍼가 다시 만들어져 lastEventId가 현재 버퍼와 무관하거나, 놓친 이벤트가 이미 밀려난 경우
+			if (lastEventId > latestId || lastEventId + 1 < oldestId) {
+				return SseReplay.snapshotRequired(latestId);
+			}
+
+			List<SseFrame> missed = new ArrayList<>((int)(latestId - lastEventId));
+			for (long id = lastEventId + 1; id <= latestId; id++) {
+				missed.add(frames[slot(id)]);
+			}
+			return SseReplay.of(missed, latestId);
+		}
+
+		private int slot(long id) {
+			return (int)(id % frames.length);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+import com.kiero.global.util.RawJson;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+여러 노드(app-blue, app-green)에 나뉘어 연결된 구독자에게 Redis pub/sub으로 이벤트를 전달함 (sse.delivery.mode=redis)
+- emitter는 연결된 노드의 메모리에만 있고, 이벤트는 key의 해시로 정한 샤드 채널(sse:shard:{n})로 발행함
+- 노드는 자신에게 구독자가 있는 샤드 채널만 구독하므로, 구독자가 없는 key의 이벤트는 받지 않음
+  샤드별 key 수는 연결 맵의 compute 안에서 세고, 채널 구독/해제(Redis I/O)는 compute가 끝난 뒤 샤드의 현재 key 수에 맞춤
+- 받은 이벤트는 이 노드에 연결된 구독자에게만 보냄
+- 전체 구독자 대상 이벤트(broadcast)는 모든 노드가 항상 구독하는 sse:broadcast 채널로 발행함 (key 없이)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.delivery.mode", havingValue = "redis")
+public class RedisShardedSseEmitterRepository extends InMemorySseEmitterRepository implements MessageListener {
+
+	private static final String CHANNEL_PREFIX = "sse:shard:";
+	private static final int SHARD_COUNT = 16;
+	private static final ChannelTopic BROADCAST_TOPIC = new ChannelTopic("sse:broadcast");
+	private static final String RELAY_METRIC_NAME = "kiero.sse.relay";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	// 샤드별로 이 노드에 연결된 key 수
+	private final AtomicIntegerArray localKeysByShard = new AtomicIntegerArray(SHARD_COUNT);
+	// 샤드별 채널 구독 여부 (shardLocks[shard]로 보호)
+	private final boolean[] subscribedShards = new boolean[SHARD_COUNT];
+	private final Object[] shardLocks = new Object[SHARD_COUNT];
+
+	public RedisShardedSseEmitterRepository(
+		MeterRegistry meterRegistry,
+		ObjectMapper objectMapper,
+		SseDispatcher sseDispatcher,
+		@Value("${sse.max-connections-per-key:5}") int maxConnectionsPerKey,
+		StringRedisTemplate stringRedisTemplate,
+		RedisMessageListenerContainer redisMessageListenerContainer
+	) {
+		super(meterRegistry, objectMapper, sseDispatcher, maxConnectionsPerKey);
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.redisMessageListenerContainer = redisMessageListenerContainer;
+		for (int i = 0; i < SHARD_COUNT; i++) {
+			shardLocks[i] = new Object();
+		}
+	}
+
+	@PostConstruct
+	void subscribeBroadcast() {
+		redisMessageListenerContainer.addMessageListener(this, BROADCAST_TOPIC);
+	}
+
+	@Override
+	protected void onKeyAdded(String key) {
+		localKeysByShard.incrementAndGet(shardOf(key));
+	}
+
+	@Override
+	protected void onKeyRemoved(String key) {
+		localKeysByShard.decrementAndGet(shardOf(key));
+	}
+
+	/*
+	샤드의 현재 key 수에 맞춰 채널을 구독하거나 해제함
+	- 같은 샤드의 추가/제거가 compute 밖에서 순서가 뒤바뀌어 호출되어도, 마지막 호출이 현재 key 수를 보고 맞추므로 결과가 같음
+	- 샤드 단위 잠금만 잡으므로 연결 맵이나 다른 샤드의 구독을 막지 않음
+	 */
+	@Override
+	protected void afterKeyChanged(String key) {
+		int shard = shardOf(key);
+		synchronized (shardLocks[shard]) {
+			boolean needed = localKeysByShard.get(shard) > 0;
+			if (needed == subscribedShards[shard]) {
+				return;
+			}
+			if (needed) {
+				redisMessageListenerContainer.addMessageListener(this, topic(shard));
+			} else {
+				redisMessageListenerContainer.removeMessageListener(this, topic(shard));
+			}
+			subscribedShards[shard] = needed;
+		}
+	}
+
+	@Override
+	public void send(String key, SseFrame frame) {
+		try {
+			RelayMessage message = new RelayMessage(key, frame.id(), frame.eventName(),
+				RawJson.of(objectMapper.writeValueAsString(frame.data())));
+			stringRedisTemplate.convertAndSend(topic(shardOf(key)).getTopic(), objectMapper.writeValueAsString(message));
+			meterRegistry.counter(RELAY_METRIC_NAME, "result", "published").increment();
+		} catch (Exception e) {
+			// 발행하지 못하면 적어도 이 노드의 구독자에게는 보냄
+			log.warn("SSE 이벤트 발행 실패, 이 노드에만 전달: key={}, eventName={}", key, frame.eventName(), e);
+			meterRegistry.counter(RELAY_METRIC_NAME, "result", "publish_failed").increment();
+			sendLocal(key, frame);
+		}
+	}
+
+	@Override
+	public void broadcast(SseFrame frame) {
+		try {
+			RelayMessage message = new RelayMessage(null, frame.id(), frame.eventName(),
+				RawJson.of(objectMapper.writeValueAsString(frame.data())));
+			stringRedisTemplate.convertAndSend(BROADCAST_TOPIC.getTopic(), objectMapper.writeValueAsString(message));
+			meterRegistry.counter(RELAY_METRIC_NAME, "result", "published").increment();
+		} catch (Exception e) {
+			log.warn("SSE broadcast 발행 실패, 이 노드에만 전달: eventName={}", frame.eventName(), e);
+			meterRegistry.counter(RELAY_METRIC_NAME, "result", "publish_failed").increment();
+			broadcastLocal(frame);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		RelayMessage relayMessage;
+		try {
+			relayMessage = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+		} catch (Exception e) {
+			log.warn("SSE 이벤트 메시지 변환 실패", e);
+			meterRegistry.counter(RELAY_METRIC_NAME, "result", "invalid").increment();
+			return;
+		}
+
+		meterRegistry.counter(RELAY_METRIC_NAME, "result", "received").increment();
+		SseFrame frame = new SseFrame(relayMessage.id(), relayMessage.eventName(), relayMessage.data());
+		if (relayMessage.key() == null) {
+			broadcastLocal(frame);
+			return;
+		}
+		sendLocal(relayMessage.key(), frame);
+	}
+
+	private static int shardOf(String key) {
+		return Math.floorMod(key.hashCode(), SHARD_COUNT);
+	}
+
+	private static ChannelTopic topic(int shard) {
+		return new ChannelTopic(CHANNEL_PREFIX + shard);
+	}
+
+	// broadcast 메시지는 key가 null
+	record RelayMessage(String key, Long id, String eventName, RawJson data) {
+	}
+}
@@ -0,0 +1,123 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.exception.KieroException;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseReplay;
+import com.kiero.global.infrastructure.sse.exception.SseErrorCode;
+import com.kiero.global.util.RawJson;
+
+/*
+key별 Redis Stream을 재전송 버퍼로 쓰는 구현 (sse.replay.store=redis)
+- 재구독이 다른 노드로 붙어도 놓친 이벤트를 재전송할 수 있음
+- 이벤트 id는 sse-replay-seq:{key}의 INCR 값이고, 스트림 entry id를 "{이벤트 id}-0"으로 두어 id로 바로 범위 조회함
+- 스트림은 MAXLEN으로 capacity개만 남기고, 한동안 이벤트가 없으면 TTL로 사라짐
+ */
+@Component
+@ConditionalOnProperty(name = "sse.replay.store", havingValue = "redis")
+public class RedisStreamSseReplayBuffer implements SseReplayBuffer {
+
+	private static final String SEQUENCE_KEY_PREFIX = "sse-replay-seq:";
+	private static final String STREAM_KEY_PREFIX = "sse-replay:";
+	private static final String EVENT_NAME_FIELD = "e";
+	private static final String DATA_FIELD = "d";
+	private static final Duration IDLE_EXPIRATION = Duration.ofHours(6);
+
+	// KEYS[1]: 시퀀스 키, KEYS[2]: 스트림 키 / ARGV: seed id, 이벤트 이름, 데이터(JSON), capacity, TTL(초)
+	private static final RedisScript<Long> APPEND = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			redis.call('SET', KEYS[1], ARGV[1])
+		end
+		local id = redis.call('INCR', KEYS[1])
+		redis.call('XADD', KEYS[2], 'MAXLEN', ARGV[4], id .. '-0', 'e', ARGV[2], 'd', ARGV[3])
+		redis.call('EXPIRE', KEYS[1], ARGV[5])
+		redis.call('EXPIRE', KEYS[2], ARGV[5])
+		return id
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+	private final int capacity;
+
+	public RedisStreamSseReplayBuffer(
+		StringRedisTemplate stringRedisTemplate,
+		ObjectMapper objectMapper,
+		Clock clock,
+		@Value("${sse.replay.capacity:100}") int capacity
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+		this.capacity = capacity;
+	}
+
+	@Override
+	public long append(String key, String eventName, Object data) {
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(data);
+		} catch (JsonProcessingException e) {
+			throw new KieroException(SseErrorCode.EVENT_CONVERT_FAILED);
+		}
+
+		return stringRedisTemplate.execute(APPEND, List.of(SEQUENCE_KEY_PREFIX + key, STREAM_KEY_PREFIX + key),
+			String.valueOf(clock.instant().getEpochSecond() * ID_SEED_MULTIPLIER),
+			eventName,
+			json,
+			String.valueOf(capacity),
+			String.valueOf(IDLE_EXPIRATION.toSeconds()));
+	}
+
+	@Override
+	public SseReplay readAfter(String key, long lastEventId) {
+		String latest = stringRedisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + key);
+		if (latest == null) {
+			return SseReplay.snapshotRequired(null);
+		}
+
+		long latestId = Long.parseLong(latest);
+		if (lastEventId > latestId) {
+			return SseReplay.snapshotRequired(latestId);
+		}
+		if (lastEventId == latestId) {
+			return SseReplay.of(List.of(), latestId);
+		}
+
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().range(
+			STREAM_KEY_PREFIX + key,
+			Range.rightUnbounded(Range.Bound.inclusive((lastEventId + 1) + "-0")));
+
+		// 바로 다음 id부터 남아 있어야 빠짐없이 재전송할 수 있음
+		if (records == null || records.isEmpty()
+			|| records.get(0).getId().getTimestamp() != lastEventId + 1) {
+			return SseReplay.snapshotRequired(latestId);
+		}
+
+		List<SseFrame> frames = new ArrayList<>(records.size());
+		for (MapRecord<String, Object, Object> record : records) {
+			Map<Object, Object> fields = record.getValue();
+			frames.add(new SseFrame(
+				record.getId().getTimestamp(),
+				(String)fields.get(EVENT_NAME_FIELD),
+				RawJson.of((String)fields.get(DATA_FIELD))));
+		}
+		return SseReplay.of(frames, latestId);
+	}
+}
@@ -1,16 +1,24 @@
 package com.kiero.global.infrastructure.sse.repository;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Collection;
 
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
 
 public interface SseEmitterRepository<K> {
-	SseEmitterWrapper get(String key);
+	// key(회원)에 연결된 이 노드의 모든 연결 (기기별로 하나씩)
+	Collection<SseConnection> get(String key);
 
-	void save(String key, SseEmitter emitter, LocalDateTime expiresAt);
+	void save(String key, SseConnection connection);
 
-	Map<String, SseEmitterWrapper> findAll();
+	Collection<SseConnection> findAll();
 
-	void remove(String key);
+	// 같은 key의 다른 연결에는 영향을 주지 않음
+	void remove(String key, SseConnection connection);
+
+	// key의 구독자에게 이벤트를 보냄 (구현에 따라 다른 노드에 연결된 구독자에게도 전달됨)
+	void send(String key, SseFrame frame);
+
+	// 모든 구독자에게 이벤트를 보냄 (공지 등, 재전송 버퍼에는 들어가지 않음)
+	void broadcast(SseFrame frame);
 }
@@ -0,0 +1,20 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import com.kiero.global.infrastructure.sse.domain.SseReplay;
+
+/*
+key별 최근 이벤트를 일정 개수만큼 보관하는 버퍼 (재구독 시 Last-Event-ID 이후 이벤트 재전송용)
+이벤트 id는 key 안에서 단조 증가하며, 버퍼가 새로 만들어질 때(재기동, 만료) 현재 시각 기반 값에서 시작하므로
+이전에 발급된 id와 겹치지 않음
+ */
+public interface SseReplayBuffer {
+
+	// 현재 시각(초) * ID_SEED_MULTIPLIER 부터 id를 발급함 (초당 1000건 이하라면 이전 id보다 항상 큼)
+	long ID_SEED_MULTIPLIER = 1_000L;
+
+	// 이벤트를 버퍼에 넣고 발급한 이벤트 id를 반환함
+	long append(String key, String eventName, Object data);
+
+	// lastEventId 이후의 이벤트를 id 순서로 반환함
+	SseReplay readAfter(String key, long lastEventId);
+}
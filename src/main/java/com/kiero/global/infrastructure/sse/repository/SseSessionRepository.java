@@ -0,0 +1,75 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+SSE 세션 (구독 연결 하나의 만료 시각) 저장소
+- 연장 요청은 어느 노드로든 올 수 있으므로 Redis에 두고, 연결을 가진 노드는 만료 시각이 되었을 때 여기서 연장 여부를 확인함
+- 시각은 모두 epoch millis
+ */
+@Component
+@RequiredArgsConstructor
+public class SseSessionRepository {
+
+	private static final String KEY_PREFIX = "sse-session:";
+	private static final String MEMBER_KEY_FIELD = "key";
+	private static final String EXPIRES_AT_FIELD = "expiresAt";
+	private static final String MAX_UNTIL_FIELD = "maxUntil";
+	// 만료 시각이 지나도 연결을 가진 노드가 확인할 때까지 남겨 둠
+	private static final Duration GRACE = Duration.ofMinutes(1);
+
+	// KEYS[1]: 세션 키 / ARGV: 연장할 만료 시각, 유예(ms)
+	// 세션이 없으면 -1, 있으면 max(현재 만료 시각, min(연장할 만료 시각, 최대 만료 시각))을 저장하고 반환
+	private static final RedisScript<Long> RENEW = new DefaultRedisScript<>("""
+		local values = redis.call('HMGET', KEYS[1], 'expiresAt', 'maxUntil')
+		if not values[1] then
+			return -1
+		end
+		local expiresAt = tonumber(values[1])
+		local renewed = math.min(tonumber(ARGV[1]), tonumber(values[2]))
+		if renewed > expiresAt then
+			redis.call('HSET', KEYS[1], 'expiresAt', tostring(renewed))
+			redis.call('PEXPIREAT', KEYS[1], renewed + tonumber(ARGV[2]))
+			return renewed
+		end
+		return expiresAt
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void create(String sessionId, String memberKey, long expiresAtMs, long maxUntilMs) {
+		String key = KEY_PREFIX + sessionId;
+		stringRedisTemplate.opsForHash().putAll(key, Map.of(
+			MEMBER_KEY_FIELD, memberKey,
+			EXPIRES_AT_FIELD, String.valueOf(expiresAtMs),
+			MAX_UNTIL_FIELD, String.valueOf(maxUntilMs)));
+		stringRedisTemplate.expireAt(key, Instant.ofEpochMilli(expiresAtMs + GRACE.toMillis()));
+	}
+
+	// 세션이 없으면 null
+	public Long renew(String sessionId, long renewToMs) {
+		Long expiresAt = stringRedisTemplate.execute(RENEW, List.of(KEY_PREFIX + sessionId),
+			String.valueOf(renewToMs), String.valueOf(GRACE.toMillis()));
+		return expiresAt == null || expiresAt < 0 ? null : expiresAt;
+	}
+
+	// 세션이 없으면 null
+	public Long findExpiresAt(String sessionId) {
+		Object expiresAt = stringRedisTemplate.opsForHash().get(KEY_PREFIX + sessionId, EXPIRES_AT_FIELD);
+		return expiresAt == null ? null : Long.parseLong((String)expiresAt);
+	}
+
+	public void delete(String sessionId) {
+		stringRedisTemplate.delete(KEY_PREFIX + sessionId);
+	}
+}
@@ -1,60 +1,210 @@
 package com.kiero.global.infrastructure.sse.scheduler;
 
-import java.io.IOException;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.kiero.global.infrastructure.sse.repository.InMemorySseEmitterRepository;
-import com.kiero.global.infrastructure.sse.repository.SseEmitterWrapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.dto.SseSessionResponse;
+import com.kiero.global.infrastructure.sse.repository.SseSessionRepository;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+import com.kiero.global.util.HierarchicalTimingWheel;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 
+/*
+SSE 연결의 heartbeat 전송과 세션 만료 처리
+- 연결을 id 기준으로 SLOT_COUNT개의 슬롯에 나누고, 매 틱(1초)마다 한 슬롯에만 heartbeat를 보냄
+  (전체 연결을 한 번에 훑지 않아 스케줄러 스레드를 오래 점유하지 않음)
+- 한 틱의 heartbeat 프레임은 바이트까지 한 번만 인코딩해 그 슬롯의 모든 연결이 함께 씀
+- 만료 renewLead 전에 renew 이벤트를 보내고, 만료 시각에 세션이 연장되었는지 확인해 연장되었으면 다시 걸고 아니면 연결을 끊음
+  (두 시각 모두 타이밍 휠에 걸어 두어, 틱 단위로 제시각에 처리함)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class SseHeartbeatScheduler {
-	private final InMemorySseEmitterRepository emitterRepository;
 
-	@Scheduled(fixedRate = 25_000)
-	public void heartbeat() {
-		Map<String, SseEmitterWrapper> emitters = emitterRepository.findAll();
+	private static final long TICK_MS = 1_000L;
+	// 슬롯을 한 바퀴 도는 데 25초가 걸리므로, 한 연결은 25초마다 heartbeat를 받음
+	private static final int SLOT_COUNT = 25;
+	private static final int WHEEL_SIZE = 60;
+	private static final String METRIC_PREFIX = "kiero.sse.heartbeat";
+	private static final String RENEW_EVENT_NAME = "renew";
 
-		for (Map.Entry<String, SseEmitterWrapper> entry : emitters.entrySet()) {
-			String key = entry.getKey();
-			SseEmitterWrapper wrappedEmitter = entry.getValue();
+	private final SseDispatcher sseDispatcher;
+	private final SseSessionRepository sseSessionRepository;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final long renewLeadMs;
 
-			if (completeWhenTokenExpired(wrappedEmitter, key)) continue;
+	private final List<Set<SseConnection>> slots = new ArrayList<>(SLOT_COUNT);
+	private final Map<SseConnection, Deadlines> deadlines = new ConcurrentHashMap<>();
+	private HierarchicalTimingWheel<Deadline> deadlineWheel;
+	private Timer sweepTimer;
+	private long tick;
 
-			SseEmitter emitter = wrappedEmitter.getEmitter();
+	public SseHeartbeatScheduler(
+		SseDispatcher sseDispatcher,
+		SseSessionRepository sseSessionRepository,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		Clock clock,
+		@Value("${sse.session.renew-lead-seconds:60}") long renewLeadSeconds
+	) {
+		this.sseDispatcher = sseDispatcher;
+		this.sseSessionRepository = sseSessionRepository;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.renewLeadMs = renewLeadSeconds * 1_000L;
+	}
+
+	@PostConstruct
+	void init() {
+		for (int i = 0; i < SLOT_COUNT; i++) {
+			slots.add(ConcurrentHashMap.newKeySet());
+		}
+		deadlineWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, clock.millis());
+		sweepTimer = Timer.builder(METRIC_PREFIX + ".sweep").register(meterRegistry);
+	}
+
+	public void register(SseConnection connection) {
+		slotOf(connection).add(connection);
+		arm(connection);
+	}
+
+	public void unregister(SseConnection connection) {
+		slotOf(connection).remove(connection);
+
+		Deadlines armed = deadlines.remove(connection);
+		if (armed != null) {
+			armed.cancel();
+		}
+	}
+
+	@Scheduled(fixedRate = TICK_MS)
+	public void tick() {
+		sweepTimer.record(() -> {
+			fireDeadlines();
+			heartbeat(slots.get((int)(tick++ % SLOT_COUNT)));
+		});
+	}
+
+	private void arm(SseConnection connection) {
+		long expiresAtMs = toEpochMilli(connection.getExpiresAt());
+		Deadlines armed = new Deadlines(
+			deadlineWheel.schedule(new Deadline(connection, DeadlineType.RENEW), expiresAtMs - renewLeadMs),
+			deadlineWheel.schedule(new Deadline(connection, DeadlineType.EXPIRE), expiresAtMs));
+
+		Deadlines previous = deadlines.put(connection, armed);
+		if (previous != null) {
+			previous.cancel();
+		}
+	}
+
+	private void fireDeadlines() {
+		for (Deadline deadline : deadlineWheel.advanceTo(clock.millis())) {
+			SseConnection connection = deadline.connection();
+			if (!deadlines.containsKey(connection)) {
+				continue;
+			}
+
+			if (deadline.type() == DeadlineType.RENEW) {
+				sseDispatcher.enqueue(connection, new SseFrame(null, RENEW_EVENT_NAME,
+					SseSessionResponse.of(connection.getSessionId(), connection.getExpiresAt())));
+			} else {
+				expireOrExtend(connection);
+			}
+		}
+	}
+
+	// 세션이 연장되었으면 새 만료 시각으로 다시 걸고, 아니면 연결을 complete
+	private void expireOrExtend(SseConnection connection) {
+		Long renewedMs = null;
+		try {
+			renewedMs = sseSessionRepository.findExpiresAt(connection.getSessionId());
+		} catch (Exception e) {
+			log.warn("SSE 세션 조회 실패: sessionId={}", connection.getSessionId(), e);
+		}
+
+		if (renewedMs != null && renewedMs > clock.millis()) {
+			connection.extendTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(renewedMs), ZoneId.systemDefault()));
+			arm(connection);
+			meterRegistry.counter(METRIC_PREFIX + ".session", "result", "extended").increment();
+			return;
+		}
+
+		deadlines.remove(connection);
+		sseDispatcher.close(connection, "token_expired");
+		meterRegistry.counter(METRIC_PREFIX + ".session", "result", "expired").increment();
+	}
+
+	private void heartbeat(Set<SseConnection> slot) {
+		if (slot.isEmpty()) {
+			return;
+		}
 
-			try {
-				emitter.send(SseEmitter.event()
-					.name("heartbeat")
-					.data(Instant.now().toString()));
-			} catch (IOException | IllegalStateException e) {
-				emitterRepository.remove(key);
+		SseFrame frame = encodeOnce(new SseFrame(null, "heartbeat", Instant.now(clock).toString()));
+		int failed = 0;
+		for (SseConnection connection : slot) {
+			if (!sseDispatcher.enqueue(connection, frame)) {
+				failed++;
 			}
 		}
+		meterRegistry.counter(METRIC_PREFIX, "result", "queued").increment(slot.size() - failed);
+		if (failed > 0) {
+			meterRegistry.counter(METRIC_PREFIX, "result", "failed").increment(failed);
+		}
+	}
+
+	// 인코딩하지 못하면 연결마다 메시지 변환을 거치는 원래 프레임을 보냄
+	private SseFrame encodeOnce(SseFrame frame) {
+		try {
+			return frame.encode(objectMapper);
+		} catch (JsonProcessingException e) {
+			return frame;
+		}
+	}
+
+	private Set<SseConnection> slotOf(SseConnection connection) {
+		return slots.get((int)(connection.getId() % SLOT_COUNT));
 	}
 
-	// accessToken 만료시각이 지나면 연결을 complete
-	private boolean completeWhenTokenExpired(SseEmitterWrapper wrappedEmitter, String key) {
-		LocalDateTime now = LocalDateTime.now();
-		LocalDateTime tokenExpiresAt = wrappedEmitter.getExpiresAt();
-		SseEmitter emitter = wrappedEmitter.getEmitter();
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
 
-		if (now.isAfter(tokenExpiresAt)) {
-			try {
-				emitter.complete();
-			} catch (Exception ignore) { }
+	private enum DeadlineType {
+		RENEW, EXPIRE
+	}
+
+	private record Deadline(SseConnection connection, DeadlineType type) {
+	}
 
-			emitterRepository.remove(key);
-			return true;
+	private record Deadlines(
+		HierarchicalTimingWheel.Timeout<Deadline> renew,
+		HierarchicalTimingWheel.Timeout<Deadline> expire
+	) {
+		private void cancel() {
+			renew.cancel();
+			expire.cancel();
 		}
-		return false;
 	}
 }
@@ -1,9 +1,14 @@
 package com.kiero.global.infrastructure.sse.service;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.kiero.global.auth.enums.Role;
 import com.kiero.global.infrastructure.sse.domain.SseEventType;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseSink;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,33 +22,54 @@ public class EventSseService {
 	private static final String CHILD_KEY_PREFIX = "events:child:";
 
 	private final SseService sseService;
+	private final SseEventCoalescer sseEventCoalescer;
 
 	// 부모의 통합 SSE 구독
-	public SseEmitter subscribeAsParent(Long parentId, String token) {
+	public SseEmitter subscribeAsParent(Long parentId, String token, String lastEventId) {
 		String key = createParentKey(parentId);
 		log.info("부모 SSE 구독: parentId={}", parentId);
-		return sseService.subscribe(key, token);
+		return sseService.subscribe(key, token, lastEventId);
 	}
 
 	// 자녀의 통합 SSE 구독
-	public SseEmitter subscribeAsChild(Long childId, String token) {
+	public SseEmitter subscribeAsChild(Long childId, String token, String lastEventId) {
 		String key = createChildKey(childId);
 		log.info("자녀 SSE 구독: childId={}", childId);
-		return sseService.subscribe(key, token);
+		return sseService.subscribe(key, token, lastEventId);
+	}
+
+	// SSE 게이트웨이의 구독 (자녀는 자녀 key, 그 외는 EventController와 같이 부모 key로 구독)
+	public void subscribe(Long memberId, Role role, String token, String lastEventId, SseSink sink) {
+		String key = role == Role.CHILD ? createChildKey(memberId) : createParentKey(memberId);
+		log.info("SSE 게이트웨이 구독: memberId={}, role={}", memberId, role);
+		sseService.subscribe(key, token, lastEventId, sink);
 	}
 
-	// 부모에게 이벤트 푸시
+	// 부모에게 이벤트 푸시 (트랜잭션 안이면 커밋 후 다른 이벤트와 함께 보냄)
 	public void pushToParent(Long parentId, SseEventType eventType, Object data) {
 		String key = createParentKey(parentId);
 		log.debug("부모 SSE 푸시: parentId={}, eventType={}", parentId, eventType);
-		sseService.push(key, eventType.getEventName(), data);
+		sseEventCoalescer.push(key, eventType.getEventName(), data);
+	}
+
+	// 부모에게 여러 이벤트를 batch 이벤트 하나로 바로 푸시
+	public void pushAllToParent(Long parentId, List<SseFrame> events) {
+		String key = createParentKey(parentId);
+		log.debug("부모 SSE 일괄 푸시: parentId={}, events={}", parentId, events.size());
+		sseService.pushAll(key, events);
 	}
 
-	// 자녀에게 이벤트 푸시
+	// 자녀에게 이벤트 푸시 (트랜잭션 안이면 커밋 후 다른 이벤트와 함께 보냄)
 	public void pushToChild(Long childId, SseEventType eventType, Object data) {
 		String key = createChildKey(childId);
 		log.debug("자녀 SSE 푸시: childId={}, eventType={}", childId, eventType);
-		sseService.push(key, eventType.getEventName(), data);
+		sseEventCoalescer.push(key, eventType.getEventName(), data);
+	}
+
+	// 연결된 모든 부모/자녀에게 이벤트 푸시 (서비스 공지 등)
+	public void broadcast(SseEventType eventType, Object data) {
+		log.info("SSE 전체 푸시: eventType={}", eventType);
+		sseService.broadcast(eventType.getEventName(), data);
 	}
 
 	private String createParentKey(Long parentId) {
@@ -0,0 +1,209 @@
+package com.kiero.global.infrastructure.sse.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseOverflowPolicy;
+import com.kiero.global.infrastructure.sse.domain.SseSink;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+SSE 송신 전용 스레드 풀
+- push는 연결의 큐에 넣기만 하므로, 이벤트를 발생시킨 요청 스레드가 느린 소켓 때문에 멈추지 않음
+- 큐가 빈 상태에서 이벤트가 들어오면 그 연결의 드레인을 풀에 예약하고, 한 번에 최대 MAX_FRAMES_PER_DRAIN개를 꺼내
+  batch 이벤트로 묶어 보낸 뒤, 남은 이벤트가 있으면 다시 예약해 다른 연결에도 차례가 돌아가게 함
+  (연달아 들어온 이벤트는 앞선 송신이 끝나기를 기다리는 동안 쌓여 한 번의 write로 나감)
+- 송신이 sendTimeout 이상 끝나지 않는 연결은 watchdog이 끊음 (끊긴 소켓의 write가 풀러 스레드를 점유하지 않도록)
+  (SSE 게이트웨이 연결은 send가 버퍼에 넣기만 하므로, 버퍼 한도를 넘으면 송신 실패로 끊음)
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+	private static final int MAX_FRAMES_PER_DRAIN = 32;
+	private static final String METRIC_PREFIX = "kiero.sse.";
+
+	private final MeterRegistry meterRegistry;
+	private final int queueCapacity;
+	private final SseOverflowPolicy overflowPolicy;
+	private final long sendTimeoutNanos;
+	private final ExecutorService executor;
+	private final Timer sendLatency;
+	private final DistributionSummary framesPerWrite;
+
+	private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+	private final AtomicLong connectionSequence = new AtomicLong();
+
+	public SseDispatcher(
+		MeterRegistry meterRegistry,
+		@Value("${sse.dispatch.threads:4}") int threads,
+		@Value("${sse.dispatch.queue-capacity:64}") int queueCapacity,
+		@Value("${sse.dispatch.overflow-policy:COALESCE}") SseOverflowPolicy overflowPolicy,
+		@Value("${sse.dispatch.send-timeout-millis:5000}") long sendTimeoutMillis
+	) {
+		this.meterRegistry = meterRegistry;
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+		this.executor = Executors.newFixedThreadPool(threads, daemonThreadFactory());
+		this.sendLatency = Timer.builder(METRIC_PREFIX + "send.latency")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.framesPerWrite = DistributionSummary.builder(METRIC_PREFIX + "frames.per.write")
+			.register(meterRegistry);
+
+		Gauge.builder(METRIC_PREFIX + "connections", connections, Set::size).register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "queue.depth", connections,
+			all -> all.stream().mapToInt(SseConnection::queueSize).sum()).register(meterRegistry);
+	}
+
+	public SseConnection open(String sessionId, SseSink sink, LocalDateTime expiresAt,
+		Consumer<SseConnection> onClose) {
+		SseConnection connection = new SseConnection(
+			connectionSequence.incrementAndGet(), sessionId, sink, expiresAt, queueCapacity, onClose);
+		connections.add(connection);
+		return connection;
+	}
+
+	// 큐에 넣지 못했으면 (이미 닫혔거나 넘쳐서 끊었으면) false
+	public boolean enqueue(SseConnection connection, SseFrame frame) {
+		SseConnection.Offer offer = connection.offer(frame, overflowPolicy);
+		if (offer == SseConnection.Offer.CLOSED) {
+			return false;
+		}
+		if (offer.overflowed()) {
+			close(connection, "overflow");
+			return false;
+		}
+		if (offer.dropped() > 0) {
+			meterRegistry.counter(METRIC_PREFIX + "dropped", "policy", overflowPolicy.name())
+				.increment(offer.dropped());
+		}
+		if (offer.drainRequired()) {
+			executor.execute(() -> drain(connection));
+		}
+		return true;
+	}
+
+	public void close(SseConnection connection, String reason) {
+		if (connection.close()) {
+			connections.remove(connection);
+			meterRegistry.counter(METRIC_PREFIX + "disconnected", "reason", reason).increment();
+		}
+	}
+
+	// 송신이 sendTimeout 이상 끝나지 않은 연결을 끊음
+	@Scheduled(fixedDelay = 1_000)
+	public void closeStalledConnections() {
+		long now = System.nanoTime();
+		for (SseConnection connection : connections) {
+			long startedAt = connection.getSendStartedNanos();
+			if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+				log.debug("SSE 송신 시간 초과로 연결 종료");
+				close(connection, "send_timeout");
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void drain(SseConnection connection) {
+		List<SseFrame> frames = connection.pollBatchOrFinish(MAX_FRAMES_PER_DRAIN);
+		if (frames.isEmpty()) {
+			return;
+		}
+
+		for (SseFrame frame : merge(frames)) {
+			if (!send(connection, frame)) {
+				return;
+			}
+		}
+
+		if (connection.hasPending()) {
+			executor.execute(() -> drain(connection));
+		}
+	}
+
+	private boolean send(SseConnection connection, SseFrame frame) {
+		long startedAt = System.nanoTime();
+		connection.markSendStarted(startedAt);
+		try {
+			connection.getSink().send(frame);
+			sendLatency.record(Duration.ofNanos(System.nanoTime() - startedAt));
+			return true;
+		} catch (Exception e) {
+			close(connection, "send_failed");
+			return false;
+		} finally {
+			connection.markSendFinished();
+		}
+	}
+
+	/*
+	이전 송신 중에 쌓인 이벤트들을 batch 이벤트 하나로 묶어 한 번의 write로 보냄
+	이미 묶인 batch 이벤트는 그대로 두고, 그 앞뒤의 이벤트끼리만 묶음 (순서 유지)
+	 */
+	private List<SseFrame> merge(List<SseFrame> frames) {
+		if (frames.size() == 1) {
+			framesPerWrite.record(1);
+			return frames;
+		}
+
+		List<SseFrame> merged = new ArrayList<>();
+		List<SseFrame> pending = new ArrayList<>();
+		for (SseFrame frame : frames) {
+			if (frame.isBatch()) {
+				flush(pending, merged);
+				merged.add(frame);
+			} else {
+				pending.add(frame);
+			}
+		}
+		flush(pending, merged);
+		return merged;
+	}
+
+	private void flush(List<SseFrame> pending, List<SseFrame> merged) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		merged.add(pending.size() == 1 ? pending.get(0) : SseFrame.batch(List.copyOf(pending)));
+		framesPerWrite.record(pending.size());
+		pending.clear();
+	}
+
+	private static ThreadFactory daemonThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "sse-dispatch-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
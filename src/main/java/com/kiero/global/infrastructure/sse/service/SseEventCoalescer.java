@@ -0,0 +1,76 @@
+package com.kiero.global.infrastructure.sse.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+트랜잭션 안에서 발생한 SSE 이벤트를 수신자(key)별로 모아 커밋 후에 한 번에 보냄
+- 수신자에게 이벤트가 여러 개면 batch 이벤트 하나로 묶이므로, 일괄 생성 같은 작업도 수신자당 한 번만 씀
+- 롤백되면 보내지 않음
+- 트랜잭션이 없으면 바로 보냄
+- 트랜잭션이 진행 중일 때(서비스 안, @EventListener, BEFORE_COMMIT 리스너) 호출해야 모임
+  AFTER_COMMIT 리스너는 동기화가 정리된 뒤 실행되므로 그 안에서 호출하면 모이지 않고 바로 보냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventCoalescer {
+
+	private static final Object RESOURCE_KEY = SseEventCoalescer.class;
+
+	private final SseService sseService;
+
+	public void push(String key, String eventName, Object data) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			sseService.push(key, eventName, data);
+			return;
+		}
+
+		pendingEvents().computeIfAbsent(key, k -> new ArrayList<>()).add(new SseFrame(null, eventName, data));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, List<SseFrame>> pendingEvents() {
+		Map<String, List<SseFrame>> pending =
+			(Map<String, List<SseFrame>>)TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+		if (pending != null) {
+			return pending;
+		}
+
+		Map<String, List<SseFrame>> created = new LinkedHashMap<>();
+		TransactionSynchronizationManager.bindResource(RESOURCE_KEY, created);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				flush(created);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+			}
+		});
+		return created;
+	}
+
+	private void flush(Map<String, List<SseFrame>> pending) {
+		pending.forEach((key, events) -> {
+			try {
+				sseService.pushAll(key, events);
+			} catch (Exception e) {
+				log.warn("SSE 이벤트 전송 실패: key={}, events={}", key, events.size(), e);
+			}
+		});
+	}
+}
@@ -1,56 +1,217 @@
 package com.kiero.global.infrastructure.sse.service;
 
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.kiero.global.auth.jwt.service.JwtTokenProvider;
+import com.kiero.global.exception.KieroException;
+import com.kiero.global.infrastructure.sse.domain.EmitterSseSink;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseReplay;
+import com.kiero.global.infrastructure.sse.domain.SseSink;
+import com.kiero.global.infrastructure.sse.dto.SseSessionResponse;
+import com.kiero.global.infrastructure.sse.exception.SseErrorCode;
 import com.kiero.global.infrastructure.sse.repository.SseEmitterRepository;
-import com.kiero.global.infrastructure.sse.repository.SseEmitterWrapper;
+import com.kiero.global.infrastructure.sse.repository.SseReplayBuffer;
+import com.kiero.global.infrastructure.sse.repository.SseSessionRepository;
+import com.kiero.global.infrastructure.sse.scheduler.SseHeartbeatScheduler;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/*
+구독 연결은 세션 하나에 대응함
+- 세션 만료 시각은 구독 토큰의 만료 시각에서 시작하고, 만료 전에 보내는 renew 이벤트를 받은 클라이언트가
+  세션 id로 연장 요청을 보내면 sessionExtension만큼 늘어남 (구독 후 sessionMaxLifetime까지)
+- 연장되지 않은 세션은 만료 시각에 연결이 끊기고, 클라이언트는 새 구독 토큰으로 다시 구독함
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SseService {
 
-	private static final long DEFAULT_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+	private static final String REPLAY_METRIC_NAME = "kiero.sse.replay";
+	private static final String SESSION_EVENT_NAME = "session";
+	private static final int SESSION_ID_BYTES = 32;
 
 	private final SseEmitterRepository<String> emitterRepository;
+	private final SseReplayBuffer replayBuffer;
+	private final SseDispatcher sseDispatcher;
+	private final SseHeartbeatScheduler heartbeatScheduler;
+	private final SseSessionRepository sseSessionRepository;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+	private final Duration sessionExtension;
+	private final Duration sessionMaxLifetime;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	public SseService(
+		SseEmitterRepository<String> emitterRepository,
+		SseReplayBuffer replayBuffer,
+		SseDispatcher sseDispatcher,
+		SseHeartbeatScheduler heartbeatScheduler,
+		SseSessionRepository sseSessionRepository,
+		JwtTokenProvider jwtTokenProvider,
+		MeterRegistry meterRegistry,
+		Clock clock,
+		@Value("${sse.session.extension-minutes:30}") long sessionExtensionMinutes,
+		@Value("${sse.session.max-lifetime-hours:12}") long sessionMaxLifetimeHours
+	) {
+		this.emitterRepository = emitterRepository;
+		this.replayBuffer = replayBuffer;
+		this.sseDispatcher = sseDispatcher;
+		this.heartbeatScheduler = heartbeatScheduler;
+		this.sseSessionRepository = sseSessionRepository;
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.meterRegistry = meterRegistry;
+		this.clock = clock;
+		this.sessionExtension = Duration.ofMinutes(sessionExtensionMinutes);
+		this.sessionMaxLifetime = Duration.ofHours(sessionMaxLifetimeHours);
+	}
 
-	public SseEmitter subscribe(String key, String token) {
+	/*
+	lastEventId가 있으면 (재구독) 그 이후의 이벤트를 재전송함
+	재전송할 이벤트가 이미 버퍼에서 밀려났으면 snapshot-required 이벤트만 보내고, 클라이언트가 화면을 다시 조회함
+	구독을 먼저 등록한 뒤 재전송하므로 같은 이벤트가 두 번 갈 수 있으며, 클라이언트는 id로 중복을 거름
+	 */
+	public SseEmitter subscribe(String key, String token, String lastEventId) {
+		// 연결은 세션 만료 시각에 끊으므로, emitter 자체의 타임아웃은 세션 최대 수명으로 둠
+		SseEmitter emitter = new SseEmitter(sessionMaxLifetime.toMillis());
+		subscribe(key, token, lastEventId, new EmitterSseSink(emitter));
+		return emitter;
+	}
+
+	// 서블릿이 아닌 전송 방식(SSE 게이트웨이)의 연결도 같은 세션/재전송/송신 큐를 씀
+	public void subscribe(String key, String token, String lastEventId, SseSink sink) {
 		LocalDateTime tokenExpiresAt = jwtTokenProvider.getExpirationDateTime(token);
 
-		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT_MILLIS);
+		String sessionId = newSessionId();
+		sseSessionRepository.create(sessionId, key, toEpochMilli(tokenExpiresAt),
+			clock.millis() + sessionMaxLifetime.toMillis());
 
-		emitterRepository.save(key, emitter, tokenExpiresAt);
+		SseConnection connection = sseDispatcher.open(sessionId, sink, tokenExpiresAt, closed -> {
+			heartbeatScheduler.unregister(closed);
+			emitterRepository.remove(key, closed);
+			deleteSession(closed.getSessionId());
+		});
 
-		log.info("SSE 구독 생성: key={}, tokenExpiresAt={}", key, tokenExpiresAt);
+		heartbeatScheduler.register(connection);
+		emitterRepository.save(key, connection);
 
-		emitter.onCompletion(() -> emitterRepository.remove(key));
-		emitter.onTimeout(() -> emitterRepository.remove(key));
-		emitter.onError(e -> emitterRepository.remove(key));
+		log.info("SSE 구독 생성: key={}, connectionId={}, tokenExpiresAt={}, lastEventId={}",
+			key, connection.getId(), tokenExpiresAt, lastEventId);
 
-		safeSend(key, "connected", "subscribed");
-		return emitter;
+		sink.onTerminate(reason -> sseDispatcher.close(connection, reason));
+
+		sseDispatcher.enqueue(connection, new SseFrame(null, "connected", "subscribed"));
+		sseDispatcher.enqueue(connection, new SseFrame(null, SESSION_EVENT_NAME,
+			SseSessionResponse.of(sessionId, tokenExpiresAt)));
+		if (lastEventId != null && !lastEventId.isBlank()) {
+			replay(key, connection, lastEventId);
+		}
 	}
 
 	public void push(String key, String eventName, Object data) {
-		safeSend(key, eventName, data);
+		emitterRepository.send(key, new SseFrame(appendToReplayBuffer(key, eventName, data), eventName, data));
+	}
+
+	// 여러 이벤트를 batch 이벤트 하나로 보냄 (재전송 버퍼에는 이벤트별로 들어감)
+	public void pushAll(String key, List<SseFrame> events) {
+		if (events.size() == 1) {
+			push(key, events.get(0).eventName(), events.get(0).data());
+			return;
+		}
+
+		List<SseFrame> frames = new ArrayList<>(events.size());
+		for (SseFrame event : events) {
+			Long eventId = appendToReplayBuffer(key, event.eventName(), event.data());
+			frames.add(new SseFrame(eventId, event.eventName(), event.data()));
+		}
+		emitterRepository.send(key, SseFrame.batch(frames));
 	}
 
-	private void safeSend(String key, String eventName, Object data) {
-		SseEmitterWrapper emitter = emitterRepository.get(key);
-		if (emitter == null) return;
+	// 모든 구독자에게 보냄 (프레임은 노드마다 한 번만 인코딩됨, 재전송 버퍼에는 넣지 않으므로 id 없음)
+	public void broadcast(String eventName, Object data) {
+		emitterRepository.broadcast(new SseFrame(null, eventName, data));
+	}
 
+	/*
+	세션 만료 시각을 지금부터 sessionExtension 뒤로 늘림 (구독 후 sessionMaxLifetime을 넘지 않음)
+	연결을 가진 노드는 원래 만료 시각에 이 값을 확인해 연결을 유지함
+	 */
+	public SseSessionResponse renew(String sessionId) {
+		Long expiresAtMs = sseSessionRepository.renew(sessionId, clock.millis() + sessionExtension.toMillis());
+		if (expiresAtMs == null) {
+			throw new KieroException(SseErrorCode.SESSION_NOT_FOUND);
+		}
+		return SseSessionResponse.of(sessionId,
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMs), ZoneId.systemDefault()));
+	}
+
+	// 재구독한 연결에만 재전송함 (같은 회원의 다른 기기는 이미 받았음)
+	private void replay(String key, SseConnection connection, String lastEventId) {
+		SseReplay replay;
 		try {
-			emitter.getEmitter().send(SseEmitter.event().name(eventName).data(data));
+			replay = replayBuffer.readAfter(key, Long.parseLong(lastEventId));
+		} catch (NumberFormatException e) {
+			replay = SseReplay.snapshotRequired(null);
 		} catch (Exception e) {
-			emitterRepository.remove(key);
+			log.warn("SSE 재전송 버퍼 조회 실패: key={}", key, e);
+			replay = SseReplay.snapshotRequired(null);
+		}
+
+		if (replay.snapshotRequired()) {
+			countReplay("snapshot_required");
+			sseDispatcher.enqueue(connection, SseFrame.snapshotRequired(replay.latestId()));
+			return;
 		}
+
+		countReplay(replay.frames().isEmpty() ? "up_to_date" : "replayed");
+		replay.frames().forEach(frame -> sseDispatcher.enqueue(connection, frame));
+	}
+
+	// 버퍼에 넣지 못해도 실시간 전달은 함 (이 이벤트는 id가 없고 재전송되지 않음)
+	private Long appendToReplayBuffer(String key, String eventName, Object data) {
+		try {
+			return replayBuffer.append(key, eventName, data);
+		} catch (Exception e) {
+			log.warn("SSE 재전송 버퍼 저장 실패: key={}, eventName={}", key, eventName, e);
+			return null;
+		}
+	}
+
+	private String newSessionId() {
+		byte[] bytes = new byte[SESSION_ID_BYTES];
+		secureRandom.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private void deleteSession(String sessionId) {
+		try {
+			sseSessionRepository.delete(sessionId);
+		} catch (Exception e) {
+			log.warn("SSE 세션 삭제 실패: sessionId={}", sessionId, e);
+		}
+	}
+
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private void countReplay(String result) {
+		meterRegistry.counter(REPLAY_METRIC_NAME, "result", result).increment();
 	}
-}
\ No newline at end of file
+}
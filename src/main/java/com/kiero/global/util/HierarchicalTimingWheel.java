@@ -0,0 +1,181 @@
+package com.kiero.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+계층형 타이밍 휠 (Kafka의 TimingWheel과 같은 방식)
+- 레벨 0은 tickMs 단위의 버킷 wheelSize개로 구성되고, 상위 레벨의 한 칸은 바로 아래 레벨 한 바퀴의 길이와 같음
+- 범위를 벗어나는 만료 시각이 들어오면 상위 레벨을 필요한 만큼 추가함
+- 상위 레벨의 버킷 시작 시각에 도달하면 버킷의 항목을 다시 넣어 하위 레벨로 내림(cascade)
+- 시계를 직접 읽지 않고 advanceTo(now)로만 시간이 흐르므로, 구동 주기와 시계는 호출하는 쪽에서 정함
+
+스레드 안전하며, 등록/취소는 O(1), 한 틱 진행은 (레벨 수 + 만료된 항목 수)에 비례함
+ */
+public class HierarchicalTimingWheel<T> {
+
+	private final long tickMs;
+	private final int wheelSize;
+	private final List<Level<T>> levels = new ArrayList<>();
+
+	// tickMs 단위로 내림한 현재 시각
+	private long currentTime;
+	private int size;
+
+	public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+		if (tickMs <= 0 || wheelSize <= 1) {
+			throw new IllegalArgumentException("tickMs는 양수, wheelSize는 2 이상이어야 합니다.");
+		}
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.currentTime = startMs - (startMs % tickMs);
+		this.levels.add(new Level<>(tickMs, wheelSize));
+	}
+
+	/*
+	expirationMs에 만료되도록 task를 등록함
+	이미 현재 틱에 속하는 시각이면 다음 advanceTo 호출에서 바로 만료됨
+	 */
+	public synchronized Timeout<T> schedule(T task, long expirationMs) {
+		Timeout<T> timeout = new Timeout<>(this, task, expirationMs);
+		if (!place(timeout)) {
+			// 현재 틱의 버킷은 이미 비워졌으므로 다음 틱에 만료되도록 레벨 0의 다음 버킷에 넣음
+			Set<Timeout<T>> nextBucket = levels.get(0).bucketOf(currentTime + tickMs);
+			nextBucket.add(timeout);
+			timeout.bucket = nextBucket;
+		}
+		size++;
+		return timeout;
+	}
+
+	/*
+	nowMs까지 시간을 진행시키고, 그 사이 만료된 task를 만료 시각 순서(틱 단위)로 반환함
+	 */
+	public synchronized List<T> advanceTo(long nowMs) {
+		List<T> expired = new ArrayList<>();
+		while (currentTime + tickMs <= nowMs) {
+			currentTime += tickMs;
+
+			// 상위 레벨부터 내려와야, cascade된 항목이 같은 틱의 하위 레벨 버킷 처리에 포함됨
+			for (int i = levels.size() - 1; i >= 0; i--) {
+				Level<T> level = levels.get(i);
+				if (currentTime % level.tickMs != 0) {
+					continue;
+				}
+
+				Set<Timeout<T>> bucket = level.bucketOf(currentTime);
+				if (bucket.isEmpty()) {
+					continue;
+				}
+
+				List<Timeout<T>> drained = new ArrayList<>(bucket);
+				bucket.clear();
+				for (Timeout<T> timeout : drained) {
+					timeout.bucket = null;
+					if (!place(timeout)) {
+						size--;
+						timeout.expired = true;
+						expired.add(timeout.task);
+					}
+				}
+			}
+		}
+		return expired;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public long getTickMs() {
+		return tickMs;
+	}
+
+	private synchronized boolean cancel(Timeout<T> timeout) {
+		if (timeout.expired || timeout.cancelled) {
+			return false;
+		}
+		timeout.cancelled = true;
+		if (timeout.bucket != null) {
+			timeout.bucket.remove(timeout);
+			timeout.bucket = null;
+		}
+		size--;
+		return true;
+	}
+
+	// 만료 시각이 현재 틱에 속하면 false, 아니면 범위에 맞는 가장 낮은 레벨의 버킷에 넣고 true
+	private boolean place(Timeout<T> timeout) {
+		long expiration = timeout.expirationMs;
+		if (expiration < currentTime + tickMs) {
+			return false;
+		}
+
+		int index = 0;
+		while (true) {
+			if (index == levels.size()) {
+				Level<T> top = levels.get(index - 1);
+				levels.add(new Level<>(top.tickMs * wheelSize, wheelSize));
+			}
+
+			Level<T> level = levels.get(index);
+			long levelCurrentTime = currentTime - (currentTime % level.tickMs);
+			if (expiration < levelCurrentTime + level.intervalMs) {
+				Set<Timeout<T>> bucket = level.bucketOf(expiration);
+				bucket.add(timeout);
+				timeout.bucket = bucket;
+				return true;
+			}
+			index++;
+		}
+	}
+
+	private static final class Level<T> {
+		private final long tickMs;
+		private final long intervalMs;
+		private final List<Set<Timeout<T>>> buckets;
+
+		private Level(long tickMs, int wheelSize) {
+			this.tickMs = tickMs;
+			this.intervalMs = tickMs * wheelSize;
+			this.buckets = new ArrayList<>(wheelSize);
+			for (int i = 0; i < wheelSize; i++) {
+				buckets.add(new LinkedHashSet<>());
+			}
+		}
+
+		private Set<Timeout<T>> bucketOf(long timeMs) {
+			return buckets.get((int)((timeMs / tickMs) % buckets.size()));
+		}
+	}
+
+	public static final class Timeout<T> {
+		private final HierarchicalTimingWheel<T> wheel;
+		private final T task;
+		private final long expirationMs;
+		private Set<Timeout<T>> bucket;
+		private boolean cancelled;
+		private boolean expired;
+
+		private Timeout(HierarchicalTimingWheel<T> wheel, T task, long expirationMs) {
+			this.wheel = wheel;
+			this.task = task;
+			this.expirationMs = expirationMs;
+		}
+
+		public T getTask() {
+			return task;
+		}
+
+		public long getExpirationMs() {
+			return expirationMs;
+		}
+
+		// 이미 만료되었거나 취소된 경우 false
+		public boolean cancel() {
+			return wheel.cancel(this);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.kiero.global.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/*
+이미 JSON으로 직렬화된 값을 그대로 들고 다니는 래퍼
+- 직렬화 시 파싱하지 않고 원문을 그대로 씀 (JsonNode 트리를 만들지 않음)
+- 역직렬화 시에는 토큰을 그대로 복사해 원문을 만듦 (마찬가지로 트리를 만들지 않음)
+- 값이 올바른 JSON인지는 검사하지 않으므로, 신뢰할 수 있는 곳(DB, 직접 직렬화한 값)에서 온 문자열에만 사용함
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+@JsonDeserialize(using = RawJson.Deserializer.class)
+public record RawJson(String value) {
+
+	public static RawJson of(String value) {
+		return value == null ? null : new RawJson(value);
+	}
+
+	@Override
+	public String toString() {
+		return value;
+	}
+
+	static class Serializer extends JsonSerializer<RawJson> {
+		@Override
+		public void serialize(RawJson rawJson, JsonGenerator generator, SerializerProvider provider)
+			throws IOException {
+			generator.writeRawValue(rawJson.value());
+		}
+	}
+
+	static class Deserializer extends JsonDeserializer<RawJson> {
+		private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+		@Override
+		public RawJson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			StringWriter writer = new StringWriter();
+			try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+				generator.copyCurrentStructure(parser);
+			}
+			return new RawJson(writer.toString());
+		}
+	}
+}
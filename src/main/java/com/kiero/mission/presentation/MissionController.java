@@ -4,6 +4,8 @@ import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
 import com.kiero.global.auth.enums.Role;
 import com.kiero.global.exception.KieroException;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
 import com.kiero.global.response.code.ErrorCode;
 import com.kiero.global.response.dto.SuccessResponse;
 import com.kiero.mission.exception.MissionSuccessCode;
@@ -54,6 +56,7 @@ public class MissionController {
     }
 
     @PreAuthorize("hasAnyRole('CHILD', 'PARENT', 'ADMIN')")
+    @ConditionalGet(value = ResourceVersionScope.MISSION, childIdParam = "childId")
     @GetMapping("/missions")
     public ResponseEntity<SuccessResponse<MissionsByDateResponse>> getMissions(
             @CurrentMember CurrentAuth currentAuth,
@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -49,6 +50,7 @@ public class MissionService {
 
     private final EntityManager em;
     private final ResourceLoader resourceLoader;
+    private final Clock clock;
 
   @Transactional
   public MissionResponse createMission(Long parentId, Long childId, MissionCreateRequest request) {
@@ -88,7 +90,7 @@ public class MissionService {
 
   @Transactional(readOnly = true)
   public List<MissionResponse> getMissionsByParent(Long parentId, Long childId) {
-    LocalDate today = LocalDate.now();
+    LocalDate today = LocalDate.now(clock);
 
     // Case1. 특정 자녀 조회
     if (childId != null) {
@@ -106,7 +108,7 @@ public class MissionService {
 
   @Transactional(readOnly = true)
   public List<MissionResponse> getMissionsByChild(Long childId) {
-    LocalDate today = LocalDate.now();
+    LocalDate today = LocalDate.now(clock);
 
     return missionRepository.findAllByChildIdAndDueAtGreaterThanEqual(childId, today).stream()
         .map(MissionResponse::from)
@@ -130,7 +132,7 @@ public class MissionService {
     }
 
     // 4. 마감일 체크
-    if (mission.getDueAt().isBefore(LocalDate.now())) {
+    if (mission.getDueAt().isBefore(LocalDate.now(clock))) {
       throw new KieroException(MissionErrorCode.MISSION_EXPIRED);
     }
 
@@ -148,7 +150,7 @@ public class MissionService {
         child.getId(),
         mission.getReward(),
         mission.getName(),
-        LocalDateTime.now()
+        LocalDateTime.now(clock)
     ));
 
     log.info("Mission completed: missionId={}, childId={}, reward={}, newCoinAmount={}",
@@ -1,6 +1,8 @@
 package com.kiero.parent.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +18,9 @@ public interface ParentChildRepository extends JpaRepository<ParentChild, Long>
 	@Query("SELECT pc.child.id FROM ParentChild pc WHERE pc.parent.id = :parentId")
 	List<Long> findChildIdsByParentId(@Param("parentId") Long parentId);
 
+	@Query("SELECT pc.parent.id FROM ParentChild pc WHERE pc.child.id = :childId")
+	List<Long> findParentIdsByChildId(@Param("childId") Long childId);
+
 	boolean existsByParentAndChild(Parent parent, Child child);
 
 	@EntityGraph(attributePaths = {"child"})
@@ -23,6 +28,14 @@ public interface ParentChildRepository extends JpaRepository<ParentChild, Long>
 
 	boolean existsByParentIdAndChildId(Long parentId, Long childId);
 
+	@Query("""
+		select pc.createdAt
+		from ParentChild pc
+		where pc.parent.id = :parentId
+		  and pc.child.id = :childId
+		""")
+	Optional<LocalDateTime> findLinkedAt(@Param("parentId") Long parentId, @Param("childId") Long childId);
+
 	@Query("""
 		select pc.parent
 		from ParentChild pc
@@ -0,0 +1,56 @@
+package com.kiero.schedule.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.kiero.child.domain.Child;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+아이의 날짜별 불피우기 기록
+(child_id, date) 유니크 키로 하루 한 번만 기록되며, 기록을 선점한 요청만 불피우기 보상을 받음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(
+	name = FireLitRecordTableConstants.TABLE_FIRE_LIT_RECORD,
+	uniqueConstraints = @UniqueConstraint(
+		name = FireLitRecordTableConstants.UK_FIRE_LIT_RECORD_CHILD_DATE,
+		columnNames = {FireLitRecordTableConstants.COLUMN_CHILD_ID, FireLitRecordTableConstants.COLUMN_DATE}
+	)
+)
+public class FireLitRecord {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = FireLitRecordTableConstants.COLUMN_ID)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = FireLitRecordTableConstants.COLUMN_CHILD_ID, nullable = false)
+	private Child child;
+
+	@Column(name = FireLitRecordTableConstants.COLUMN_DATE, nullable = false)
+	private LocalDate date;
+
+	@Column(name = FireLitRecordTableConstants.COLUMN_LIT_AT, nullable = false)
+	private LocalDateTime litAt;
+}
@@ -0,0 +1,10 @@
+package com.kiero.schedule.domain;
+
+public class FireLitRecordTableConstants {
+	public static final String TABLE_FIRE_LIT_RECORD = "fire_lit_record";
+	public static final String COLUMN_ID = "id";
+	public static final String COLUMN_CHILD_ID = "child_id";
+	public static final String COLUMN_DATE = "date";
+	public static final String COLUMN_LIT_AT = "lit_at";
+	public static final String UK_FIRE_LIT_RECORD_CHILD_DATE = "uk_fire_lit_record_child_date";
+}
@@ -53,6 +53,10 @@ public class Schedule extends BaseTimeEntity {
 	@Column(name = ScheduleTableConstants.COLUMN_IS_RECURRING, nullable = false)
 	private boolean isRecurring;
 
+	// 반복 요일 비트마스크 (DayOfWeek.bit() 참고), 단일 일정은 0
+	@Column(name = ScheduleTableConstants.COLUMN_REPEAT_DAYS_MASK, nullable = false)
+	private int repeatDaysMask;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = ScheduleTableConstants.COLUMN_PARENT_ID, nullable = false)
 	private Parent parent;
@@ -68,7 +72,8 @@ public class Schedule extends BaseTimeEntity {
 		LocalTime startTime,
 		LocalTime endTime,
 		ScheduleColor scheduleColor,
-		boolean isRecurring
+		boolean isRecurring,
+		int repeatDaysMask
 	) {
 		return Schedule.builder()
 			.parent(parent)
@@ -78,6 +83,7 @@ public class Schedule extends BaseTimeEntity {
 			.endTime(endTime)
 			.scheduleColor(scheduleColor)
 			.isRecurring(isRecurring)
+			.repeatDaysMask(repeatDaysMask)
 			.build();
 	}
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = ScheduleDetailTableConstants.TABLE_SCHEDULE_DETAIL)
+@Table(
+	name = ScheduleDetailTableConstants.TABLE_SCHEDULE_DETAIL,
+	uniqueConstraints = @UniqueConstraint(
+		name = ScheduleDetailTableConstants.UK_SCHEDULE_DETAIL_SCHEDULE_DATE,
+		columnNames = {ScheduleDetailTableConstants.COLUMN_SCHEDULE_ID, ScheduleDetailTableConstants.COLUMN_DATE}
+	)
+)
 public class ScheduleDetail {
 
 	@Id
@@ -9,4 +9,5 @@ public class ScheduleDetailTableConstants {
 	public static final String COLUMN_STONE_TYPE = "stone_type";
 	public static final String COLUMN_STONE_USED_AT = "stone_used_at";
 	public static final String COLUMN_SCHEDULE_ID = "schedule_id";
+	public static final String UK_SCHEDULE_DETAIL_SCHEDULE_DATE = "uk_schedule_detail_schedule_date";
 }
@@ -1,8 +0,0 @@
-package com.kiero.schedule.domain;
-
-public class ScheduleRepeatDaysTableConstants {
-	public static final String TABLE_SCHEDULE_REPEAT_DAYS = "schedule_repeat_days";
-	public static final String COLUMN_ID = "id";
-	public static final String COLUMN_SCHEDULE_ID = "schedule_id";
-	public static final String COLUMN_DAY_OF_WEEK = "day_of_week";
-}
@@ -8,6 +8,7 @@ public class ScheduleTableConstants {
 	public static final String COLUMN_NAME = "name";
 	public static final String COLUMN_SCHEDULE_COLOR = "schedule_color";
 	public static final String COLUMN_IS_RECURRING = "is_recurring";
+	public static final String COLUMN_REPEAT_DAYS_MASK = "repeat_days_mask";
 	public static final String COLUMN_PARENT_ID = "parent_id";
 	public static final String COLUMN_CHILD_ID = "child_id";
 }
@@ -1,5 +1,9 @@
 package com.kiero.schedule.domain.enums;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -20,4 +24,30 @@ public enum DayOfWeek {
 	public static DayOfWeek from(java.time.DayOfWeek javaDayOfWeek) {
 		return DayOfWeek.valueOf(javaDayOfWeek.name().substring(0, 3));
 	}
+
+	/*
+	반복 요일 비트마스크 (MON = 1, TUE = 2, WED = 4, ..., SUN = 64)
+	 */
+	public int bit() {
+		return 1 << ordinal();
+	}
+
+	public boolean isIn(int mask) {
+		return (mask & bit()) != 0;
+	}
+
+	public static int toMask(Collection<DayOfWeek> dayOfWeeks) {
+		int mask = 0;
+		for (DayOfWeek dayOfWeek : dayOfWeeks) {
+			mask |= dayOfWeek.bit();
+		}
+		return mask;
+	}
+
+	// 요일 순서(MON -> SUN)로 반환함
+	public static List<DayOfWeek> fromMask(int mask) {
+		return Arrays.stream(values())
+			.filter(dayOfWeek -> dayOfWeek.isIn(mask))
+			.toList();
+	}
 }
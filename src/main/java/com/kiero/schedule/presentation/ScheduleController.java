@@ -15,6 +15,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.kiero.global.auth.annotation.CurrentMember;
 import com.kiero.global.auth.dto.CurrentAuth;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
 import com.kiero.global.response.dto.SuccessResponse;
 import com.kiero.schedule.exception.ScheduleSuccessCode;
 import com.kiero.schedule.presentation.dto.DefaultScheduleContentResponse;
@@ -48,6 +50,7 @@ public class ScheduleController {
 	}
 
 	@PreAuthorize("hasAnyRole('PARENT', 'ADMIN')")
+	@ConditionalGet(value = ResourceVersionScope.SCHEDULE, childIdParam = "childId")
 	@GetMapping("/{childId}")
 	public ResponseEntity<SuccessResponse<ScheduleTabResponse>> getSchedules(
 		@RequestParam LocalDate startDate,
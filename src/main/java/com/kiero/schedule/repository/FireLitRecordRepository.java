@@ -0,0 +1,54 @@
+package com.kiero.schedule.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.kiero.schedule.domain.FireLitRecord;
+
+@Repository
+public interface FireLitRecordRepository extends JpaRepository<FireLitRecord, Long> {
+
+	/*
+	(childId, date)의 불피우기 기록을 선점함
+	이미 기록이 있으면 유니크 키에 걸려 무시되므로, 1이 반환된 요청만 불피우기를 진행함
+	동시에 요청되면 나중 요청은 먼저 요청한 트랜잭션이 끝날 때까지 기다렸다가, 커밋되었으면 0 / 롤백되었으면 1을 받음
+	 */
+	@Modifying
+	@Query(value = """
+		insert ignore into fire_lit_record (child_id, date, lit_at)
+		values (:childId, :date, :litAt)
+		""", nativeQuery = true)
+	int claim(
+		@Param("childId") Long childId,
+		@Param("date") LocalDate date,
+		@Param("litAt") LocalDateTime litAt
+	);
+
+	boolean existsByChildIdAndDate(Long childId, LocalDate date);
+
+	@Query("""
+		select r.litAt
+		from FireLitRecord r
+		where r.child.id = :childId
+		  and r.date = :date
+		""")
+	Optional<LocalDateTime> findLitAt(
+		@Param("childId") Long childId,
+		@Param("date") LocalDate date
+	);
+
+	/*
+	데모데이용 임시 메서드
+	 */
+	void deleteByChildIdIn(List<Long> childIds);
+	/*
+	 */
+}
@@ -1,43 +1,23 @@
 package com.kiero.schedule.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kiero.schedule.domain.Schedule;
 import com.kiero.schedule.domain.ScheduleDetail;
+import com.kiero.schedule.domain.enums.ScheduleStatus;
+import com.kiero.schedule.repository.dto.NormalScheduleInterval;
 
 @Repository
 public interface ScheduleDetailRepository extends JpaRepository<ScheduleDetail, Long> {
-	@Query("""
-		 select sd
-		 from ScheduleDetail sd
-		 join fetch sd.schedule s
-		 where s.id in :scheduleIds
-		and sd.date between :startDate and :endDate
-		""")
-	List<ScheduleDetail> findAllByScheduleIdInAndDateBetween(
-		@Param("scheduleIds") List<Long> scheduleIds,
-		@Param("startDate") LocalDate startDate,
-		@Param("endDate") LocalDate endDate
-	);
-
-	@Query("""
-				select (count(sd) > 0)
-				from ScheduleDetail sd
-				where sd.schedule.id in :scheduleIds
-				  and sd.date = :date
-				  and sd.stoneUsedAt is not null
-		""")
-	boolean existsStoneUsedToday(
-		@Param("scheduleIds") List<Long> scheduleIds,
-		@Param("date") LocalDate date
-	);
-
 	@Query("""
 		select sd
 		from ScheduleDetail sd
@@ -61,17 +41,72 @@ public interface ScheduleDetailRepository extends JpaRepository<ScheduleDetail,
 	/*
 	 */
 	@Query("""
-		select sd
+		select new com.kiero.schedule.repository.dto.NormalScheduleInterval(sd.date, s.startTime, s.endTime)
 		from ScheduleDetail sd
-		join fetch sd.schedule s
-		where sd.date in :dates
-		  and s.child.id = :childId
-		order by s.startTime asc
+		join sd.schedule s
+		where s.child.id = :childId
+		  and s.isRecurring = false
+		  and sd.date >= :fromDate
 		""")
-	List<ScheduleDetail> findByDateInAndChildId(
-		@Param("dates") List<LocalDate> dates,
-		@Param("childId") Long childId
+	List<NormalScheduleInterval> findNormalIntervalsByChildIdAndDateGreaterThanEqual(
+		@Param("childId") Long childId,
+		@Param("fromDate") LocalDate fromDate
 	);
 
-	List<ScheduleDetail> findAllByScheduleChildIdAndDateGreaterThanEqual(Long childId, LocalDate date);
+	@Query("""
+		select distinct s.endTime
+		from ScheduleDetail sd
+		join sd.schedule s
+		where sd.date = :date
+		  and sd.scheduleStatus in :statuses
+		""")
+	List<LocalTime> findDistinctEndTimesByDateAndScheduleStatusIn(
+		@Param("date") LocalDate date,
+		@Param("statuses") List<ScheduleStatus> statuses
+	);
+
+	/*
+	date의 일정 중 종료 시각이 endTime 이하이고 상태가 fromStatus인 scheduleDetail을 한 번에 toStatus로 변경함
+	- (date, status) 인덱스로 대상 scheduleDetail만 찾고, 각 행의 일정은 PK로 확인함 (schedule 전체를 읽지 않음)
+	 */
+	@Modifying
+	@Query("""
+		update ScheduleDetail sd
+		set sd.scheduleStatus = :toStatus
+		where sd.date = :date
+		  and sd.scheduleStatus = :fromStatus
+		  and exists (
+		      select 1
+		      from Schedule s
+		      where s.id = sd.schedule.id
+		        and s.endTime <= :endTime
+		  )
+		""")
+	int bulkChangeStatusOfEndedSchedules(
+		@Param("date") LocalDate date,
+		@Param("endTime") LocalTime endTime,
+		@Param("fromStatus") ScheduleStatus fromStatus,
+		@Param("toStatus") ScheduleStatus toStatus
+	);
+
+	/*
+	당일 생성된 아이의 반복 일정 중 반복 요일이 오늘인 일정의 scheduleDetail을 생성함
+	(schedule_id, date) 유니크 키에 걸리는 행은 무시되므로 동시에 호출되어도 중복 생성되지 않음
+	 */
+	@Modifying
+	@Query(value = """
+		insert ignore into schedule_detail (date, schedule_status, schedule_id)
+		select :today, 'PENDING', s.id
+		from schedule s
+		where s.child_id = :childId
+		  and s.is_recurring = true
+		  and s.created_at >= :startOfToday
+		  and (s.repeat_days_mask & :dayOfWeekBit) <> 0
+		""", nativeQuery = true)
+	int insertIgnoreTodayDetailsOfRecurringSchedulesCreatedToday(
+		@Param("childId") Long childId,
+		@Param("startOfToday") LocalDateTime startOfToday,
+		@Param("dayOfWeekBit") int dayOfWeekBit,
+		@Param("today") LocalDate today
+	);
 }
@@ -0,0 +1,73 @@
+package com.kiero.schedule.repository;
+
+import static com.kiero.schedule.domain.QSchedule.*;
+import static com.kiero.schedule.domain.QScheduleDetail.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.kiero.schedule.repository.dto.NormalScheduleRow;
+import com.kiero.schedule.repository.dto.RecurringScheduleRow;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+일정 탭 조회 전용 리포지토리
+엔티티를 영속성 컨텍스트에 올리지 않고, 응답에 필요한 컬럼만 평평한 행으로 조회함
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleQueryRepository {
+
+	private final JPAQueryFactory queryFactory;
+
+	/*
+	아이의 반복 일정을 일정 단위의 행으로 조회함 (반복 요일은 비트마스크)
+	createdBefore 이전에 생성된 반복 일정만 포함함
+	 */
+	public List<RecurringScheduleRow> findRecurringScheduleRows(Long childId, LocalDateTime createdBefore) {
+		return queryFactory
+			.select(Projections.constructor(RecurringScheduleRow.class,
+				schedule.id,
+				schedule.startTime,
+				schedule.endTime,
+				schedule.name,
+				schedule.scheduleColor,
+				schedule.repeatDaysMask
+			))
+			.from(schedule)
+			.where(
+				schedule.child.id.eq(childId),
+				schedule.isRecurring.isTrue(),
+				schedule.createdAt.lt(createdBefore)
+			)
+			.orderBy(schedule.id.asc())
+			.fetch();
+	}
+
+	// 아이의 단일 일정 중 startDate ~ endDate에 해당하는 일정을 조회함
+	public List<NormalScheduleRow> findNormalScheduleRows(Long childId, LocalDate startDate, LocalDate endDate) {
+		return queryFactory
+			.select(Projections.constructor(NormalScheduleRow.class,
+				schedule.startTime,
+				schedule.endTime,
+				schedule.name,
+				schedule.scheduleColor,
+				scheduleDetail.date
+			))
+			.from(scheduleDetail)
+			.join(scheduleDetail.schedule, schedule)
+			.where(
+				schedule.child.id.eq(childId),
+				schedule.isRecurring.isFalse(),
+				scheduleDetail.date.between(startDate, endDate)
+			)
+			.orderBy(scheduleDetail.date.asc(), schedule.startTime.asc())
+			.fetch();
+	}
+}
@@ -1,7 +1,5 @@
 package com.kiero.schedule.repository;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,34 +9,22 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kiero.schedule.domain.Schedule;
-import com.kiero.schedule.domain.enums.DayOfWeek;
+import com.kiero.schedule.repository.dto.RecurringScheduleInterval;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-	List<Schedule> findAllByChildId(Long childId);
+	Optional<Schedule> findFirstByChildIdOrderByCreatedAtDesc(Long childId);
 
 	@Query("""
-		select distinct s
+		select new com.kiero.schedule.repository.dto.RecurringScheduleInterval(s.repeatDaysMask, s.startTime, s.endTime)
 		from Schedule s
-		join ScheduleRepeatDays rd on rd.schedule = s
-		where s.isRecurring = true
-		  and s.createdAt >= :startOfToday
-		  and rd.dayOfWeek = :todayDayOfWeek
-		  and not exists (
-			  select 1
-			  from ScheduleDetail sd
-			  where sd.schedule = s
-				and sd.date = :today
-		      )
+		where s.child.id = :childId
+		  and s.isRecurring = true
 		""")
-	List<Schedule> findRecurringSchedulesToGenerateTodayDetail(
-		@Param("startOfToday") LocalDateTime startOfToday,
-		@Param("todayDayOfWeek") DayOfWeek todayDayOfWeek,
-		@Param("today") LocalDate today
+	List<RecurringScheduleInterval> findRecurringIntervalsByChildId(
+		@Param("childId") Long childId
 	);
 
-	Optional<Schedule> findFirstByChildIdOrderByCreatedAtDesc(Long childId);
-
 	/*
 	데모데이용 임시 메서드
 	 */
@@ -0,0 +1,11 @@
+package com.kiero.schedule.repository.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record NormalScheduleInterval(
+	LocalDate date,
+	LocalTime startTime,
+	LocalTime endTime
+) {
+}
@@ -0,0 +1,15 @@
+package com.kiero.schedule.repository.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.kiero.schedule.domain.enums.ScheduleColor;
+
+public record NormalScheduleRow(
+	LocalTime startTime,
+	LocalTime endTime,
+	String name,
+	ScheduleColor scheduleColor,
+	LocalDate date
+) {
+}
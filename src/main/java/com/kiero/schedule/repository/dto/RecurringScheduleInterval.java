@@ -0,0 +1,10 @@
+package com.kiero.schedule.repository.dto;
+
+import java.time.LocalTime;
+
+public record RecurringScheduleInterval(
+	int repeatDaysMask,
+	LocalTime startTime,
+	LocalTime endTime
+) {
+}
@@ -0,0 +1,15 @@
+package com.kiero.schedule.repository.dto;
+
+import java.time.LocalTime;
+
+import com.kiero.schedule.domain.enums.ScheduleColor;
+
+public record RecurringScheduleRow(
+	Long scheduleId,
+	LocalTime startTime,
+	LocalTime endTime,
+	String name,
+	ScheduleColor scheduleColor,
+	int repeatDaysMask
+) {
+}
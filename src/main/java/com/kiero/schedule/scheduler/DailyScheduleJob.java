@@ -2,7 +2,6 @@ package com.kiero.schedule.scheduler;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.kiero.schedule.service.ScheduleService;
 
@@ -14,10 +13,9 @@ public class DailyScheduleJob {
 
 	private final ScheduleService scheduleService;
 
-	@Transactional
+	// chunk 단위로 커밋하므로 잡 전체를 하나의 트랜잭션으로 묶지 않음
 	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
 	public void runDailyJob() {
 		scheduleService.createTodayScheduleDetail();
-
 	}
 }
@@ -0,0 +1,109 @@
+package com.kiero.schedule.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kiero.schedule.domain.enums.DayOfWeek;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+반복 일정의 scheduleDetail을 대량으로 생성함 (자정 배치용)
+- 반복 일정(schedule)을 id 기준 keyset 페이징으로 읽어, 엔티티를 영속성 컨텍스트에 올리지 않음
+- 반복 요일은 repeat_days_mask의 비트로 판단하며, PK 범위 스캔 중에 걸러지므로 별도의 인덱스가 필요 없음
+- JDBC batch + insert ignore로 쓰고 (rewriteBatchedStatements=true 이면 multi-row insert로 재작성됨),
+  이미 존재하는 (schedule_id, date)는 유니크 제약에 의해 무시됨
+- chunk 단위로 커밋하여 긴 트랜잭션을 만들지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleDetailBulkGenerator {
+
+	private static final String SELECT_RECURRING_SCHEDULE_IDS_CHUNK = """
+		select s.id
+		from schedule s
+		where s.id > ?
+		  and s.is_recurring = true
+		  and (s.repeat_days_mask & ?) <> 0
+		order by s.id
+		limit ?
+		""";
+
+	private static final String INSERT_IGNORE_SCHEDULE_DETAIL = """
+		insert ignore into schedule_detail (date, schedule_status, schedule_id)
+		values (?, 'PENDING', ?)
+		""";
+
+	private static final String METRIC_ROWS = "kiero.schedule.detail.generation.rows";
+	private static final String METRIC_ELAPSED = "kiero.schedule.detail.generation.elapsed";
+	private static final String METRIC_ROWS_PER_SECOND = "kiero.schedule.detail.generation.rows.per.second";
+
+	@Value("${schedule.generation.chunk-size:1000}")
+	private int chunkSize;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	public void generate(LocalDate date) {
+		int dayOfWeekBit = DayOfWeek.from(date.getDayOfWeek()).bit();
+		long startedAt = System.nanoTime();
+
+		long lastId = 0L;
+		long processed = 0L;
+		while (true) {
+			List<Long> chunk = jdbcTemplate.queryForList(
+				SELECT_RECURRING_SCHEDULE_IDS_CHUNK,
+				Long.class,
+				lastId, dayOfWeekBit, chunkSize
+			);
+			if (chunk.isEmpty()) {
+				break;
+			}
+
+			insertChunk(date, chunk);
+			processed += chunk.size();
+			lastId = chunk.get(chunk.size() - 1);
+
+			if (chunk.size() < chunkSize) {
+				break;
+			}
+		}
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		recordMetrics(processed, elapsedNanos);
+		log.info("scheduleDetail 일괄 생성 완료: date={}, processed={}, elapsedMs={}",
+			date, processed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+	}
+
+	// 재작성된 multi-row insert는 행별 결과 대신 SUCCESS_NO_INFO를 돌려주므로, 처리량은 요청 행 수 기준으로 집계함
+	private void insertChunk(LocalDate date, List<Long> scheduleIds) {
+		Date sqlDate = Date.valueOf(date);
+		transactionTemplate.executeWithoutResult(status ->
+			jdbcTemplate.batchUpdate(INSERT_IGNORE_SCHEDULE_DETAIL, scheduleIds, scheduleIds.size(), (ps, scheduleId) -> {
+				ps.setDate(1, sqlDate);
+				ps.setLong(2, scheduleId);
+			})
+		);
+	}
+
+	private void recordMetrics(long processed, long elapsedNanos) {
+		meterRegistry.counter(METRIC_ROWS).increment(processed);
+		meterRegistry.timer(METRIC_ELAPSED).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+		double seconds = elapsedNanos / 1_000_000_000.0;
+		if (seconds > 0) {
+			meterRegistry.summary(METRIC_ROWS_PER_SECOND).record(processed / seconds);
+		}
+	}
+}
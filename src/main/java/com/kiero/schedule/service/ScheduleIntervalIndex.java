@@ -0,0 +1,123 @@
+package com.kiero.schedule.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.kiero.schedule.domain.enums.DayOfWeek;
+import com.kiero.schedule.repository.dto.NormalScheduleInterval;
+import com.kiero.schedule.repository.dto.RecurringScheduleInterval;
+
+/*
+아이 한 명의 일정 시간 구간 인덱스 (일정 중복 검사용)
+- 반복 일정: 요일별 구간
+- 단일 일정: 날짜별 구간 + 반복 일정 추가 시 검사를 위한 요일별 구간
+각 구간 집합은 시작 시각으로 정렬하고 종료 시각의 누적 최댓값을 두어, 겹침 여부를 이분 탐색 한 번(O(log n))으로 판단함
+구간을 추가하면 다음 조회 시에 한 번만 다시 정렬하므로, 여러 일정을 연속으로 추가하는 경우에도 재사용할 수 있음
+ */
+public class ScheduleIntervalIndex {
+
+	private final Map<DayOfWeek, IntervalSet> recurringByDayOfWeek = new EnumMap<>(DayOfWeek.class);
+	private final Map<DayOfWeek, IntervalSet> normalByDayOfWeek = new EnumMap<>(DayOfWeek.class);
+	private final Map<LocalDate, IntervalSet> normalByDate = new HashMap<>();
+
+	public static ScheduleIntervalIndex of(
+		List<RecurringScheduleInterval> recurringIntervals,
+		List<NormalScheduleInterval> normalIntervals
+	) {
+		ScheduleIntervalIndex index = new ScheduleIntervalIndex();
+		recurringIntervals.forEach(interval -> DayOfWeek.fromMask(interval.repeatDaysMask())
+			.forEach(dayOfWeek -> index.addRecurring(dayOfWeek, interval.startTime(), interval.endTime())));
+		normalIntervals.forEach(interval -> index.addNormal(
+			interval.date(), interval.startTime(), interval.endTime()));
+		return index;
+	}
+
+	public void addRecurring(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+		recurringByDayOfWeek.computeIfAbsent(dayOfWeek, d -> new IntervalSet()).add(startTime, endTime);
+	}
+
+	public void addNormal(LocalDate date, LocalTime startTime, LocalTime endTime) {
+		normalByDate.computeIfAbsent(date, d -> new IntervalSet()).add(startTime, endTime);
+		normalByDayOfWeek.computeIfAbsent(DayOfWeek.from(date.getDayOfWeek()), d -> new IntervalSet())
+			.add(startTime, endTime);
+	}
+
+	// 주어진 요일 중 하나라도 [startTime, endTime)과 겹치는 반복 일정이 있는지
+	public boolean overlapsRecurring(Collection<DayOfWeek> dayOfWeeks, LocalTime startTime, LocalTime endTime) {
+		return dayOfWeeks.stream()
+			.map(recurringByDayOfWeek::get)
+			.anyMatch(intervals -> intervals != null && intervals.overlaps(startTime, endTime));
+	}
+
+	// 주어진 요일에 해당하는 날짜 중 하나라도 [startTime, endTime)과 겹치는 단일 일정이 있는지
+	public boolean overlapsNormalOnDayOfWeeks(Collection<DayOfWeek> dayOfWeeks, LocalTime startTime,
+		LocalTime endTime) {
+		return dayOfWeeks.stream()
+			.map(normalByDayOfWeek::get)
+			.anyMatch(intervals -> intervals != null && intervals.overlaps(startTime, endTime));
+	}
+
+	// 주어진 날짜 중 하나라도 [startTime, endTime)과 겹치는 단일 일정이 있는지
+	public boolean overlapsNormalOnDates(Collection<LocalDate> dates, LocalTime startTime, LocalTime endTime) {
+		return dates.stream()
+			.map(normalByDate::get)
+			.anyMatch(intervals -> intervals != null && intervals.overlaps(startTime, endTime));
+	}
+
+	private static final class IntervalSet {
+		private final List<LocalTime[]> intervals = new ArrayList<>();
+		private LocalTime[] sortedStarts;
+		private LocalTime[] prefixMaxEnds;
+
+		private void add(LocalTime startTime, LocalTime endTime) {
+			intervals.add(new LocalTime[] {startTime, endTime});
+			sortedStarts = null;
+		}
+
+		// 기존 구간 중 start < endTime 인 것들의 최대 종료 시각이 startTime보다 늦으면 겹침
+		private boolean overlaps(LocalTime startTime, LocalTime endTime) {
+			if (sortedStarts == null) {
+				rebuild();
+			}
+
+			int candidates = lowerBound(endTime);
+			return candidates > 0 && prefixMaxEnds[candidates - 1].isAfter(startTime);
+		}
+
+		private void rebuild() {
+			intervals.sort(Comparator.comparing(interval -> interval[0]));
+			int size = intervals.size();
+			sortedStarts = new LocalTime[size];
+			prefixMaxEnds = new LocalTime[size];
+			for (int i = 0; i < size; i++) {
+				LocalTime[] interval = intervals.get(i);
+				sortedStarts[i] = interval[0];
+				prefixMaxEnds[i] = (i == 0 || interval[1].isAfter(prefixMaxEnds[i - 1]))
+					? interval[1]
+					: prefixMaxEnds[i - 1];
+			}
+		}
+
+		// startTime < target 인 구간의 개수
+		private int lowerBound(LocalTime target) {
+			int low = 0;
+			int high = sortedStarts.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sortedStarts[mid].isBefore(target)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+}
@@ -6,14 +6,17 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.kiero.child.domain.Child;
 import com.kiero.child.exception.ChildErrorCode;
@@ -25,7 +28,6 @@ import com.kiero.parent.repository.ParentChildRepository;
 import com.kiero.parent.repository.ParentRepository;
 import com.kiero.schedule.domain.Schedule;
 import com.kiero.schedule.domain.ScheduleDetail;
-import com.kiero.schedule.domain.ScheduleRepeatDays;
 import com.kiero.schedule.domain.enums.DayOfWeek;
 import com.kiero.schedule.domain.enums.ScheduleColor;
 import com.kiero.schedule.domain.enums.ScheduleStatus;
@@ -43,9 +45,11 @@ import com.kiero.schedule.presentation.dto.ScheduleAddRequest;
 import com.kiero.schedule.presentation.dto.ScheduleCreatedEvent;
 import com.kiero.schedule.presentation.dto.ScheduleTabResponse;
 import com.kiero.schedule.presentation.dto.TodayScheduleResponse;
+import com.kiero.schedule.repository.FireLitRecordRepository;
 import com.kiero.schedule.repository.ScheduleDetailRepository;
-import com.kiero.schedule.repository.ScheduleRepeatDaysRepository;
+import com.kiero.schedule.repository.ScheduleQueryRepository;
 import com.kiero.schedule.repository.ScheduleRepository;
+import com.kiero.schedule.repository.dto.RecurringScheduleRow;
 import com.kiero.schedule.service.resolver.TodayScheduleStatusResolver;
 
 import lombok.RequiredArgsConstructor;
@@ -60,21 +64,54 @@ public class ScheduleService {
 	private final ChildRepository childRepository;
 	private final ParentChildRepository parentChildRepository;
 	private final ScheduleRepository scheduleRepository;
-	private final ScheduleRepeatDaysRepository scheduleRepeatDaysRepository;
 	private final ScheduleDetailRepository scheduleDetailRepository;
+	private final FireLitRecordRepository fireLitRecordRepository;
+	private final ScheduleQueryRepository scheduleQueryRepository;
+	private final TodayScheduleDetailMaterializer todayScheduleDetailMaterializer;
+	private final ScheduleDetailBulkGenerator scheduleDetailBulkGenerator;
+	private final ScheduleStatusTransitionTimer scheduleStatusTransitionTimer;
+	private final TodayScheduleSnapshotCache todayScheduleSnapshotCache;
+	private final PlatformTransactionManager transactionManager;
 
 	private final ApplicationEventPublisher eventPublisher;
 
 	private final Clock clock;
 	private final static int ALL_SCHEDULE_SUCCESS_REWARD = 10;
 
-	@Transactional
+	// 0이면 당일 scheduleDetail만 생성하고, N이면 오늘부터 N일 후까지의 반복 일정 scheduleDetail을 미리 생성해둠
+	@Value("${schedule.materialization.horizon-days:0}")
+	private int horizonDays;
+
+	/*
+	스냅샷 캐시 조회는 트랜잭션 밖에서 하므로, 캐시에 있으면 커넥션을 잡지 않고 SQL 없이 반환함
+	캐시에 없을 때만 조회 전용 트랜잭션에서 계산하며, 아래의 상태/불조각 변경은 응답 계산을 위해 메모리 상에서만 반영됨
+	- 상태 전이(FAILED/COMPLETED)는 ScheduleStatusTransitionTimer가 종료 시각에 맞춰 DB에 반영함
+	- 불조각 종류는 completeNowSchedule에서 DB에 반영함
+	 */
 	public TodayScheduleResponse getTodaySchedule(Long childId) {
 		LocalDate today = LocalDate.now(clock);
 
-		// 당일 생성된 반복 일정 중 반복 요일이 오늘일 경우, 수동으로 scheduleDetail 생성
-		createScheduleDetailOfTodayRecurringSchedules(today);
+		// 마지막 상태 변경 이후 다음 일정 시작/종료 시각 전까지는 캐시된 스냅샷을 그대로 반환함
+		TodayScheduleResponse cachedResponse = todayScheduleSnapshotCache.get(childId, today);
+		if (cachedResponse != null) {
+			return cachedResponse;
+		}
+		TodayScheduleSnapshotCache.Stamp snapshotStamp = todayScheduleSnapshotCache.stamp(childId, today);
+
+		// 당일 생성된 반복 일정 중 반복 요일이 오늘일 경우, 요청한 아이의 scheduleDetail만 수동으로 생성
+		// horizon 모드에서는 addSchedule과 자정 배치가 미리 생성해두므로 생략함
+		if (horizonDays == 0 && !todayScheduleDetailMaterializer.isMaterialized(childId, today)) {
+			todayScheduleDetailMaterializer.materializeRecurringSchedulesCreatedToday(childId, today);
+		}
+
+		TodayScheduleSnapshotCache.Snapshot snapshot = readOnlyTransaction(
+			status -> calculateTodaySchedule(childId, today));
+		todayScheduleSnapshotCache.put(childId, today, snapshotStamp, snapshot.response(), snapshot.validUntil());
+		return snapshot.response();
+	}
 
+	// 응답과 그 응답이 유효한 시각(다음 일정 시작/종료 시각)을 함께 반환함
+	private TodayScheduleSnapshotCache.Snapshot calculateTodaySchedule(Long childId, LocalDate today) {
 		// 오늘 일정들을 startTime이 이른 것부터 정렬하여 모두 가져옴
 		List<ScheduleDetail> allScheduleDetails =
 			scheduleDetailRepository.findByDateAndChildId(today, childId);
@@ -85,15 +122,16 @@ public class ScheduleService {
 				|| sd.getScheduleStatus() == ScheduleStatus.VERIFIED)
 			.toList();
 
-		// 오늘 일정들의 stoneUsedAt을 통해 불피우기 시행 여부를 조사하고, 가장 빠른 불피우기 시행 시각을 추출함 (없으면 null)
-		LocalDateTime earliestStoneUsedAt = findEarliestStoneUsedAt(allScheduleDetails);
+		// 불피우기 여부와 시각은 fireLit, getSchedules와 같이 불피우기 기록에서 읽음 (없으면 null)
+		// scheduleDetail의 stoneUsedAt은 오늘 일정이 없거나 다시 생성되면 남아 있지 않으므로 사용하지 않음
+		LocalDateTime fireLitAt = fireLitRecordRepository.findLitAt(childId, today).orElse(null);
 
 		// 당일 생성된 일정들에 한해 필터를 적용함
 		List<ScheduleDetail> filteredPendingAndVerifiedScheduleDetails = filterTodayCreatedSchedules(today,
 			pendingAndVerifiedScheduleDetails,
-			earliestStoneUsedAt);
+			fireLitAt);
 		List<ScheduleDetail> filteredAllScheduleDetails = filterTodayCreatedSchedules(today, allScheduleDetails,
-			earliestStoneUsedAt);
+			fireLitAt);
 
 		// PENDING 일정 중 일정 종료 시간이 지난 일정은 일정 상태 FAILED로 변경
 		markPassedPendingSchedulesAsFailed(filteredPendingAndVerifiedScheduleDetails);
@@ -130,11 +168,12 @@ public class ScheduleService {
 			earnedStones,
 			todoScheduleDetail,
 			filteredAllScheduleDetails,
-			earliestStoneUsedAt
+			fireLitAt
 		);
 
+		TodayScheduleResponse response;
 		if (todoScheduleDetail == null) {
-			return TodayScheduleResponse.of(
+			response = TodayScheduleResponse.of(
 				null, scheduleOrder, null, null, null, null,
 				totalSchedule,
 				earnedStones,
@@ -145,7 +184,7 @@ public class ScheduleService {
 		} else {
 			scheduleOrder = filteredAllScheduleDetails.indexOf(todoScheduleDetail) + 1;
 			isNowScheduleVerified = todoScheduleDetail.getScheduleStatus() == ScheduleStatus.VERIFIED;
-			return TodayScheduleResponse.of(
+			response = TodayScheduleResponse.of(
 				todoScheduleDetail.getId(),
 				scheduleOrder,
 				todoScheduleDetail.getSchedule().getStartTime(),
@@ -159,6 +198,14 @@ public class ScheduleService {
 				isNowScheduleVerified
 			);
 		}
+
+		return new TodayScheduleSnapshotCache.Snapshot(response, findNextTimeBoundary(today, filteredAllScheduleDetails));
+	}
+
+	private <T> T readOnlyTransaction(TransactionCallback<T> callback) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate.execute(callback);
 	}
 
 	@Transactional
@@ -181,6 +228,8 @@ public class ScheduleService {
 		} else {
 			throw new KieroException(ScheduleErrorCode.SCHEDULE_COULD_NOT_BE_SKIPPED);
 		}
+
+		todayScheduleSnapshotCache.evictAfterCommit(childId, scheduleDetail.getDate());
 	}
 
 	@Transactional
@@ -198,13 +247,20 @@ public class ScheduleService {
 			throw new KieroException(ScheduleErrorCode.SCHEDULE_ALREADY_COMPLETED);
 		}
 
-		if (scheduleDetail.getStoneUsedAt() != null) {
+		if (fireLitRecordRepository.existsByChildIdAndDate(childId, scheduleDetail.getDate())) {
 			throw new KieroException(ScheduleErrorCode.FIRE_LIT_ALREADY_COMPLETE);
 		}
 
 		scheduleDetail.changeScheduleStatus(ScheduleStatus.VERIFIED);
 		scheduleDetail.changeImageUrl(request.imageUrl());
 
+		// 조회 API가 더 이상 쓰기를 하지 않으므로, 인증 시점에 얻을 불조각 종류를 확정하여 저장함
+		LocalDate today = LocalDate.now(clock);
+		List<ScheduleDetail> filteredAllScheduleDetails = filterTodayCreatedSchedules(today,
+			scheduleDetailRepository.findByDateAndChildId(today, childId), null);
+		stoneTypeCalculateAndSetter(filteredAllScheduleDetails, scheduleDetail);
+		todayScheduleSnapshotCache.evictAfterCommit(childId, today);
+
 		eventPublisher.publishEvent(new NowScheduleCompleteEvent(
 			scheduleDetail.getSchedule().getChild().getId(),
 			scheduleDetail.getSchedule().getName(),
@@ -216,6 +272,7 @@ public class ScheduleService {
 	@Transactional
 	public FireLitResponse fireLit(Long childId) {
 		LocalDate today = LocalDate.now(clock);
+		LocalDateTime now = LocalDateTime.now(clock);
 
 		Child child = childRepository.findById(childId)
 			.orElseThrow(() -> new KieroException(ChildErrorCode.CHILD_NOT_FOUND));
@@ -223,14 +280,16 @@ public class ScheduleService {
 		List<ScheduleDetail> allScheduleDetails =
 			scheduleDetailRepository.findByDateAndChildId(today, childId);
 
-		LocalDateTime earliestStoneUsedAt = findEarliestStoneUsedAt(allScheduleDetails);
-		if (earliestStoneUsedAt != null) {
-			throw new KieroException(ScheduleErrorCode.FIRE_LIT_ALREADY_COMPLETE);
-		}
-
 		List<ScheduleDetail> filteredAllScheduleDetails = filterTodayCreatedSchedules(today, allScheduleDetails,
 			null);
 
+		// 오늘 일정이 있을 때만 불피우기 기록을 insert 한 번으로 선점함 (동시에 요청되어도 한 요청만 성공하므로 보상은 한 번만 지급됨)
+		// 일정이 없으면 기존처럼 불피우기로 남는 것이 없으므로 기록하지 않음 (이후 일정이 생기면 다시 불피우기를 할 수 있음)
+		// 선점은 이 트랜잭션 안에서 하므로, 이후에 실패해 롤백되면 기록도 함께 사라짐
+		if (!filteredAllScheduleDetails.isEmpty() && fireLitRecordRepository.claim(childId, today, now) == 0) {
+			throw new KieroException(ScheduleErrorCode.FIRE_LIT_ALREADY_COMPLETE);
+		}
+
 		// 스킵된 일정을 제외하고 총 일정 수 계산
 		int totalSchedule = (int)filteredAllScheduleDetails.stream()
 			.filter(sd -> sd.getScheduleStatus() != ScheduleStatus.SKIPPED)
@@ -242,8 +301,8 @@ public class ScheduleService {
 			.map(ScheduleDetail::getStoneType)
 			.toList();
 
-		LocalDateTime now = LocalDateTime.now(clock);
 		filteredAllScheduleDetails.forEach(sd -> sd.changeStoneUsedAt(now));
+		todayScheduleSnapshotCache.evictAfterCommit(childId, today);
 
 		int gotStonesCount = gotStones.size();
 		int earnedCoinAmount = 0;
@@ -256,7 +315,7 @@ public class ScheduleService {
 		eventPublisher.publishEvent(new FireLitEvent(
 			child.getId(),
 			earnedCoinAmount,
-			LocalDateTime.now(clock)
+			now
 		));
 
 		return FireLitResponse.of(gotStones, earnedCoinAmount);
@@ -304,17 +363,27 @@ public class ScheduleService {
 
 		throwExceptionWhenScheduleDuplicated(request, child.getId());
 
+		List<DayOfWeek> dayOfWeeks = request.isRecurring() ? dayOfWeekParser(request.dayOfWeek()) : List.of();
 		Schedule schedule = Schedule.create(parent, child, request.name(), request.startTime(), request.endTime(),
-			request.scheduleColor(), request.isRecurring());
+			request.scheduleColor(), request.isRecurring(), DayOfWeek.toMask(dayOfWeeks));
 		Schedule savedSchedule = scheduleRepository.save(schedule);
 
 		if (request.isRecurring()) {
-			List<DayOfWeek> dayOfWeeks = dayOfWeekParser(request.dayOfWeek());
-			List<ScheduleRepeatDays> repeatDays = dayOfWeeks.stream()
-				.map(day -> ScheduleRepeatDays.create(day, savedSchedule))
+			// 오늘부터 horizon 기간 내의 반복 요일에 해당하는 scheduleDetail을 바로 생성함
+			LocalDate today = LocalDate.now(clock);
+			List<ScheduleDetail> horizonDetails = today.datesUntil(today.plusDays(horizonDays + 1L))
+				.filter(date -> dayOfWeeks.contains(DayOfWeek.from(date.getDayOfWeek())))
+				.map(date -> ScheduleDetail.create(date, null, null, ScheduleStatus.PENDING, null, savedSchedule))
 				.toList();
 
-			scheduleRepeatDaysRepository.saveAll(repeatDays);
+			if (!horizonDetails.isEmpty()) {
+				scheduleDetailRepository.saveAll(horizonDetails);
+			}
+
+			// 오늘 일정이 생겼다면 종료 시각에 상태가 전이되도록 등록함
+			if (horizonDetails.stream().anyMatch(sd -> sd.getDate().equals(today))) {
+				scheduleStatusTransitionTimer.arm(today, savedSchedule.getEndTime());
+			}
 		}
 
 		if (!request.isRecurring()) {
@@ -326,132 +395,81 @@ public class ScheduleService {
 				.toList();
 
 			scheduleDetailRepository.saveAll(details);
+
+			LocalDate today = LocalDate.now(clock);
+			if (dates.contains(today)) {
+				scheduleStatusTransitionTimer.arm(today, savedSchedule.getEndTime());
+			}
 		}
 
+		todayScheduleSnapshotCache.evictAfterCommit(childId, LocalDate.now(clock));
+
 		eventPublisher.publishEvent(new ScheduleCreatedEvent(
 			childId,
 			savedSchedule.getName()
 		));
 	}
 
-	@Transactional
+	@Transactional(readOnly = true)
 	public ScheduleTabResponse getSchedules(LocalDate startDate, LocalDate endDate, Long parentId, Long childId) {
 
-		// 요청 유효 검사
-		checkIsExistsAndAccessibleByParentIdAndChildId(parentId, childId);
+		// 요청 유효 검사 (접근 가능하면 쿼리 한 번으로 끝나고, 아니면 원인에 맞는 예외를 위해 상세 검사를 수행함)
+		if (!parentChildRepository.existsByParentIdAndChildId(parentId, childId)) {
+			checkIsExistsAndAccessibleByParentIdAndChildId(parentId, childId);
+		}
 
 		if (startDate.isAfter(endDate) || endDate.isBefore(startDate)) {
 			throw new KieroException(ScheduleErrorCode.INVALID_DATE_DURATION);
 		}
 
-		// 모든 일정 조회
-		List<Schedule> schedules = scheduleRepository.findAllByChildId(childId);
-		if (schedules.isEmpty())
-			return ScheduleTabResponse.of(false, List.of(), List.of());
-
-		List<Long> scheduleIds = schedules.stream()
-			.map(Schedule::getId)
-			.toList();
-
 		// 오늘 아이의 불피우기 여부
-		boolean isFireLitToday = scheduleDetailRepository.existsStoneUsedToday(scheduleIds,
-			LocalDate.now(clock));
+		boolean isFireLitToday = fireLitRecordRepository.existsByChildIdAndDate(childId, LocalDate.now(clock));
 
-		List<Long> recurringIds = schedules.stream()
-			.filter(Schedule::isRecurring)
-			.map(Schedule::getId)
+		// 반복일정 처리
+		// 반복일정이 추가되면, 추가된 그 주 월요일부터 반복일정이 노출되고 그 이전 주에는 노출되지 않음
+		// => ( 등록된 주 <= 조회하는 주 ) 이므로, 조회하는 주의 다음 주 월요일 이전에 생성된 반복일정만 조회함
+		LocalDate queryWeekStart = startDate.with(java.time.DayOfWeek.MONDAY);
+		List<RecurringScheduleRow> recurringRows = scheduleQueryRepository.findRecurringScheduleRows(
+			childId, queryWeekStart.plusWeeks(1).atStartOfDay());
+
+		List<RecurringScheduleDto> recurringScheduleDtos = recurringRows.stream()
+			.map(row -> new RecurringScheduleDto(
+				row.startTime(),
+				row.endTime(),
+				row.name(),
+				row.scheduleColor().getColorCode(),
+				// 기존 응답과 같이 요일 이름순으로 나열함
+				DayOfWeek.fromMask(row.repeatDaysMask()).stream()
+					.map(DayOfWeek::name)
+					.sorted()
+					.collect(Collectors.joining(", "))
+			))
 			.toList();
 
-		List<Long> normalIds = schedules.stream()
-			.filter(s -> !s.isRecurring())
-			.map(Schedule::getId)
+		// 단일일정 처리
+		List<NormalScheduleDto> normalScheduleDtos = scheduleQueryRepository
+			.findNormalScheduleRows(childId, startDate, endDate).stream()
+			.map(row -> new NormalScheduleDto(
+				row.startTime(),
+				row.endTime(),
+				row.name(),
+				row.scheduleColor().getColorCode(),
+				row.date()
+			))
 			.toList();
 
-		// 반복일정 처리
-		List<RecurringScheduleDto> recurringScheduleDtos = List.of();
-		if (!recurringIds.isEmpty()) {
-			// 모든 반복일정 조회
-			List<ScheduleRepeatDays> repeatDays = scheduleRepeatDaysRepository.findAllByScheduleIdsIn(recurringIds);
-			Map<Long, List<ScheduleRepeatDays>> repeatDaysByScheduleId = repeatDays.stream()
-				.filter(rd -> {
-					Schedule schedule = rd.getSchedule();
-
-					// 반복일정의 createdAt을 기준으로 그 주의 월요일을 구함
-					LocalDate createdWeekStart = schedule.getCreatedAt().toLocalDate().with(java.time.DayOfWeek.MONDAY);
-
-					// 조회하려는 기간의 시작 주 월요일을 구함
-					LocalDate queryWeekStart = startDate.with(java.time.DayOfWeek.MONDAY);
-
-					// ( 등록된 주 <= 조회하는 주 )이면 노출
-					// => 반복일정이 추가되면, 추가된 그 주 월요일부터 반복일정이 노출되고 그 이전 주에는 노출되지 않음
-					return !createdWeekStart.isAfter(queryWeekStart);
-				})
-				.collect(Collectors.groupingBy(rd -> rd.getSchedule().getId()));
-
-			recurringScheduleDtos = schedules.stream()
-				.filter(Schedule::isRecurring)
-				.map(schedule -> {
-					List<ScheduleRepeatDays> days = repeatDaysByScheduleId.getOrDefault(schedule.getId(), List.of());
-
-					if (days.isEmpty()) {
-						return null;
-					}
-
-					String dayOfWeek = days.stream()
-						.map(d -> d.getDayOfWeek().name())
-						.sorted()
-						.collect(Collectors.joining(", "));
-
-					return new RecurringScheduleDto(
-						schedule.getStartTime(),
-						schedule.getEndTime(),
-						schedule.getName(),
-						schedule.getScheduleColor().getColorCode(),
-						dayOfWeek
-					);
-				})
-				.filter(Objects::nonNull)
-				.toList();
-		}
-
-		List<NormalScheduleDto> normalScheduleDtos = List.of();
-		if (!normalIds.isEmpty()) {
-			List<ScheduleDetail> details = scheduleDetailRepository
-				.findAllByScheduleIdInAndDateBetween(normalIds, startDate, endDate);
-
-			Map<Long, Schedule> scheduleById = schedules.stream()
-				.collect(Collectors.toMap(Schedule::getId, s -> s));
-
-			normalScheduleDtos = details.stream()
-				.map(detail -> {
-					Schedule schedule = scheduleById.get(detail.getSchedule().getId());
-					return new NormalScheduleDto(
-						schedule.getStartTime(),
-						schedule.getEndTime(),
-						schedule.getName(),
-						schedule.getScheduleColor().getColorCode(),
-						detail.getDate()
-					);
-				})
-				.toList();
-		}
-
 		return ScheduleTabResponse.of(isFireLitToday, recurringScheduleDtos, normalScheduleDtos);
 
 	}
 
-	@Transactional
 	public void createTodayScheduleDetail() {
 		LocalDate today = LocalDate.now(clock);
-		DayOfWeek customDayOfWeek = DayOfWeek.valueOf(today.getDayOfWeek().name().substring(0, 3));
 
-		List<Schedule> schedules = scheduleRepeatDaysRepository.findSchedulesToCreateTodayDetail(customDayOfWeek,
-			today);
-		List<ScheduleDetail> scheduleDetails = schedules.stream()
-			.map(schedule -> ScheduleDetail.create(today, null, null, ScheduleStatus.PENDING, null, schedule))
-			.toList();
+		// horizon 전체를 매번 생성하여 배치가 누락된 날이 있어도 다음 실행에서 채워지도록 함 (이미 있는 행은 무시됨)
+		today.datesUntil(today.plusDays(horizonDays + 1L))
+			.forEach(scheduleDetailBulkGenerator::generate);
 
-		scheduleDetailRepository.saveAll(scheduleDetails);
+		scheduleStatusTransitionTimer.armDate(today);
 	}
 
 	/*
@@ -460,9 +478,10 @@ public class ScheduleService {
 	@Transactional
 	public void deleteSchedulesDataByParentAndChild(List<Long> childIds) {
 		List<Schedule> schedules = scheduleRepository.findAllByChildIdIn(childIds);
-		scheduleRepeatDaysRepository.deleteByScheduleIn(schedules);
 		scheduleDetailRepository.deleteByScheduleIn(schedules);
+		fireLitRecordRepository.deleteByChildIdIn(childIds);
 		scheduleRepository.deleteAll(schedules);
+		childIds.forEach(childId -> todayScheduleSnapshotCache.evictAfterCommit(childId, LocalDate.now(clock)));
 	}
 	/*
 	 */
@@ -484,31 +503,32 @@ public class ScheduleService {
 			List<Schedule> schedulesToSave = List.of(
 				Schedule.create(parent, child, "학교",
 					LocalTime.parse("09:00:00"), LocalTime.parse("12:00:00"),
-					ScheduleColor.SCHEDULE1, true),
+					ScheduleColor.SCHEDULE1, true,
+					DayOfWeek.toMask(List.of(DayOfWeek.MON, DayOfWeek.TUE, DayOfWeek.WED, DayOfWeek.THU, DayOfWeek.FRI))),
 
 				Schedule.create(parent, child, "돌봄 교실",
 					LocalTime.parse("13:00:00"), LocalTime.parse("15:00:00"),
-					ScheduleColor.SCHEDULE2, true),
+					ScheduleColor.SCHEDULE2, true, DayOfWeek.toMask(List.of(DayOfWeek.MON, DayOfWeek.WED))),
 
 				Schedule.create(parent, child, "태권도",
 					LocalTime.parse("14:00:00"), LocalTime.parse("16:00:00"),
-					ScheduleColor.SCHEDULE3, true),
+					ScheduleColor.SCHEDULE3, true, DayOfWeek.toMask(List.of(DayOfWeek.TUE))),
 
 				Schedule.create(parent, child, "피아노",
 					LocalTime.parse("14:00:00"), LocalTime.parse("16:00:00"),
-					ScheduleColor.SCHEDULE4, true),
+					ScheduleColor.SCHEDULE4, true, DayOfWeek.toMask(List.of(DayOfWeek.THU))),
 
 				Schedule.create(parent, child, "수영 교실",
 					LocalTime.parse("16:00:00"), LocalTime.parse("17:00:00"),
-					ScheduleColor.SCHEDULE5, true),
+					ScheduleColor.SCHEDULE5, true, DayOfWeek.toMask(List.of(DayOfWeek.WED, DayOfWeek.FRI))),
 
 				Schedule.create(parent, child, "수학",
 					LocalTime.parse("18:00:00"), LocalTime.parse("19:00:00"),
-					ScheduleColor.SCHEDULE2, true),
+					ScheduleColor.SCHEDULE2, true, DayOfWeek.toMask(List.of(DayOfWeek.MON, DayOfWeek.WED))),
 
 				Schedule.create(parent, child, "영어",
 					LocalTime.parse("19:00:00"), LocalTime.parse("20:00:00"),
-					ScheduleColor.SCHEDULE3, false)
+					ScheduleColor.SCHEDULE3, false, 0)
 			);
 
 			LocalDateTime yesterday = LocalDateTime.now(clock).minusDays(1);
@@ -518,12 +538,6 @@ public class ScheduleService {
 
 			savedSchedules.forEach(s -> s.forceCreatedAtForTest(yesterday));
 
-			Schedule s1 = savedSchedules.get(0);
-			Schedule s2 = savedSchedules.get(1);
-			Schedule s3 = savedSchedules.get(2);
-			Schedule s4 = savedSchedules.get(3);
-			Schedule s5 = savedSchedules.get(4);
-			Schedule s6 = savedSchedules.get(5);
 			Schedule s7 = savedSchedules.get(6);
 
 			// schedule_detail 생성
@@ -533,58 +547,18 @@ public class ScheduleService {
 			);
 			scheduleDetailRepository.saveAll(details);
 
-			// schedule_repeat_days 생성
-			List<ScheduleRepeatDays> repeatDays = List.of(
-				// (MON,TUE,WED,THU,FRI) -> 1
-				ScheduleRepeatDays.create(DayOfWeek.MON, s1),
-				ScheduleRepeatDays.create(DayOfWeek.TUE, s1),
-				ScheduleRepeatDays.create(DayOfWeek.WED, s1),
-				ScheduleRepeatDays.create(DayOfWeek.THU, s1),
-				ScheduleRepeatDays.create(DayOfWeek.FRI, s1),
-
-				// (MON, WED) -> 2
-				ScheduleRepeatDays.create(DayOfWeek.MON, s2),
-				ScheduleRepeatDays.create(DayOfWeek.WED, s2),
-
-				// (TUE) -> 3
-				ScheduleRepeatDays.create(DayOfWeek.TUE, s3),
-
-				// (THU) -> 5
-				ScheduleRepeatDays.create(DayOfWeek.THU, s4),
-
-				// (WED, FRI) -> 6
-				ScheduleRepeatDays.create(DayOfWeek.WED, s5),
-				ScheduleRepeatDays.create(DayOfWeek.FRI, s5),
-
-				// (MON, WED) -> 7
-				ScheduleRepeatDays.create(DayOfWeek.MON, s6),
-				ScheduleRepeatDays.create(DayOfWeek.WED, s6)
-			);
-			scheduleRepeatDaysRepository.saveAll(repeatDays);
-
-			createTodayRecurringScheduleDetailsForDummy(savedSchedules, repeatDays);
+			createTodayRecurringScheduleDetailsForDummy(savedSchedules);
 		}
 	}
 
-	private void createTodayRecurringScheduleDetailsForDummy(List<Schedule> savedSchedules,
-		List<ScheduleRepeatDays> repeatDays) {
+	private void createTodayRecurringScheduleDetailsForDummy(List<Schedule> savedSchedules) {
 		LocalDate today = LocalDate.now(clock);
 		DayOfWeek todayDayOfWeek = DayOfWeek.from(today.getDayOfWeek());
 
-		// repeatDays를 scheduleId -> 요일들로 매핑
-		Map<Long, List<DayOfWeek>> repeatDaysByScheduleId = repeatDays.stream()
-			.collect(Collectors.groupingBy(
-				rd -> rd.getSchedule().getId(),
-				Collectors.mapping(ScheduleRepeatDays::getDayOfWeek, Collectors.toList())
-			));
-
 		// 오늘 요일을 포함하는 반복 일정만 필터링
 		List<Schedule> schedulesToCreateTodayDetail = savedSchedules.stream()
 			.filter(Schedule::isRecurring)
-			.filter(s -> {
-				List<DayOfWeek> days = repeatDaysByScheduleId.getOrDefault(s.getId(), List.of());
-				return days.contains(todayDayOfWeek);
-			})
+			.filter(s -> todayDayOfWeek.isIn(s.getRepeatDaysMask()))
 			.toList();
 
 		if (schedulesToCreateTodayDetail.isEmpty())
@@ -601,40 +575,17 @@ public class ScheduleService {
 	}
 
 	private void throwExceptionWhenScheduleDuplicated(ScheduleAddRequest request, Long childId) {
+		LocalDate today = LocalDate.now(clock);
 
 		// 반복일정일 경우
 		if (request.isRecurring()) {
-			// request의 요일에 해당하는 요일의 일정 조회 & 조회된 일정과 request 일정의 시간이 겹치면 exception
 			List<DayOfWeek> targetDays = dayOfWeekParser(request.dayOfWeek());
-			List<Schedule> existingRecurring = scheduleRepeatDaysRepository.findSchedulesByChildIdAndDayOfWeeks(
-				childId,
-				targetDays);
-			boolean conflictWithRecurring = existingRecurring.stream()
-				.anyMatch(
-					s -> isTimeOverlapped(request.startTime(), request.endTime(), s.getStartTime(),
-						s.getEndTime()));
-
-			if (conflictWithRecurring) {
-				throw new KieroException(ScheduleErrorCode.SCHEDULE_DUPLICATED);
-			}
+			ScheduleIntervalIndex index = loadScheduleIntervalIndex(childId, today);
 
-			// 오늘 이후의 일정 중에 request의 요일에 해당하는 단일 일정을 조회하고, 조회된 일정과 request 일정의 시간이 겹치면 exception
-			LocalDate today = LocalDate.now(clock);
-			List<ScheduleDetail> normalsFromToday = scheduleDetailRepository.findAllByScheduleChildIdAndDateGreaterThanEqual(
-				childId, today);
-
-			boolean conflictWithNormal = normalsFromToday.stream()
-				.filter(sd -> {
-					java.time.DayOfWeek dow = sd.getDate().getDayOfWeek();
-					DayOfWeek custom = DayOfWeek.from(dow);
-					return targetDays.contains(custom);
-				})
-				.anyMatch(sd -> isTimeOverlapped(
-					request.startTime(), request.endTime(),
-					sd.getSchedule().getStartTime(), sd.getSchedule().getEndTime()
-				));
-
-			if (conflictWithNormal) {
+			// request의 요일에 해당하는 반복 일정과 시간이 겹치면 exception
+			// 오늘 이후의 단일 일정 중 request의 요일에 해당하는 일정과 시간이 겹치면 exception
+			if (index.overlapsRecurring(targetDays, request.startTime(), request.endTime())
+				|| index.overlapsNormalOnDayOfWeeks(targetDays, request.startTime(), request.endTime())) {
 				throw new KieroException(ScheduleErrorCode.SCHEDULE_DUPLICATED);
 			}
 
@@ -644,42 +595,32 @@ public class ScheduleService {
 		// 단일 일정일 경우
 		List<LocalDate> dates = dateParser(request.dates());
 
-		// 기존의 단일 일정과 충돌하는지 검사
-		// 입력된 날짜에 해당하는 scheduleDetail 조회
-		List<ScheduleDetail> thatDayDetails = scheduleDetailRepository.findByDateInAndChildId(dates, childId);
-
-		boolean conflictWithNormal = thatDayDetails.stream()
-			.anyMatch(sd -> isTimeOverlapped(
-				request.startTime(), request.endTime(), sd.getSchedule().getStartTime(),
-				sd.getSchedule().getEndTime()
-			));
-
-		if (conflictWithNormal) {
-			throw new KieroException(ScheduleErrorCode.SCHEDULE_DUPLICATED);
-		}
-
-		// 기존의 반복 일정과 충돌하는지 검사
 		// 입력된 날짜의 요일들 계산
 		List<DayOfWeek> targetDays = dates.stream()
 			.map(date -> DayOfWeek.from(date.getDayOfWeek()))
 			.distinct()
 			.toList();
 
-		// 입력된 날짜의 요일들에 해당하는 schedule 조회
-		List<Schedule> existingRecurringOnThatDay = scheduleRepeatDaysRepository.findSchedulesByChildIdAndDayOfWeekIn(
-			childId, targetDays);
+		// 입력된 날짜가 오늘 이전일 수도 있으므로, 가장 이른 입력 날짜부터의 단일 일정을 인덱스에 포함함
+		LocalDate earliestDate = dates.get(0).isBefore(today) ? dates.get(0) : today;
+		ScheduleIntervalIndex index = loadScheduleIntervalIndex(childId, earliestDate);
 
-		boolean conflictWithRecurring = existingRecurringOnThatDay.stream()
-			.anyMatch(s -> isTimeOverlapped(request.startTime(), request.endTime(), s.getStartTime(),
-				s.getEndTime()));
-
-		if (conflictWithRecurring) {
+		// 기존의 단일 일정 또는 입력된 날짜의 요일에 해당하는 반복 일정과 시간이 겹치면 exception
+		if (index.overlapsNormalOnDates(dates, request.startTime(), request.endTime())
+			|| index.overlapsRecurring(targetDays, request.startTime(), request.endTime())) {
 			throw new KieroException(ScheduleErrorCode.SCHEDULE_DUPLICATED);
 		}
 	}
 
-	private boolean isTimeOverlapped(LocalTime newStart, LocalTime newEnd, LocalTime oldStart, LocalTime oldEnd) {
-		return newStart.isBefore(oldEnd) && newEnd.isAfter(oldStart);
+	/*
+	아이의 반복 일정 구간과 fromDate 이후의 단일 일정 구간을 프로젝션 쿼리 두 번으로 읽어 인덱스를 만듦
+	여러 노드에서 일정이 추가되므로 노드 메모리에 보관하지 않고 요청마다 새로 만듦
+	 */
+	private ScheduleIntervalIndex loadScheduleIntervalIndex(Long childId, LocalDate fromDate) {
+		return ScheduleIntervalIndex.of(
+			scheduleRepository.findRecurringIntervalsByChildId(childId),
+			scheduleDetailRepository.findNormalIntervalsByChildIdAndDateGreaterThanEqual(childId, fromDate)
+		);
 	}
 
 	private List<LocalDate> dateParser(String dates) {
@@ -721,7 +662,7 @@ public class ScheduleService {
 
 	private List<ScheduleDetail> filterTodayCreatedSchedules(LocalDate
 			today, List<ScheduleDetail> scheduleDetails,
-		LocalDateTime earliestStoneUsedAt) {
+		LocalDateTime fireLitAt) {
 		return scheduleDetails.stream()
 			.filter(sd -> {
 				Schedule schedule = sd.getSchedule();
@@ -736,7 +677,7 @@ public class ScheduleService {
 					return false;
 
 				// 제약2: 불피우기가 완료되었고, createdAt이 불피우기를 시행한 시각 이후면 제외
-				return earliestStoneUsedAt == null || !createdAt.isAfter(earliestStoneUsedAt);
+				return fireLitAt == null || !createdAt.isAfter(fireLitAt);
 			})
 			.toList();
 	}
@@ -778,40 +719,22 @@ public class ScheduleService {
 			.toList();
 	}
 
-	private LocalDateTime findEarliestStoneUsedAt(List<ScheduleDetail> scheduleDetails) {
+	/*
+	현재 시각 이후 처음으로 오늘 일정 응답이 달라질 수 있는 시각을 구함
+	- 일정 시작 시각: 진행 중인 일정이 바뀜
+	- 일정 종료 시각 / 종료 1초 후: 진행 중 여부와 상태 전이(FAILED/COMPLETED) 판정이 바뀜
+	  (시작 시각 1초 후도 함께 포함되지만, 스냅샷을 한 번 더 계산할 뿐 결과에는 영향이 없음)
+	없으면 다음 날 0시
+	 */
+	private LocalDateTime findNextTimeBoundary(LocalDate today, List<ScheduleDetail> scheduleDetails) {
+		LocalDateTime now = LocalDateTime.now(clock);
 		return scheduleDetails.stream()
-			.map(ScheduleDetail::getStoneUsedAt)
+			.map(ScheduleDetail::getSchedule)
+			.flatMap(schedule -> Stream.of(schedule.getStartTime(), schedule.getEndTime()))
 			.filter(Objects::nonNull)
+			.flatMap(time -> Stream.of(today.atTime(time), today.atTime(time).plusSeconds(1)))
+			.filter(boundary -> boundary.isAfter(now))
 			.min(LocalDateTime::compareTo)
-			.orElse(null);
-	}
-
-	private void createScheduleDetailOfTodayRecurringSchedules(LocalDate today) {
-		LocalDateTime startOfToday = today.atStartOfDay();
-		DayOfWeek todayDayOfWeek = DayOfWeek.from(today.getDayOfWeek());
-
-		List<Schedule> schedules =
-			scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(
-				startOfToday,
-				todayDayOfWeek,
-				today
-			);
-
-		if (schedules.isEmpty()) {
-			return;
-		}
-
-		List<ScheduleDetail> details = schedules.stream()
-			.map(schedule -> ScheduleDetail.create(
-				today,
-				null,
-				null,
-				ScheduleStatus.PENDING,
-				null,
-				schedule
-			))
-			.toList();
-
-		scheduleDetailRepository.saveAll(details);
+			.orElse(today.plusDays(1).atStartOfDay());
 	}
 }
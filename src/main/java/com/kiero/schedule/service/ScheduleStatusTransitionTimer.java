@@ -0,0 +1,124 @@
+package com.kiero.schedule.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kiero.global.util.HierarchicalTimingWheel;
+import com.kiero.schedule.domain.enums.ScheduleStatus;
+import com.kiero.schedule.repository.ScheduleDetailRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+일정 종료 시각에 맞춰 scheduleDetail의 상태를 전이시킴
+- PENDING -> FAILED, VERIFIED -> COMPLETED
+- (날짜, 종료 시각) 단위로 타이밍 휠에 등록하고, 만료되면 해당 종료 시각 이하의 일정을 한 번에 update 함
+- 휠은 메모리에만 있으므로, 기동 시와 자정 배치 후에 DB에서 오늘 일정의 종료 시각을 읽어 다시 등록함
+- 여러 노드가 같은 종료 시각을 처리해도 update 조건에 이전 상태가 포함되어 있어 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleStatusTransitionTimer {
+
+	private static final long TICK_MS = 1_000L;
+	// 레벨 0은 1분, 레벨 1은 1시간, 레벨 2는 60시간을 한 바퀴로 가짐
+	private static final int WHEEL_SIZE = 60;
+	private static final List<ScheduleStatus> TRANSITABLE_STATUSES =
+		List.of(ScheduleStatus.PENDING, ScheduleStatus.VERIFIED);
+
+	private final ScheduleDetailRepository scheduleDetailRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	private final Map<TransitionKey, HierarchicalTimingWheel.Timeout<TransitionKey>> armed = new ConcurrentHashMap<>();
+	private HierarchicalTimingWheel<TransitionKey> wheel;
+
+	@PostConstruct
+	void initWheel() {
+		wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, clock.millis());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rearmOnStartup() {
+		armDate(LocalDate.now(clock));
+	}
+
+	/*
+	date의 전이 대상 일정들의 종료 시각을 모두 등록함
+	이미 종료 시각이 지난 일정은 (재기동 등으로 놓친 경우이므로) 바로 전이시킴
+	 */
+	public void armDate(LocalDate date) {
+		List<LocalTime> endTimes = scheduleDetailRepository.findDistinctEndTimesByDateAndScheduleStatusIn(
+			date, TRANSITABLE_STATUSES);
+
+		LocalDateTime now = LocalDateTime.now(clock);
+		LocalTime latestPassedEndTime = null;
+		for (LocalTime endTime : endTimes) {
+			if (fireAt(date, endTime).isAfter(now)) {
+				arm(date, endTime);
+			} else if (latestPassedEndTime == null || endTime.isAfter(latestPassedEndTime)) {
+				latestPassedEndTime = endTime;
+			}
+		}
+
+		// 지나간 종료 시각들은 가장 늦은 것 하나로 한 번에 처리됨
+		if (latestPassedEndTime != null) {
+			transit(new TransitionKey(date, latestPassedEndTime));
+		}
+	}
+
+	public void arm(LocalDate date, LocalTime endTime) {
+		if (endTime == null) {
+			return;
+		}
+		TransitionKey key = new TransitionKey(date, endTime);
+		long expirationMs = fireAt(date, endTime).atZone(clock.getZone()).toInstant().toEpochMilli();
+		armed.computeIfAbsent(key, k -> wheel.schedule(k, expirationMs));
+	}
+
+	@Scheduled(fixedRate = TICK_MS)
+	public void tick() {
+		for (TransitionKey key : wheel.advanceTo(clock.millis())) {
+			armed.remove(key);
+			transit(key);
+		}
+	}
+
+	private void transit(TransitionKey key) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				int failed = scheduleDetailRepository.bulkChangeStatusOfEndedSchedules(
+					key.date(), key.endTime(), ScheduleStatus.PENDING, ScheduleStatus.FAILED);
+				int completed = scheduleDetailRepository.bulkChangeStatusOfEndedSchedules(
+					key.date(), key.endTime(), ScheduleStatus.VERIFIED, ScheduleStatus.COMPLETED);
+
+				log.debug("일정 상태 전이: date={}, endTime={}, failed={}, completed={}",
+					key.date(), key.endTime(), failed, completed);
+			});
+		} catch (Exception e) {
+			log.error("일정 상태 전이 실패: date={}, endTime={}", key.date(), key.endTime(), e);
+		}
+	}
+
+	// 기존 판정 기준(endTime.isBefore(now))과 맞추기 위해 종료 시각 1초 뒤에 전이시킴
+	private LocalDateTime fireAt(LocalDate date, LocalTime endTime) {
+		return date.atTime(endTime).plusSeconds(1);
+	}
+
+	private record TransitionKey(LocalDate date, LocalTime endTime) {
+	}
+}
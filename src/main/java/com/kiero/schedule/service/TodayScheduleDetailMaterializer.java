@@ -0,0 +1,70 @@
+package com.kiero.schedule.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kiero.schedule.domain.enums.DayOfWeek;
+import com.kiero.schedule.repository.ScheduleDetailRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+당일 생성된 반복 일정의 오늘 scheduleDetail을 아이 단위로 지연 생성함
+한 번 생성을 시도한 (childId, date)는 노드 메모리에 기록하여, 이후 폴링에서는 쓰기 쿼리를 생략함
+- 호출하는 쪽에서 트랜잭션 밖에서 isMaterialized를 먼저 확인하고, 기록이 없을 때만 쓰기 트랜잭션을 시작함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayScheduleDetailMaterializer {
+
+	private final ScheduleDetailRepository scheduleDetailRepository;
+
+	// childId -> 생성이 완료된 날짜 (날짜가 바뀌면 덮어쓰므로 아이 수만큼만 유지됨)
+	private final Map<Long, LocalDate> materializedDates = new ConcurrentHashMap<>();
+
+	// 트랜잭션 없이 메모리만 확인하므로, 이미 생성한 (childId, date)는 커넥션을 잡지 않음
+	public boolean isMaterialized(Long childId, LocalDate today) {
+		return today.equals(materializedDates.get(childId));
+	}
+
+	// 조회 트랜잭션과 섞이지 않도록 별도의 쓰기 트랜잭션에서 실행함 (isMaterialized가 false일 때만 호출)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void materializeRecurringSchedulesCreatedToday(Long childId, LocalDate today) {
+		int created = scheduleDetailRepository.insertIgnoreTodayDetailsOfRecurringSchedulesCreatedToday(
+			childId,
+			today.atStartOfDay(),
+			DayOfWeek.from(today.getDayOfWeek()).bit(),
+			today
+		);
+
+		if (created > 0) {
+			log.debug("당일 생성된 반복 일정의 scheduleDetail 생성: childId={}, date={}, count={}", childId, today, created);
+		}
+
+		markAfterCommit(childId, today);
+	}
+
+	private void markAfterCommit(Long childId, LocalDate today) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			materializedDates.put(childId, today);
+			return;
+		}
+
+		// 롤백된 경우 기록하지 않아야 다음 폴링에서 다시 생성을 시도함
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				materializedDates.put(childId, today);
+			}
+		});
+	}
+}
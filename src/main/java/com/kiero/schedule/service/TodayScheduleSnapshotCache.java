@@ -0,0 +1,236 @@
+package com.kiero.schedule.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kiero.schedule.presentation.dto.TodayScheduleResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+아이 홈 화면(TodayScheduleResponse)의 (childId, date) 단위 스냅샷 캐시
+- L1: 노드 로컬 Caffeine, L2: Redis (TTL = 스냅샷 유효 시각까지)
+- 스냅샷은 다음 일정 시작/종료 시각(validUntil)까지만 유효하며, 그 이후에는 다시 계산함
+- 일정 상태를 바꾸는 쓰기는 커밋 후 evict하고, Redis 채널로 다른 노드의 L1도 비움
+- evict와 동시에 진행 중이던 조회가 이전 상태를 다시 넣지 않도록, 조회 시작 시점의 stamp가 바뀌었으면 put을 생략함
+  - L2: (childId, date)별 Redis 세대 키를 evict마다 올리고, put은 Lua로 세대를 비교한 뒤에만 저장함
+    (다른 노드의 evict도 세대 키로 보이므로, evict 전에 읽은 스냅샷이 TTL 동안 남지 않음)
+  - L1: (childId, date)별 노드 로컬 stamp를 evict마다 올린 뒤 invalidate하고, L1 저장은 같은 키의 compute 안에서 stamp를 비교함
+    (다른 아이의 evict는 stamp를 바꾸지 않으므로 진행 중인 put을 버리지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayScheduleSnapshotCache implements MessageListener {
+
+	private static final String KEY_PREFIX = "today-schedule-snapshot:";
+	private static final String GENERATION_KEY_PREFIX = "today-schedule-snapshot-generation:";
+	private static final String EVICT_CHANNEL = "today-schedule-snapshot:evict";
+	// 세대 키는 날짜 단위라 하루가 지나면 쓰이지 않음
+	private static final Duration GENERATION_TTL = Duration.ofDays(2);
+	private static final String METRIC_NAME = "kiero.schedule.today.snapshot";
+	private static final int LOCAL_MAXIMUM_SIZE = 10_000;
+
+	private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+		local generation = redis.call('GET', KEYS[2]) or '0'
+		if generation ~= ARGV[1] then
+			return 0
+		end
+		redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	private final Cache<String, Snapshot> localCache = Caffeine.newBuilder()
+		.maximumSize(LOCAL_MAXIMUM_SIZE)
+		.expireAfterWrite(Duration.ofDays(1))
+		.build();
+	// 키별 마지막 evict 순번 (evict된 적 없는 키는 0), 세대 키처럼 날짜가 지나면 쓰이지 않으므로 시간으로만 만료함
+	private final Cache<String, Long> evictionStamps = Caffeine.newBuilder()
+		.expireAfterWrite(GENERATION_TTL)
+		.build();
+	private final AtomicLong evictionSequence = new AtomicLong();
+
+	@PostConstruct
+	void subscribeEviction() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+	}
+
+	// 조회 전에 읽어 두고 put에 넘기는 값 (세대 조회에 실패하면 generation은 null이고 put을 생략함)
+	public Stamp stamp(Long childId, LocalDate date) {
+		long local = localStamp(key(childId, date));
+		try {
+			String generation = stringRedisTemplate.opsForValue().get(generationKey(childId, date));
+			return new Stamp(local, generation == null ? "0" : generation);
+		} catch (Exception e) {
+			log.warn("오늘 일정 스냅샷 세대 조회 실패: childId={}, date={}", childId, date, e);
+			return new Stamp(local, null);
+		}
+	}
+
+	public TodayScheduleResponse get(Long childId, LocalDate date) {
+		String key = key(childId, date);
+		LocalDateTime now = LocalDateTime.now(clock);
+
+		Snapshot local = localCache.getIfPresent(key);
+		if (local != null) {
+			if (local.validUntil().isAfter(now)) {
+				count("hit_local");
+				return local.response();
+			}
+			localCache.invalidate(key);
+			count("stale");
+		}
+
+		long localStamp = localStamp(key);
+		Snapshot remote = readRemote(key);
+		if (remote != null && remote.validUntil().isAfter(now)) {
+			putLocal(key, localStamp, remote);
+			count("hit_redis");
+			return remote.response();
+		}
+
+		count("miss");
+		return null;
+	}
+
+	public void put(Long childId, LocalDate date, Stamp stamp, TodayScheduleResponse response,
+		LocalDateTime validUntil) {
+		String key = key(childId, date);
+		if (stamp.generation() == null || localStamp(key) != stamp.local()) {
+			return;
+		}
+
+		Duration ttl = Duration.between(LocalDateTime.now(clock), validUntil);
+		if (ttl.isNegative() || ttl.isZero()) {
+			return;
+		}
+
+		Snapshot snapshot = new Snapshot(response, validUntil);
+		try {
+			Long stored = stringRedisTemplate.execute(
+				PUT_SCRIPT,
+				List.of(key, generationKey(childId, date)),
+				stamp.generation(),
+				objectMapper.writeValueAsString(snapshot),
+				String.valueOf(ttl.toMillis())
+			);
+			if (stored == null || stored != 1L) {
+				count("put_skipped");
+				return;
+			}
+		} catch (Exception e) {
+			log.warn("오늘 일정 스냅샷 Redis 저장 실패: key={}", key, e);
+			return;
+		}
+		putLocal(key, stamp.local(), snapshot);
+	}
+
+	/*
+	현재 트랜잭션이 커밋된 후에 스냅샷을 비움 (트랜잭션이 없으면 즉시)
+	 */
+	public void evictAfterCommit(Long childId, LocalDate date) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(childId, date);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(childId, date);
+			}
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String key = new String(message.getBody(), StandardCharsets.UTF_8);
+		evictLocal(key);
+	}
+
+	private void evict(Long childId, LocalDate date) {
+		String key = key(childId, date);
+		evictLocal(key);
+		try {
+			// 세대를 먼저 올려야 이후의 put이 evict 전에 읽은 스냅샷을 저장하지 못함
+			String generationKey = generationKey(childId, date);
+			stringRedisTemplate.opsForValue().increment(generationKey);
+			stringRedisTemplate.expire(generationKey, GENERATION_TTL);
+			stringRedisTemplate.delete(key);
+			stringRedisTemplate.convertAndSend(EVICT_CHANNEL, key);
+		} catch (Exception e) {
+			log.warn("오늘 일정 스냅샷 Redis 삭제 실패: key={}", key, e);
+		}
+	}
+
+	private void evictLocal(String key) {
+		evictionStamps.put(key, evictionSequence.incrementAndGet());
+		localCache.invalidate(key);
+	}
+
+	// evict는 키의 stamp를 올린 뒤 같은 키를 invalidate하므로, compute 안에서 stamp가 그대로면 evict 이전에 저장된 것임
+	private void putLocal(String key, long stamp, Snapshot snapshot) {
+		localCache.asMap().compute(key, (k, current) -> localStamp(k) == stamp ? snapshot : current);
+	}
+
+	private long localStamp(String key) {
+		Long stamp = evictionStamps.getIfPresent(key);
+		return stamp == null ? 0L : stamp;
+	}
+
+	private Snapshot readRemote(String key) {
+		try {
+			String json = stringRedisTemplate.opsForValue().get(key);
+			return json == null ? null : objectMapper.readValue(json, Snapshot.class);
+		} catch (Exception e) {
+			log.warn("오늘 일정 스냅샷 Redis 조회 실패: key={}", key, e);
+			return null;
+		}
+	}
+
+	private void count(String result) {
+		meterRegistry.counter(METRIC_NAME, "result", result).increment();
+	}
+
+	private String key(Long childId, LocalDate date) {
+		return KEY_PREFIX + childId + ":" + date;
+	}
+
+	private String generationKey(Long childId, LocalDate date) {
+		return GENERATION_KEY_PREFIX + childId + ":" + date;
+	}
+
+	public record Snapshot(TodayScheduleResponse response, LocalDateTime validUntil) {
+	}
+
+	public record Stamp(long local, String generation) {
+	}
+}
@@ -19,7 +19,7 @@ public final class TodayScheduleStatusResolver {
 		int earnedStones,
 		ScheduleDetail todoScheduleDetail,
 		List<ScheduleDetail> filteredAllScheduleDetails,
-		LocalDateTime earliestStoneUsedAt
+		LocalDateTime fireLitAt
 	) {
 		int totalSchedule = filteredAllScheduleDetails == null ? 0 : filteredAllScheduleDetails.size();
 
@@ -34,7 +34,7 @@ public final class TodayScheduleStatusResolver {
 				.count();
 
 			// 일정을 모두 거쳤고, 불피우기는 진행하지 않았을 때
-			if (passedScheduleCount == totalSchedule && earliestStoneUsedAt == null) {
+			if (passedScheduleCount == totalSchedule && fireLitAt == null) {
 				log.info("totalSchedule" + totalSchedule + "passedScheduleCount" + passedScheduleCount);
 				// 모든 일정을 스킵하거나 실패해서 얻은 불조각 수가 0개일 때
 				if (earnedStones == 0) { return TodayScheduleStatus.NO_SCHEDULE; }
@@ -43,7 +43,7 @@ public final class TodayScheduleStatusResolver {
 			}
 
 			// 일정을 모두 완료하고, 불피우기까지 완료했을 때
-			if (earliestStoneUsedAt != null) {
+			if (fireLitAt != null) {
 				return TodayScheduleStatus.FIRE_LIT;
 			}
 		}
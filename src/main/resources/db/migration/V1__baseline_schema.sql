@@ -0,0 +1,122 @@
+-- 기존 ddl-auto로 생성되어 운영 중이던 스키마
+-- 이미 운영 중인 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 표시하고 V2부터 실행함
+
+CREATE TABLE parent
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    image      VARCHAR(255),
+    role       ENUM ('PARENT', 'CHILD', 'ADMIN') NOT NULL,
+    provider   ENUM ('KAKAO') NOT NULL,
+    social_id  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE child
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6)  NOT NULL,
+    last_name   VARCHAR(255) NOT NULL,
+    first_name  VARCHAR(255) NOT NULL,
+    role        ENUM ('PARENT', 'CHILD', 'ADMIN') NOT NULL,
+    coin_amount INTEGER      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE parent_child
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    parent_id  BIGINT      NOT NULL,
+    child_id   BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_parent_child UNIQUE (parent_id, child_id),
+    CONSTRAINT fk_parent_child_parent FOREIGN KEY (parent_id) REFERENCES parent (id),
+    CONSTRAINT fk_parent_child_child FOREIGN KEY (child_id) REFERENCES child (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE coupon
+(
+    id    BIGINT       NOT NULL AUTO_INCREMENT,
+    name  VARCHAR(255) NOT NULL,
+    price INTEGER      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE holiday
+(
+    date       DATE        NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    name       VARCHAR(255),
+    updated_at DATETIME(6),
+    PRIMARY KEY (date)
+) ENGINE = InnoDB;
+
+CREATE TABLE mission
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6)  NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    reward       INTEGER      NOT NULL,
+    due_at       DATE         NOT NULL,
+    is_completed BIT          NOT NULL,
+    parent_id    BIGINT       NOT NULL,
+    child_id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_mission_parent FOREIGN KEY (parent_id) REFERENCES parent (id),
+    CONSTRAINT fk_mission_child FOREIGN KEY (child_id) REFERENCES child (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE feed_item
+(
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    event_type  ENUM ('MISSION', 'SCHEDULE', 'COUPON', 'COMPLETE') NOT NULL,
+    metadata    JSON        NOT NULL,
+    parent_id   BIGINT      NOT NULL,
+    child_id    BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_feed_item_parent FOREIGN KEY (parent_id) REFERENCES parent (id),
+    CONSTRAINT fk_feed_item_child FOREIGN KEY (child_id) REFERENCES child (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE schedule
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6)  NOT NULL,
+    start_time     TIME         NOT NULL,
+    end_time       TIME         NOT NULL,
+    name           VARCHAR(255) NOT NULL,
+    schedule_color ENUM ('SCHEDULE1', 'SCHEDULE2', 'SCHEDULE3', 'SCHEDULE4', 'SCHEDULE5') NOT NULL,
+    is_recurring   BIT          NOT NULL,
+    parent_id      BIGINT       NOT NULL,
+    child_id       BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_parent FOREIGN KEY (parent_id) REFERENCES parent (id),
+    CONSTRAINT fk_schedule_child FOREIGN KEY (child_id) REFERENCES child (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE schedule_repeat_days
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    day_of_week ENUM ('MON', 'TUE', 'WED', 'THU', 'FRI', 'SAT', 'SUN') NOT NULL,
+    schedule_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_repeat_days_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE schedule_detail
+(
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    date            DATE        NOT NULL,
+    image_url       VARCHAR(255),
+    stone_used_at   DATETIME(6),
+    schedule_status ENUM ('PENDING', 'SKIPPED', 'FAILED', 'VERIFIED', 'COMPLETED') NOT NULL,
+    stone_type      ENUM ('COURAGE', 'WISDOM', 'GRIT'),
+    schedule_id     BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedule_detail_schedule FOREIGN KEY (schedule_id) REFERENCES schedule (id)
+) ENGINE = InnoDB;
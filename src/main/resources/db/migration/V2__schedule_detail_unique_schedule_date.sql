@@ -0,0 +1,13 @@
+-- schedule_detail (schedule_id, date) 유니크 제약 추가
+
+-- 1. 중복된 scheduleDetail 정리 (가장 먼저 생성된 행만 남김)
+DELETE sd
+FROM schedule_detail sd
+JOIN schedule_detail keep
+  ON keep.schedule_id = sd.schedule_id
+ AND keep.date = sd.date
+ AND keep.id < sd.id;
+
+-- 2. 유니크 제약 추가
+ALTER TABLE schedule_detail
+    ADD CONSTRAINT uk_schedule_detail_schedule_date UNIQUE (schedule_id, date);
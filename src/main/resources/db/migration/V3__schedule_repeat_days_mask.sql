@@ -0,0 +1,27 @@
+-- schedule_repeat_days 테이블을 schedule.repeat_days_mask 비트마스크로 대체
+-- MON = 1, TUE = 2, WED = 4, THU = 8, FRI = 16, SAT = 32, SUN = 64 (DayOfWeek.bit() 참고)
+
+-- 1. 컬럼 추가 (단일 일정은 0)
+ALTER TABLE schedule
+    ADD COLUMN repeat_days_mask INT NOT NULL DEFAULT 0;
+
+-- 2. 기존 반복 요일 이관 (같은 요일이 중복 저장된 경우에도 비트는 한 번만 더해짐)
+UPDATE schedule s
+JOIN (
+    SELECT rd.schedule_id,
+           BIT_OR(CASE rd.day_of_week
+                      WHEN 'MON' THEN 1
+                      WHEN 'TUE' THEN 2
+                      WHEN 'WED' THEN 4
+                      WHEN 'THU' THEN 8
+                      WHEN 'FRI' THEN 16
+                      WHEN 'SAT' THEN 32
+                      WHEN 'SUN' THEN 64
+                  END) AS mask
+    FROM schedule_repeat_days rd
+    GROUP BY rd.schedule_id
+) m ON m.schedule_id = s.id
+SET s.repeat_days_mask = m.mask;
+
+-- 3. 기존 테이블 삭제
+DROP TABLE schedule_repeat_days;
@@ -0,0 +1,18 @@
+-- 자주 실행되는 조회 조건에 맞춘 복합 인덱스
+
+-- 날짜 단위 상태 전이/종료 시각 조회 (ScheduleStatusTransitionTimer)
+-- 기존 유니크 키는 (schedule_id, date) 순서라 날짜만으로는 사용할 수 없음
+CREATE INDEX idx_schedule_detail_date_schedule ON schedule_detail (date, schedule_id);
+
+-- 아이의 반복/단일 일정 조회, 일정 탭의 생성 시각 조건
+CREATE INDEX idx_schedule_child_recurring_created ON schedule (child_id, is_recurring, created_at);
+
+-- 피드 keyset 페이지 조회 (order by occurred_at desc, id desc)
+CREATE INDEX idx_feed_item_parent_child_occurred ON feed_item (parent_id, child_id, occurred_at DESC, id DESC);
+
+-- 오늘 이후 미션 조회 (아이 / 부모)
+CREATE INDEX idx_mission_child_due ON mission (child_id, due_at);
+CREATE INDEX idx_mission_parent_due ON mission (parent_id, due_at);
+
+-- 소셜 로그인 회원 조회
+CREATE INDEX idx_parent_social_provider ON parent (social_id, provider);
@@ -0,0 +1,19 @@
+-- 아이의 날짜별 불피우기 기록
+CREATE TABLE fire_lit_record
+(
+    id       BIGINT      NOT NULL AUTO_INCREMENT,
+    child_id BIGINT      NOT NULL,
+    date     DATE        NOT NULL,
+    lit_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_fire_lit_record_child_date UNIQUE (child_id, date),
+    CONSTRAINT fk_fire_lit_record_child FOREIGN KEY (child_id) REFERENCES child (id)
+) ENGINE = InnoDB;
+
+-- 기존 불피우기 이력 이관 (scheduleDetail.stone_used_at 기준)
+INSERT IGNORE INTO fire_lit_record (child_id, date, lit_at)
+SELECT s.child_id, sd.date, MIN(sd.stone_used_at)
+FROM schedule_detail sd
+JOIN schedule s ON s.id = sd.schedule_id
+WHERE sd.stone_used_at IS NOT NULL
+GROUP BY s.child_id, sd.date;
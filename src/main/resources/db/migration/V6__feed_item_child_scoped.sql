@@ -0,0 +1,34 @@
+-- 피드 아이템을 부모별 복제 없이 아이 기준 한 행으로 저장함 (부모별 노출은 조회 시 parent_child로 판단)
+
+-- 같은 이벤트가 부모마다 복제된 행 중 id가 가장 작은 것만 남김
+DELETE f
+FROM feed_item f
+JOIN feed_item kept
+  ON kept.child_id = f.child_id
+ AND kept.occurred_at = f.occurred_at
+ AND kept.event_type = f.event_type
+ AND kept.metadata = f.metadata
+ AND kept.parent_id <> f.parent_id
+ AND kept.id < f.id;
+
+-- parent_id의 외래 키 이름은 DB마다 다름 (Flyway로 만든 DB는 fk_feed_item_parent, ddl-auto로 만든 DB는 FK...)
+-- information_schema에서 실제 이름을 찾아서 지움
+SET @drop_parent_fk = (
+    SELECT CONCAT('ALTER TABLE feed_item ',
+                  GROUP_CONCAT(DISTINCT CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'feed_item'
+      AND COLUMN_NAME = 'parent_id'
+      AND REFERENCED_TABLE_NAME IS NOT NULL
+);
+SET @drop_parent_fk = IFNULL(@drop_parent_fk, 'DO 0');
+PREPARE drop_parent_fk FROM @drop_parent_fk;
+EXECUTE drop_parent_fk;
+DEALLOCATE PREPARE drop_parent_fk;
+
+DROP INDEX idx_feed_item_parent_child_occurred ON feed_item;
+ALTER TABLE feed_item DROP COLUMN parent_id;
+
+-- 아이 피드 커서 조회 (occurred_at desc, id desc)
+CREATE INDEX idx_feed_item_child_occurred ON feed_item (child_id, occurred_at DESC, id DESC);
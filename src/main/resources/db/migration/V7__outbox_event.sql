@@ -0,0 +1,21 @@
+-- 도메인 이벤트 아웃박스 (비즈니스 변경과 같은 트랜잭션에 기록하고 릴레이가 비동기로 처리)
+CREATE TABLE outbox_event
+(
+    id              BIGINT                                   NOT NULL AUTO_INCREMENT,
+    topic           ENUM ('FEED_ITEM')                       NOT NULL,
+    child_id        BIGINT                                   NOT NULL,
+    payload         JSON                                     NOT NULL,
+    status          ENUM ('PENDING', 'PUBLISHED', 'FAILED')  NOT NULL,
+    attempts        INT                                      NOT NULL,
+    next_attempt_at DATETIME(6)                              NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)                              NOT NULL,
+    published_at    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 릴레이가 처리할 차례가 된 이벤트 조회 (status = 'PENDING' and next_attempt_at <= now order by id)
+CREATE INDEX idx_outbox_event_status_next_attempt ON outbox_event (status, next_attempt_at, id);
+
+-- 처리가 끝난 이벤트 정리
+CREATE INDEX idx_outbox_event_status_published ON outbox_event (status, published_at);
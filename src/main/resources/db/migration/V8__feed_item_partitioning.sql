@@ -0,0 +1,48 @@
+-- feed_item을 occurred_at 기준 월별 RANGE 파티션으로 나누고, 보관 기간이 지난 파티션을 옮길 압축 아카이브 테이블을 만듦
+
+-- 파티션 테이블은 외래 키를 가질 수 없고, 모든 유니크 키(PK 포함)에 파티션 컬럼이 포함되어야 함
+-- child_id의 외래 키 이름은 DB마다 다름 (Flyway로 만든 DB는 fk_feed_item_child, ddl-auto로 만든 DB는 FK...)
+-- information_schema에서 실제 이름을 찾아서 지움
+SET @drop_child_fk = (
+    SELECT CONCAT('ALTER TABLE feed_item ',
+                  GROUP_CONCAT(DISTINCT CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+    FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'feed_item'
+      AND COLUMN_NAME = 'child_id'
+      AND REFERENCED_TABLE_NAME IS NOT NULL
+);
+SET @drop_child_fk = IFNULL(@drop_child_fk, 'DO 0');
+PREPARE drop_child_fk FROM @drop_child_fk;
+EXECUTE drop_child_fk;
+DEALLOCATE PREPARE drop_child_fk;
+
+ALTER TABLE feed_item DROP PRIMARY KEY, ADD PRIMARY KEY (id, occurred_at);
+
+-- p{yyyyMM}은 해당 월의 행을 담음 (첫 파티션은 그 이전의 행도 모두 담음)
+-- 적용 시점의 이번 달 파티션과 p_future만 만들고, 다음 달부터는 FeedRetentionJob이 기동 시와 매일 p_future를 나누어 만듦
+SET @partition_feed_item = CONCAT(
+        'ALTER TABLE feed_item PARTITION BY RANGE COLUMNS (occurred_at) (',
+        'PARTITION p', DATE_FORMAT(CURDATE(), '%Y%m'),
+        ' VALUES LESS THAN (''', DATE_FORMAT(CURDATE() + INTERVAL 1 MONTH, '%Y-%m-01'), '''), ',
+        'PARTITION p_future VALUES LESS THAN (MAXVALUE))'
+                           );
+PREPARE partition_feed_item FROM @partition_feed_item;
+EXECUTE partition_feed_item;
+DEALLOCATE PREPARE partition_feed_item;
+
+-- 보관 기간이 지난 피드 아이템 (깊은 커서 조회 시에만 읽음)
+CREATE TABLE feed_item_archive
+(
+    id          BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    event_type  ENUM ('MISSION', 'SCHEDULE', 'COUPON', 'COMPLETE') NOT NULL,
+    metadata    JSON        NOT NULL,
+    child_id    BIGINT      NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  ROW_FORMAT = COMPRESSED
+  KEY_BLOCK_SIZE = 8;
+
+CREATE INDEX idx_feed_item_archive_child_occurred ON feed_item_archive (child_id, occurred_at DESC, id DESC);
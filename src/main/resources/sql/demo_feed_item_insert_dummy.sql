@@ -3,8 +3,7 @@ INSERT INTO feed_item (
     metadata,
     occurred_at,
     created_at,
-    child_id,
-    parent_id
+    child_id
 )
 VALUES
     (
@@ -12,38 +11,33 @@ VALUES
         '{"amount": 50, "content": "놀이동산 가기"}',
         '2026-01-23 20:17:00.000000',
         '2026-01-16 09:03:46.000000',
-        :childId,
-        :parentId
+        :childId
     ),
     (
         'MISSION',
         '{"amount": 35, "content": "받아쓰기 만점"}',
         '2026-01-23 19:46:00.000000',
         '2026-01-16 09:03:46.000000',
-        :childId,
-        :parentId
+        :childId
     ),
     (
         'COMPLETE',
         '{"amount": 10}',
         '2026-01-23 17:15:22.000000',
         '2026-01-16 09:03:46.000000',
-        :childId,
-        :parentId
+        :childId
     ),
     (
         'COMPLETE',
         '{"amount": 10}',
         '2026-01-22 20:37:00.000000',
         '2026-01-13 09:03:46.000000',
-        :childId,
-        :parentId
+        :childId
     ),
     (
         'SCHEDULE',
         '{"content": "피아노 학원", "imageUrl": "https://kiero-bucket.s3.ap-northeast-2.amazonaws.com/schedule/piano.JPG"}',
         '2026-01-22 13:55:00.000000',
         '2026-01-12 13:55:00.000000',
-        :childId,
-        :parentId
+        :childId
     );
\ No newline at end of file
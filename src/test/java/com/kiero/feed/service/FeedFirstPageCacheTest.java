@@ -0,0 +1,182 @@
+package com.kiero.feed.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kiero.feed.domain.enums.EventType;
+import com.kiero.feed.infrastructure.event.dto.FeedItemsCreatedEvent.FeedItemInfo;
+import com.kiero.feed.repository.dto.FeedItemRow;
+import com.kiero.global.util.RawJson;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+Redis 컨테이너에서 피드 첫 페이지 캐시의 Lua 스크립트 동작을 확인함
+- Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class FeedFirstPageCacheTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS_CONTAINER = new GenericContainer<>("redis:7-alpine")
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate stringRedisTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private FeedFirstPageCache feedFirstPageCache;
+
+	private final Long childId = 1L;
+	private final LocalDateTime base = LocalDateTime.of(2026, 1, 15, 11, 30);
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+		feedFirstPageCache = new FeedFirstPageCache(stringRedisTemplate, objectMapper, meterRegistry);
+	}
+
+	private FeedItemInfo item(Long id, LocalDateTime occurredAt) {
+		return new FeedItemInfo(id, childId, EventType.MISSION, occurredAt, metadata(id));
+	}
+
+	@Test
+	void 캐시가_없으면_붙이지_않고_miss를_반환함() {
+		// when
+		feedFirstPageCache.append(item(1L, base));
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20)).isNull();
+		assertThat(meterRegistry.counter("kiero.feed.first-page", "result", "miss").count()).isEqualTo(1);
+	}
+
+	@Test
+	void 다시_만든_캐시에_새_항목이_최신순으로_붙음() {
+		// given
+		String stamp = feedFirstPageCache.stamp(childId);
+		feedFirstPageCache.put(childId, stamp, List.of(
+			FeedFirstPageCache.Entry.from(feedItem(2L, base.minusMinutes(1))),
+			FeedFirstPageCache.Entry.from(feedItem(1L, base.minusMinutes(2)))
+		));
+
+		// when
+		feedFirstPageCache.append(item(3L, base));
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20))
+			.extracting(FeedFirstPageCache.Entry::id)
+			.containsExactly(3L, 2L, 1L);
+		assertThat(feedFirstPageCache.get(childId, 20).get(0).metadata()).isEqualTo(metadata(3L));
+	}
+
+	@Test
+	void 세대가_바뀐_뒤에는_다시_만든_캐시를_저장하지_않음() {
+		// given
+		String stamp = feedFirstPageCache.stamp(childId);
+
+		// DB 조회 도중 다른 항목이 커밋되어 붙이기가 먼저 실행된 경우
+		feedFirstPageCache.append(item(2L, base));
+
+		// when
+		feedFirstPageCache.put(childId, stamp, List.of(FeedFirstPageCache.Entry.from(feedItem(1L, base.minusMinutes(1)))));
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20)).isNull();
+	}
+
+	@Test
+	void 맨_앞_항목보다_오래된_항목이_들어오면_캐시를_비움() {
+		// given
+		feedFirstPageCache.put(childId, feedFirstPageCache.stamp(childId),
+			List.of(FeedFirstPageCache.Entry.from(feedItem(2L, base))));
+
+		// when
+		feedFirstPageCache.append(item(3L, base.minusMinutes(5)));
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20)).isNull();
+	}
+
+	@Test
+	void 최대_개수를_넘으면_오래된_항목부터_잘림() {
+		// given
+		feedFirstPageCache.put(childId, feedFirstPageCache.stamp(childId),
+			List.of(FeedFirstPageCache.Entry.from(feedItem(1L, base))));
+
+		// when
+		for (long id = 2; id <= FeedFirstPageCache.CAPACITY + 10; id++) {
+			feedFirstPageCache.append(item(id, base.plusMinutes(id)));
+		}
+
+		// then
+		assertThat(stringRedisTemplate.opsForList().size("feed-first-page:" + childId))
+			.isEqualTo(FeedFirstPageCache.CAPACITY);
+		assertThat(feedFirstPageCache.get(childId, 0))
+			.extracting(FeedFirstPageCache.Entry::id)
+			.containsExactly((long)FeedFirstPageCache.CAPACITY + 10);
+	}
+
+	@Test
+	void 빈_첫_페이지도_캐시하고_새_항목이_들어오면_그_항목만_남음() {
+		// given
+		feedFirstPageCache.put(childId, feedFirstPageCache.stamp(childId), List.of());
+		assertThat(feedFirstPageCache.get(childId, 20)).isEmpty();
+
+		// when
+		feedFirstPageCache.append(item(1L, base));
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20))
+			.extracting(FeedFirstPageCache.Entry::id)
+			.containsExactly(1L);
+		assertThat(meterRegistry.counter("kiero.feed.first-page", "result", "miss").count()).isZero();
+	}
+
+	@Test
+	void 세대가_바뀐_뒤에는_빈_첫_페이지를_저장하지_않음() {
+		// given
+		String stamp = feedFirstPageCache.stamp(childId);
+		feedFirstPageCache.append(item(1L, base));
+
+		// when
+		feedFirstPageCache.put(childId, stamp, List.of());
+
+		// then
+		assertThat(feedFirstPageCache.get(childId, 20)).isNull();
+	}
+
+	private FeedItemRow feedItem(Long id, LocalDateTime occurredAt) {
+		return new FeedItemRow(id, EventType.MISSION, occurredAt, metadata(id));
+	}
+
+	private RawJson metadata(Long amount) {
+		return RawJson.of("{\"amount\":" + amount + "}");
+	}
+}
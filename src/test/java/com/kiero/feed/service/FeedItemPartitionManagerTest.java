@@ -0,0 +1,111 @@
+package com.kiero.feed.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+MySQL 컨테이너에 마이그레이션을 적용한 뒤 feed_item 월별 파티션의 추가/보관 처리를 확인함
+- Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class FeedItemPartitionManagerTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	private JdbcTemplate jdbcTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private FeedItemPartitionManager feedItemPartitionManager;
+
+	@BeforeEach
+	void setUp() {
+		Flyway flyway = Flyway.configure()
+			.dataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword())
+			.locations("classpath:db/migration")
+			.cleanDisabled(false)
+			.load();
+		flyway.clean();
+		flyway.migrate();
+
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword()));
+		// 마이그레이션은 적용한 날의 월 파티션을 만드므로, 실행 날짜에 관계없도록 고정된 파티션으로 다시 나눔
+		jdbcTemplate.execute("""
+			alter table feed_item partition by range columns (occurred_at) (
+				partition p202512 values less than ('2026-01-01'),
+				partition p202601 values less than ('2026-02-01'),
+				partition p202602 values less than ('2026-03-01'),
+				partition p_future values less than (maxvalue)
+			)
+			""");
+		meterRegistry = new SimpleMeterRegistry();
+		feedItemPartitionManager = new FeedItemPartitionManager(jdbcTemplate, meterRegistry);
+	}
+
+	private void insertFeedItem(long childId, String occurredAt) {
+		jdbcTemplate.update("""
+			insert into feed_item (created_at, occurred_at, event_type, metadata, child_id)
+			values (now(6), ?, 'MISSION', '{"amount": 10}', ?)
+			""", occurredAt, childId);
+	}
+
+	private List<String> partitionNames() {
+		return jdbcTemplate.queryForList("""
+			select partition_name
+			from information_schema.partitions
+			where table_schema = database() and table_name = 'feed_item'
+			order by partition_ordinal_position
+			""", String.class);
+	}
+
+	@Test
+	void 기준_월보다_오래된_파티션은_아카이브로_옮기고_지움() {
+		// given
+		insertFeedItem(1L, "2025-11-30 23:59:59");
+		insertFeedItem(1L, "2025-12-15 10:00:00");
+		insertFeedItem(1L, "2026-01-10 10:00:00");
+		insertFeedItem(1L, "2026-02-01 00:00:00");
+
+		// when
+		feedItemPartitionManager.archiveBefore(YearMonth.of(2026, 2));
+
+		// then
+		assertThat(partitionNames()).doesNotContain("p202512", "p202601").contains("p202602", "p_future");
+		assertThat(jdbcTemplate.queryForObject("select count(*) from feed_item", Long.class)).isEqualTo(1L);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from feed_item_archive", Long.class)).isEqualTo(3L);
+		assertThat(meterRegistry.counter("kiero.feed.retention.rows.moved").count()).isEqualTo(3);
+		assertThat(meterRegistry.counter("kiero.feed.retention.partitions.dropped").count()).isEqualTo(2);
+	}
+
+	@Test
+	void 다음_달_파티션을_미리_만들고_이미_있으면_그대로_둠() {
+		// given
+		insertFeedItem(1L, "2027-02-10 10:00:00");
+
+		// when
+		feedItemPartitionManager.ensurePartitionsUntil(YearMonth.of(2027, 2));
+		feedItemPartitionManager.ensurePartitionsUntil(YearMonth.of(2027, 2));
+
+		// then
+		List<String> names = partitionNames();
+		assertThat(names.subList(names.size() - 3, names.size())).containsExactly("p202701", "p202702", "p_future");
+		assertThat(jdbcTemplate.queryForObject(
+			"select count(*) from feed_item partition (p202702)", Long.class)).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,175 @@
+package com.kiero.global.infrastructure.etag.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.kiero.global.auth.enums.Role;
+import com.kiero.global.infrastructure.etag.annotation.ConditionalGet;
+import com.kiero.global.infrastructure.etag.domain.ResourceVersionScope;
+import com.kiero.global.infrastructure.etag.service.ResourceVersionService;
+
+@ExtendWith(MockitoExtension.class)
+public class ConditionalGetInterceptorTest {
+
+	@Mock
+	private ResourceVersionService resourceVersionService;
+
+	private ConditionalGetInterceptor interceptor;
+	private HandlerMethod feedHandler;
+
+	private final Long parentId = 1L;
+	private final Long childId = 10L;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		Clock fixedClock = Clock.fixed(Instant.parse("2026-01-15T02:30:00Z"), ZoneId.of("Asia/Seoul"));
+		interceptor = new ConditionalGetInterceptor(resourceVersionService, fixedClock);
+		feedHandler = new HandlerMethod(new TestController(), TestController.class.getMethod("getFeed"));
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			parentId.toString(), null, List.of(Role.PARENT.toGrantedAuthority())));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void 처음_조회하면_ETag를_붙이고_그대로_진행함() {
+		// given
+		given(resourceVersionService.currentVersion(ResourceVersionScope.FEED, childId)).willReturn(3L);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		boolean proceed = interceptor.preHandle(feedRequest(null), response, feedHandler);
+
+		// then
+		assertThat(proceed).isTrue();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+	}
+
+	@Test
+	void 버전이_그대로면_304로_응답함() {
+		// given
+		given(resourceVersionService.currentVersion(ResourceVersionScope.FEED, childId)).willReturn(3L);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		interceptor.preHandle(feedRequest(null), first, feedHandler);
+
+		MockHttpServletResponse second = new MockHttpServletResponse();
+
+		// when
+		boolean proceed = interceptor.preHandle(feedRequest(first.getHeader(HttpHeaders.ETAG)), second, feedHandler);
+
+		// then
+		assertThat(proceed).isFalse();
+		assertThat(second.getStatus()).isEqualTo(304);
+	}
+
+	@Test
+	void 버전이_바뀌면_다시_조회함() {
+		// given
+		given(resourceVersionService.currentVersion(ResourceVersionScope.FEED, childId)).willReturn(3L, 4L);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		interceptor.preHandle(feedRequest(null), first, feedHandler);
+
+		MockHttpServletResponse second = new MockHttpServletResponse();
+
+		// when
+		boolean proceed = interceptor.preHandle(feedRequest(first.getHeader(HttpHeaders.ETAG)), second, feedHandler);
+
+		// then
+		assertThat(proceed).isTrue();
+		assertThat(second.getStatus()).isEqualTo(200);
+		assertThat(second.getHeader(HttpHeaders.ETAG)).isNotEqualTo(first.getHeader(HttpHeaders.ETAG));
+	}
+
+	@Test
+	void 다른_사용자가_받은_ETag로는_304를_받을_수_없음() {
+		// given
+		given(resourceVersionService.currentVersion(ResourceVersionScope.FEED, childId)).willReturn(3L);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		interceptor.preHandle(feedRequest(null), first, feedHandler);
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			"2", null, List.of(Role.PARENT.toGrantedAuthority())));
+		MockHttpServletResponse second = new MockHttpServletResponse();
+
+		// when
+		boolean proceed = interceptor.preHandle(feedRequest(first.getHeader(HttpHeaders.ETAG)), second, feedHandler);
+
+		// then
+		assertThat(proceed).isTrue();
+	}
+
+	@Test
+	void 아이는_다른_아이의_id를_보내도_자기_버전으로_ETag를_만듦() {
+		// given
+		Long otherChildId = 20L;
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			childId.toString(), null, List.of(Role.CHILD.toGrantedAuthority())));
+		given(resourceVersionService.currentVersion(ResourceVersionScope.FEED, childId)).willReturn(3L);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/feeds/" + otherChildId);
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+			Map.of("childId", otherChildId.toString()));
+
+		// when
+		interceptor.preHandle(request, new MockHttpServletResponse(), feedHandler);
+
+		// then
+		verify(resourceVersionService).currentVersion(ResourceVersionScope.FEED, childId);
+		verify(resourceVersionService, never()).currentVersion(ResourceVersionScope.FEED, otherChildId);
+	}
+
+	@Test
+	void 커서가_있는_요청은_조건부_응답을_하지_않음() {
+		// given
+		MockHttpServletRequest request = feedRequest(null);
+		request.setParameter("cursor", "abc");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		boolean proceed = interceptor.preHandle(request, response, feedHandler);
+
+		// then
+		assertThat(proceed).isTrue();
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+		verify(resourceVersionService, never()).currentVersion(any(), any());
+	}
+
+	private MockHttpServletRequest feedRequest(String ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/feeds/" + childId);
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("childId", childId.toString()));
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return request;
+	}
+
+	static class TestController {
+		@ConditionalGet(value = ResourceVersionScope.FEED, childIdParam = "childId", skipIfPresent = "cursor")
+		public void getFeed() {
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.kiero.global.infrastructure.outbox.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kiero.global.infrastructure.outbox.domain.OutboxEvent;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxStatus;
+import com.kiero.global.infrastructure.outbox.domain.enums.OutboxTopic;
+import com.kiero.global.infrastructure.outbox.processor.OutboxEventProcessor;
+import com.kiero.global.infrastructure.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+	@Mock
+	OutboxEventRepository outboxEventRepository;
+	@Mock
+	PlatformTransactionManager transactionManager;
+	@Mock
+	OutboxEventProcessor feedItemProcessor;
+
+	private final Clock fixedClock = Clock.fixed(Instant.parse("2026-01-15T02:30:00Z"), KST);
+	private final LocalDateTime now = LocalDateTime.now(fixedClock);
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		given(feedItemProcessor.topic()).willReturn(OutboxTopic.FEED_ITEM);
+		meterRegistry = new SimpleMeterRegistry();
+		outboxRelay = new OutboxRelay(
+			outboxEventRepository,
+			new TransactionTemplate(transactionManager),
+			meterRegistry,
+			fixedClock,
+			List.of(feedItemProcessor)
+		);
+	}
+
+	private OutboxEvent pendingEvent(Long id, int attempts) {
+		return OutboxEvent.builder()
+			.id(id)
+			.topic(OutboxTopic.FEED_ITEM)
+			.childId(1L)
+			.payload("{}")
+			.status(OutboxStatus.PENDING)
+			.attempts(attempts)
+			// relayBatch가 임대한 상태 (임대 만료 시각 = now + 30초)
+			.nextAttemptAt(now.plusSeconds(30))
+			.createdAt(now.minusSeconds(3))
+			.build();
+	}
+
+	@Nested
+	class RelayBatch {
+
+		@Test
+		void 가져간_이벤트를_임대하고_처리한_뒤_PUBLISHED로_바꿈() {
+			// given
+			OutboxEvent event = pendingEvent(10L, 1);
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of(10L));
+			given(outboxEventRepository.findByIdForUpdate(10L)).willReturn(Optional.of(event));
+
+			// when
+			int relayed = outboxRelay.relayBatch();
+
+			// then
+			assertThat(relayed).isEqualTo(1);
+			verify(outboxEventRepository).lease(List.of(10L), now.plusSeconds(30));
+			verify(feedItemProcessor).process(event);
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+			assertThat(event.getPublishedAt()).isEqualTo(now);
+			assertThat(meterRegistry.timer("kiero.outbox.relay.lag", "topic", "FEED_ITEM").count()).isEqualTo(1);
+		}
+
+		@Test
+		void 가져갈_이벤트가_없으면_임대하지_않음() {
+			// given
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of());
+
+			// when
+			int relayed = outboxRelay.relayBatch();
+
+			// then
+			assertThat(relayed).isZero();
+			verify(outboxEventRepository, never()).lease(anyList(), any());
+			verify(feedItemProcessor, never()).process(any());
+		}
+
+		@Test
+		void 처리에_실패하면_백오프_후에_다시_가져가도록_예약함() {
+			// given
+			OutboxEvent event = pendingEvent(10L, 3);
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of(10L));
+			given(outboxEventRepository.findByIdForUpdate(10L)).willReturn(Optional.of(event));
+			willThrow(new IllegalStateException("boom")).given(feedItemProcessor).process(event);
+
+			// when
+			outboxRelay.relayBatch();
+
+			// then
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+			assertThat(event.getNextAttemptAt()).isEqualTo(now.plusSeconds(4));
+			assertThat(event.getLastError()).contains("boom");
+			verify(transactionManager).rollback(any());
+		}
+
+		@Test
+		void 최대_시도_횟수만큼_실패하면_FAILED로_둠() {
+			// given
+			OutboxEvent event = pendingEvent(10L, 10);
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of(10L));
+			given(outboxEventRepository.findByIdForUpdate(10L)).willReturn(Optional.of(event));
+			willThrow(new IllegalStateException("boom")).given(feedItemProcessor).process(event);
+
+			// when
+			outboxRelay.relayBatch();
+
+			// then
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+			assertThat(meterRegistry.counter("kiero.outbox.relay", "topic", "FEED_ITEM", "result", "failed").count())
+				.isEqualTo(1);
+		}
+
+		@Test
+		void 임대가_만료되어_다른_노드가_다시_가져간_이벤트는_처리하지_않음() {
+			// given
+			// 다른 노드가 다시 임대하면서 임대 만료 시각을 미룸
+			OutboxEvent event = pendingEvent(10L, 2);
+			event.markRetry(now.plusSeconds(45), null, 10);
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of(10L));
+			given(outboxEventRepository.findByIdForUpdate(10L)).willReturn(Optional.of(event));
+
+			// when
+			outboxRelay.relayBatch();
+
+			// then
+			verify(feedItemProcessor, never()).process(any());
+			assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+			assertThat(event.getNextAttemptAt()).isEqualTo(now.plusSeconds(45));
+		}
+
+		@Test
+		void 이미_처리된_이벤트는_다시_처리하지_않음() {
+			// given
+			OutboxEvent event = pendingEvent(10L, 1);
+			event.markPublished(now.minusSeconds(1));
+			given(outboxEventRepository.findClaimableIdsForUpdate(now, 100)).willReturn(List.of(10L));
+			given(outboxEventRepository.findByIdForUpdate(10L)).willReturn(Optional.of(event));
+
+			// when
+			outboxRelay.relayBatch();
+
+			// then
+			verify(feedItemProcessor, never()).process(any());
+		}
+	}
+
+	@Test
+	void 백오프는_시도할_때마다_두_배로_늘고_5분을_넘지_않음() {
+		assertThat(OutboxRelay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(OutboxRelay.backoff(2)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(OutboxRelay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+		assertThat(OutboxRelay.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+	}
+}
@@ -0,0 +1,101 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class SseConnectionTest {
+
+	@Test
+	void 드레인은_처음_넣을_때만_시작되고_큐가_비면_끝남() {
+		// given
+		SseConnection connection = connection(4, new AtomicInteger());
+
+		// when
+		SseConnection.Offer first = connection.offer(frame(1L), SseOverflowPolicy.DROP_OLDEST);
+		SseConnection.Offer second = connection.offer(frame(2L), SseOverflowPolicy.DROP_OLDEST);
+
+		// then
+		assertThat(first.drainRequired()).isTrue();
+		assertThat(second.drainRequired()).isFalse();
+		assertThat(drainIds(connection)).containsExactly(1L, 2L);
+		assertThat(connection.offer(frame(3L), SseOverflowPolicy.DROP_OLDEST).drainRequired()).isTrue();
+	}
+
+	@Test
+	void DROP_OLDEST는_가장_오래된_이벤트를_버림() {
+		// given
+		SseConnection connection = connection(2, new AtomicInteger());
+		connection.offer(frame(1L), SseOverflowPolicy.DROP_OLDEST);
+		connection.offer(frame(2L), SseOverflowPolicy.DROP_OLDEST);
+
+		// when
+		SseConnection.Offer offer = connection.offer(frame(3L), SseOverflowPolicy.DROP_OLDEST);
+
+		// then
+		assertThat(offer.dropped()).isEqualTo(1);
+		assertThat(drainIds(connection)).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void COALESCE는_쌓인_이벤트를_스냅샷_요청_하나로_합침() {
+		// given
+		SseConnection connection = connection(2, new AtomicInteger());
+		connection.offer(frame(1L), SseOverflowPolicy.COALESCE);
+		connection.offer(frame(2L), SseOverflowPolicy.COALESCE);
+
+		// when
+		SseConnection.Offer offer = connection.offer(new SseFrame(null, "heartbeat", "now"), SseOverflowPolicy.COALESCE);
+
+		// then
+		assertThat(offer.dropped()).isEqualTo(3);
+		List<SseFrame> queued = connection.pollBatchOrFinish(10);
+		assertThat(queued).hasSize(1);
+		assertThat(queued.get(0).eventName()).isEqualTo(SseFrame.SNAPSHOT_REQUIRED_EVENT_NAME);
+		assertThat(queued.get(0).id()).isEqualTo(2L);
+		assertThat(connection.pollBatchOrFinish(10)).isEmpty();
+	}
+
+	@Test
+	void DISCONNECT는_넘치면_알리고_닫힌_연결에는_넣지_않음() {
+		// given
+		AtomicInteger closed = new AtomicInteger();
+		SseConnection connection = connection(1, closed);
+		connection.offer(frame(1L), SseOverflowPolicy.DISCONNECT);
+
+		// when
+		SseConnection.Offer offer = connection.offer(frame(2L), SseOverflowPolicy.DISCONNECT);
+		connection.close();
+		connection.close();
+
+		// then
+		assertThat(offer.overflowed()).isTrue();
+		assertThat(closed).hasValue(1);
+		assertThat(connection.offer(frame(3L), SseOverflowPolicy.DISCONNECT)).isEqualTo(SseConnection.Offer.CLOSED);
+		assertThat(connection.queueSize()).isZero();
+	}
+
+	private SseConnection connection(int capacity, AtomicInteger closed) {
+		return new SseConnection(1L, "session-1", new EmitterSseSink(new SseEmitter()),
+			LocalDateTime.now().plusHours(1), capacity, connection -> closed.incrementAndGet());
+	}
+
+	private SseFrame frame(Long id) {
+		return new SseFrame(id, "feed", "data-" + id);
+	}
+
+	private List<Long> drainIds(SseConnection connection) {
+		List<Long> ids = new ArrayList<>();
+		List<SseFrame> frames;
+		while (!(frames = connection.pollBatchOrFinish(1)).isEmpty()) {
+			ids.add(frames.get(0).id());
+		}
+		return ids;
+	}
+}
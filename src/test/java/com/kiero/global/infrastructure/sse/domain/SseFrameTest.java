@@ -0,0 +1,59 @@
+package com.kiero.global.infrastructure.sse.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.util.RawJson;
+
+public class SseFrameTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void 인코딩한_프레임은_id_event_data_줄을_모두_담음() throws Exception {
+		// given
+		SseFrame frame = new SseFrame(3L, "feed", Map.of("content", "받아쓰기 만점"));
+
+		// when
+		SseFrame encoded = frame.encode(objectMapper);
+
+		// then
+		byte[] bytes = ((EncodedSseFrame)encoded.data()).bytes();
+		assertThat(new String(bytes, StandardCharsets.UTF_8))
+			.isEqualTo("id:3\nevent:feed\ndata:{\"content\":\"받아쓰기 만점\"}\n\n");
+		assertThat(encoded.encode(objectMapper)).isSameAs(encoded);
+	}
+
+	@Test
+	void 줄바꿈이_있는_문자열은_줄마다_data로_나뉨() throws Exception {
+		// when
+		SseFrame encoded = new SseFrame(null, "notice", "첫째 줄\n둘째 줄").encode(objectMapper);
+
+		// then
+		byte[] bytes = ((EncodedSseFrame)encoded.data()).bytes();
+		assertThat(new String(bytes, StandardCharsets.UTF_8))
+			.isEqualTo("event:notice\ndata:첫째 줄\ndata:둘째 줄\n\n");
+	}
+
+	@Test
+	void 인코딩한_프레임을_batch로_묶으면_직렬화해_둔_데이터를_씀() throws Exception {
+		// given
+		SseFrame encoded = new SseFrame(1L, "feed", Map.of("id", 1)).encode(objectMapper);
+		SseFrame plain = new SseFrame(2L, "feed", "text");
+
+		// when
+		SseFrame batch = SseFrame.batch(List.of(encoded, plain));
+
+		// then
+		assertThat(objectMapper.writeValueAsString(batch.data()))
+			.isEqualTo("[{\"id\":1,\"event\":\"feed\",\"data\":{\"id\":1}},"
+				+ "{\"id\":2,\"event\":\"feed\",\"data\":\"text\"}]");
+		assertThat(((List<?>)batch.data()).get(0)).extracting("data").isEqualTo(RawJson.of("{\"id\":1}"));
+	}
+}
@@ -0,0 +1,97 @@
+package com.kiero.global.infrastructure.sse.gateway;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+
+import reactor.core.Disposable;
+
+public class NettySseSinkTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void 보낸_이벤트는_SSE_형식의_바이트로_전달됨() throws Exception {
+		// given
+		NettySseSink sink = new NettySseSink(objectMapper, 4);
+		List<String> received = new ArrayList<>();
+		sink.asFlux().subscribe(bytes -> received.add(new String(bytes, StandardCharsets.UTF_8)));
+
+		// when
+		sink.send(new SseFrame(1L, "feed", "data"));
+
+		// then
+		assertThat(received).containsExactly("id:1\nevent:feed\ndata:data\n\n");
+	}
+
+	@Test
+	void 버퍼가_가득_차면_송신_실패로_보고함() throws Exception {
+		// given
+		NettySseSink sink = new NettySseSink(objectMapper, 2);
+		sink.send(new SseFrame(1L, "feed", "data-1"));
+		sink.send(new SseFrame(2L, "feed", "data-2"));
+
+		// when & then
+		assertThatThrownBy(() -> sink.send(new SseFrame(3L, "feed", "data-3")))
+			.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void 클라이언트가_끊으면_completed로_종료를_알림() {
+		// given
+		NettySseSink sink = new NettySseSink(objectMapper, 4);
+		AtomicReference<String> reason = new AtomicReference<>();
+		sink.onTerminate(reason::set);
+		Disposable subscription = sink.asFlux().subscribe();
+
+		// when
+		subscription.dispose();
+
+		// then
+		assertThat(reason.get()).isEqualTo("completed");
+	}
+
+	@Test
+	void 송신과_동시에_종료해도_스트림이_항상_끝남() throws Exception {
+		for (int i = 0; i < 200; i++) {
+			// given
+			NettySseSink sink = new NettySseSink(objectMapper, 1024);
+			CountDownLatch completed = new CountDownLatch(1);
+			sink.asFlux().subscribe(bytes -> {
+			}, error -> {
+			}, completed::countDown);
+
+			CountDownLatch start = new CountDownLatch(1);
+			Thread sender = new Thread(() -> {
+				try {
+					start.await();
+					for (int n = 0; n < 500; n++) {
+						sink.send(new SseFrame((long)n, "feed", "data"));
+					}
+				} catch (IOException | InterruptedException e) {
+					// 종료된 뒤의 송신은 실패로 보고됨
+				}
+			});
+			sender.start();
+
+			// when
+			start.countDown();
+			sink.complete();
+			sender.join();
+
+			// then
+			assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.EmitterSseSink;
+import com.kiero.global.infrastructure.sse.domain.EncodedSseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+import com.kiero.global.util.RawJson;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemorySseEmitterRepositoryTest {
+
+	private static final String KEY = "events:parent:1";
+
+	@Mock
+	private SseDispatcher sseDispatcher;
+
+	private InMemorySseEmitterRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new InMemorySseEmitterRepository(new SimpleMeterRegistry(), new ObjectMapper(), sseDispatcher, 2);
+	}
+
+	@Test
+	void 한_기기의_연결이_끊겨도_다른_기기의_연결은_유지됨() {
+		// given
+		SseConnection phone = connection(1L);
+		SseConnection tablet = connection(2L);
+		repository.save(KEY, phone);
+		repository.save(KEY, tablet);
+
+		// when
+		repository.remove(KEY, phone);
+
+		// then
+		assertThat(repository.get(KEY)).containsExactly(tablet);
+		assertThat(repository.findAll()).containsExactly(tablet);
+	}
+
+	@Test
+	void 연결_수가_상한을_넘으면_가장_오래된_연결을_끊음() {
+		// given
+		SseConnection oldest = connection(1L);
+		repository.save(KEY, oldest);
+		repository.save(KEY, connection(2L));
+
+		// when
+		repository.save(KEY, connection(3L));
+
+		// then
+		verify(sseDispatcher).close(oldest, "connection_limit");
+		verifyNoMoreInteractions(sseDispatcher);
+	}
+
+	@Test
+	void 여러_기기에_보낼_때는_한_번_인코딩한_프레임을_함께_씀() {
+		// given
+		SseConnection phone = connection(1L);
+		SseConnection tablet = connection(2L);
+		repository.save(KEY, phone);
+		repository.save(KEY, tablet);
+
+		// when
+		repository.send(KEY, new SseFrame(10L, "feed", Map.of("id", 1)));
+
+		// then
+		ArgumentCaptor<SseFrame> phoneFrame = ArgumentCaptor.forClass(SseFrame.class);
+		ArgumentCaptor<SseFrame> tabletFrame = ArgumentCaptor.forClass(SseFrame.class);
+		verify(sseDispatcher).enqueue(eq(phone), phoneFrame.capture());
+		verify(sseDispatcher).enqueue(eq(tablet), tabletFrame.capture());
+		assertThat(phoneFrame.getValue()).isSameAs(tabletFrame.getValue());
+		EncodedSseFrame encoded = (EncodedSseFrame)phoneFrame.getValue().data();
+		assertThat(encoded.payload()).isEqualTo(RawJson.of("{\"id\":1}"));
+		assertThat(new String(encoded.bytes(), StandardCharsets.UTF_8))
+			.isEqualTo("id:10\nevent:feed\ndata:{\"id\":1}\n\n");
+	}
+
+	@Test
+	void broadcast는_모든_key의_연결에_같은_프레임을_넣음() {
+		// given
+		SseConnection parent = connection(1L);
+		SseConnection child = connection(2L);
+		repository.save(KEY, parent);
+		repository.save("events:child:1", child);
+
+		// when
+		repository.broadcast(new SseFrame(null, "notice", Map.of("title", "점검 안내")));
+
+		// then
+		ArgumentCaptor<SseFrame> parentFrame = ArgumentCaptor.forClass(SseFrame.class);
+		ArgumentCaptor<SseFrame> childFrame = ArgumentCaptor.forClass(SseFrame.class);
+		verify(sseDispatcher).enqueue(eq(parent), parentFrame.capture());
+		verify(sseDispatcher).enqueue(eq(child), childFrame.capture());
+		assertThat(parentFrame.getValue()).isSameAs(childFrame.getValue());
+		assertThat(parentFrame.getValue().data()).isInstanceOf(EncodedSseFrame.class);
+	}
+
+	private SseConnection connection(long id) {
+		return new SseConnection(id, "session-" + id, new EmitterSseSink(new SseEmitter()),
+			LocalDateTime.now().plusHours(1), 8, closed -> {
+			});
+	}
+}
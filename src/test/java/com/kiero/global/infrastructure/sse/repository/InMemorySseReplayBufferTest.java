@@ -0,0 +1,69 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseReplay;
+
+public class InMemorySseReplayBufferTest {
+
+	private static final String KEY = "events:parent:1";
+
+	private final Clock clock = Clock.fixed(Instant.parse("2026-10-17T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+	@Test
+	void 마지막으로_받은_이벤트_이후의_이벤트를_순서대로_재전송함() {
+		// given
+		InMemorySseReplayBuffer buffer = new InMemorySseReplayBuffer(10, clock);
+		long first = buffer.append(KEY, "feed", "a");
+		long second = buffer.append(KEY, "feed", "b");
+		long third = buffer.append(KEY, "mission", "c");
+
+		// when
+		SseReplay replay = buffer.readAfter(KEY, first);
+
+		// then
+		assertThat(second).isEqualTo(first + 1);
+		assertThat(replay.snapshotRequired()).isFalse();
+		assertThat(replay.frames()).extracting(SseFrame::id).containsExactly(second, third);
+		assertThat(replay.frames()).extracting(SseFrame::data).containsExactly("b", "c");
+	}
+
+	@Test
+	void 놓친_이벤트가_버퍼에서_밀려났으면_스냅샷이_필요함() {
+		// given
+		InMemorySseReplayBuffer buffer = new InMemorySseReplayBuffer(3, clock);
+		long first = buffer.append(KEY, "feed", "a");
+		for (int i = 0; i < 3; i++) {
+			buffer.append(KEY, "feed", "next" + i);
+		}
+
+		// when
+		SseReplay missedOne = buffer.readAfter(KEY, first - 1);
+		SseReplay keptAll = buffer.readAfter(KEY, first);
+
+		// then
+		assertThat(missedOne.snapshotRequired()).isTrue();
+		assertThat(missedOne.latestId()).isEqualTo(first + 3);
+		assertThat(keptAll.snapshotRequired()).isFalse();
+		assertThat(keptAll.frames()).hasSize(3);
+	}
+
+	@Test
+	void 버퍼에_없는_key나_발급되지_않은_id로_재구독하면_스냅샷이_필요함() {
+		// given
+		InMemorySseReplayBuffer buffer = new InMemorySseReplayBuffer(10, clock);
+		long latest = buffer.append(KEY, "feed", "a");
+
+		// when & then
+		assertThat(buffer.readAfter("events:parent:2", 1L).snapshotRequired()).isTrue();
+		assertThat(buffer.readAfter(KEY, latest + 100).snapshotRequired()).isTrue();
+		assertThat(buffer.readAfter(KEY, latest).frames()).isEmpty();
+	}
+}
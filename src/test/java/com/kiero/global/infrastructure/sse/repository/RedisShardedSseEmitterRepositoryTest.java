@@ -0,0 +1,129 @@
+package com.kiero.global.infrastructure.sse.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.EmitterSseSink;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisShardedSseEmitterRepositoryTest {
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Mock
+	private SseDispatcher sseDispatcher;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private RedisShardedSseEmitterRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new RedisShardedSseEmitterRepository(
+			meterRegistry, objectMapper, sseDispatcher, 5, stringRedisTemplate, redisMessageListenerContainer);
+	}
+
+	@Test
+	void 샤드의_첫_구독자가_생기면_구독하고_마지막_구독자가_나가면_구독을_해제함() {
+		// given
+		SseConnection phone = connection(1L);
+		SseConnection tablet = connection(2L);
+
+		// when
+		repository.save("parent:1", phone);
+		repository.save("parent:1", tablet);
+		repository.remove("parent:1", phone);
+		repository.remove("parent:1", phone);
+		repository.remove("parent:1", tablet);
+
+		// then
+		verify(redisMessageListenerContainer, times(1)).addMessageListener(eq(repository), any(ChannelTopic.class));
+		verify(redisMessageListenerContainer, times(1)).removeMessageListener(eq(repository), any(ChannelTopic.class));
+	}
+
+	@Test
+	void 채널_구독은_연결_맵에_반영된_뒤_compute_밖에서_함() {
+		// given
+		SseConnection phone = connection(1L);
+		List<Integer> visibleConnections = new ArrayList<>();
+		doAnswer(invocation -> visibleConnections.add(repository.get("parent:1").size()))
+			.when(redisMessageListenerContainer).addMessageListener(eq(repository), any(ChannelTopic.class));
+
+		// when
+		repository.save("parent:1", phone);
+
+		// then
+		// compute 안에서 구독했다면 아직 맵에 key가 보이지 않음
+		assertThat(visibleConnections).containsExactly(1);
+	}
+
+	@Test
+	void 이벤트는_key의_샤드_채널로_발행됨() throws Exception {
+		// when
+		repository.send("parent:1", new SseFrame(7L, "feed", Map.of("id", 1)));
+
+		// then
+		ArgumentCaptor<String> channel = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+		verify(stringRedisTemplate).convertAndSend(channel.capture(), body.capture());
+		assertThat(channel.getValue()).startsWith("sse:shard:");
+		assertThat(objectMapper.readTree(body.getValue()).get("id").asLong()).isEqualTo(7L);
+		assertThat(objectMapper.readTree(body.getValue()).get("data").get("id").asInt()).isEqualTo(1);
+	}
+
+	@Test
+	void 받은_이벤트는_이_노드의_구독자에게만_전달됨() {
+		// given
+		SseConnection connection = connection(1L);
+		repository.save("parent:1", connection);
+		String body = "{\"key\":\"parent:1\",\"eventName\":\"feed\",\"data\":{\"id\":1}}";
+		String otherBody = "{\"key\":\"parent:2\",\"eventName\":\"feed\",\"data\":{\"id\":2}}";
+
+		// when
+		repository.onMessage(new DefaultMessage("sse:shard:0".getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8)), null);
+		repository.onMessage(new DefaultMessage("sse:shard:0".getBytes(StandardCharsets.UTF_8),
+			otherBody.getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		ArgumentCaptor<SseFrame> frame = ArgumentCaptor.forClass(SseFrame.class);
+		verify(sseDispatcher, times(1)).enqueue(eq(connection), frame.capture());
+		assertThat(frame.getValue().eventName()).isEqualTo("feed");
+		assertThat(meterRegistry.counter("kiero.sse.delivery", "result", "no_subscriber").count()).isEqualTo(1);
+	}
+
+	private SseConnection connection(long id) {
+		return new SseConnection(id, "session-" + id, new EmitterSseSink(new SseEmitter()),
+			LocalDateTime.now().plusHours(1), 8, closed -> {
+			});
+	}
+}
@@ -0,0 +1,151 @@
+package com.kiero.global.infrastructure.sse.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kiero.global.infrastructure.sse.domain.EmitterSseSink;
+import com.kiero.global.infrastructure.sse.domain.EncodedSseFrame;
+import com.kiero.global.infrastructure.sse.domain.SseConnection;
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.repository.SseSessionRepository;
+import com.kiero.global.infrastructure.sse.service.SseDispatcher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class SseHeartbeatSchedulerTest {
+
+	private static final long START_MS = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+
+	@Mock
+	private SseDispatcher sseDispatcher;
+
+	@Mock
+	private SseSessionRepository sseSessionRepository;
+
+	@Mock
+	private Clock clock;
+
+	private final AtomicLong nowMs = new AtomicLong(START_MS);
+	private SseHeartbeatScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		when(clock.millis()).thenAnswer(invocation -> nowMs.get());
+		lenient().when(clock.instant()).thenAnswer(invocation -> Instant.ofEpochMilli(nowMs.get()));
+		scheduler = new SseHeartbeatScheduler(sseDispatcher, sseSessionRepository, new ObjectMapper(),
+			new SimpleMeterRegistry(), clock, 60);
+		scheduler.init();
+	}
+
+	@Test
+	void 한_바퀴_동안_모든_연결이_heartbeat를_한_번씩_받음() {
+		// given
+		when(sseDispatcher.enqueue(any(), any())).thenReturn(true);
+		SseConnection first = connection(1L, START_MS + 3_600_000);
+		SseConnection second = connection(2L, START_MS + 3_600_000);
+		SseConnection third = connection(30L, START_MS + 3_600_000);
+		scheduler.register(first);
+		scheduler.register(second);
+		scheduler.register(third);
+
+		// when
+		for (int i = 0; i < 25; i++) {
+			nowMs.addAndGet(1_000);
+			scheduler.tick();
+		}
+
+		// then
+		verify(sseDispatcher, times(1)).enqueue(eq(first), argThat(frame -> frame.eventName().equals("heartbeat")));
+		verify(sseDispatcher, times(1)).enqueue(eq(second), any(SseFrame.class));
+		verify(sseDispatcher, times(1)).enqueue(eq(third), any(SseFrame.class));
+	}
+
+	@Test
+	void 한_슬롯의_연결은_인코딩된_heartbeat_프레임_하나를_함께_씀() {
+		// given
+		when(sseDispatcher.enqueue(any(), any())).thenReturn(true);
+		// 같은 슬롯(id % 25 == 1)
+		SseConnection first = connection(1L, START_MS + 3_600_000);
+		SseConnection second = connection(26L, START_MS + 3_600_000);
+		scheduler.register(first);
+		scheduler.register(second);
+
+		// when
+		nowMs.addAndGet(1_000);
+		scheduler.tick();
+		nowMs.addAndGet(1_000);
+		scheduler.tick();
+
+		// then
+		ArgumentCaptor<SseFrame> frames = ArgumentCaptor.forClass(SseFrame.class);
+		verify(sseDispatcher, times(2)).enqueue(any(), frames.capture());
+		assertThat(frames.getAllValues().get(0)).isSameAs(frames.getAllValues().get(1));
+		assertThat(frames.getValue().data()).isInstanceOf(EncodedSseFrame.class);
+	}
+
+	@Test
+	void 연장되지_않은_세션은_만료_시각에_연결을_끊고_등록_해제된_연결은_끊지_않음() {
+		// given
+		SseConnection expiring = connection(1L, START_MS + 3_000);
+		SseConnection unregistered = connection(2L, START_MS + 3_000);
+		scheduler.register(expiring);
+		scheduler.register(unregistered);
+		scheduler.unregister(unregistered);
+
+		// when
+		nowMs.set(START_MS + 2_000);
+		scheduler.tick();
+		verify(sseDispatcher, never()).close(any(), anyString());
+
+		nowMs.set(START_MS + 3_000);
+		scheduler.tick();
+
+		// then
+		verify(sseDispatcher).close(expiring, "token_expired");
+		verify(sseDispatcher, never()).close(eq(unregistered), anyString());
+	}
+
+	@Test
+	void 만료_전에_renew_이벤트를_보내고_연장된_세션은_새_만료_시각까지_유지함() {
+		// given
+		SseConnection connection = connection(1L, START_MS + 120_000);
+		scheduler.register(connection);
+		when(sseSessionRepository.findExpiresAt("session-1")).thenReturn(START_MS + 300_000);
+
+		// when
+		nowMs.set(START_MS + 60_000);
+		scheduler.tick();
+		nowMs.set(START_MS + 120_000);
+		scheduler.tick();
+
+		// then
+		verify(sseDispatcher).enqueue(eq(connection), argThat(frame -> frame.eventName().equals("renew")));
+		verify(sseDispatcher, never()).close(any(), anyString());
+		assertThat(connection.getExpiresAt()).isEqualTo(
+			LocalDateTime.ofInstant(Instant.ofEpochMilli(START_MS + 300_000), ZoneId.systemDefault()));
+	}
+
+	private SseConnection connection(long id, long expiresAtMs) {
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMs), ZoneId.systemDefault());
+		return new SseConnection(id, "session-" + id, new EmitterSseSink(new SseEmitter()), expiresAt, 8,
+			closed -> {
+			});
+	}
+}
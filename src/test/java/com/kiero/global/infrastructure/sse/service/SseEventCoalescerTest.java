@@ -0,0 +1,151 @@
+package com.kiero.global.infrastructure.sse.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.kiero.global.infrastructure.sse.domain.SseFrame;
+import com.kiero.global.infrastructure.sse.handler.EventSsePushHandler;
+import com.kiero.mission.presentation.dto.MissionCreatedEvent;
+import com.kiero.parent.repository.ParentChildRepository;
+
+/*
+H2 DataSourceTransactionManager로 실제 트랜잭션을 열고, 그 안에서 발행한 도메인 이벤트가
+EventSsePushHandler -> EventSseService -> SseEventCoalescer를 거쳐 커밋 후에 수신자별로 한 번만 보내지는지 확인함
+ */
+@SpringJUnitConfig(SseEventCoalescerTest.TestConfig.class)
+public class SseEventCoalescerTest {
+
+	@Configuration
+	@EnableTransactionManagement
+	@Import({EventSsePushHandler.class, EventSseService.class, SseEventCoalescer.class})
+	static class TestConfig {
+
+		@Bean
+		DataSource dataSource() {
+			return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(DataSource dataSource) {
+			return new DataSourceTransactionManager(dataSource);
+		}
+
+		@Bean
+		SseService sseService() {
+			return mock(SseService.class);
+		}
+
+		@Bean
+		ParentChildRepository parentChildRepository() {
+			return mock(ParentChildRepository.class);
+		}
+	}
+
+	@Autowired
+	private SseService sseService;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		reset(sseService);
+	}
+
+	@Test
+	void 한_트랜잭션에서_발행된_미션_생성_이벤트는_커밋_후_batch_하나로_보냄() {
+		// given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < 10; i++) {
+				eventPublisher.publishEvent(new MissionCreatedEvent(1L, "mission-" + i, 100));
+			}
+			eventPublisher.publishEvent(new MissionCreatedEvent(2L, "mission-0", 100));
+		});
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<SseFrame>> events = ArgumentCaptor.forClass(List.class);
+		verify(sseService).pushAll(eq("events:child:1"), events.capture());
+		assertThat(events.getValue()).hasSize(10).extracting(SseFrame::eventName).containsOnly("mission");
+		verify(sseService).pushAll(eq("events:child:2"), anyList());
+		verifyNoMoreInteractions(sseService);
+	}
+
+	@Test
+	void 커밋_전에는_보내지_않음() {
+		// given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			eventPublisher.publishEvent(new MissionCreatedEvent(1L, "mission-0", 100));
+
+			// then
+			verifyNoInteractions(sseService);
+		});
+	}
+
+	@Test
+	void 롤백되면_보내지_않음() {
+		// given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			eventPublisher.publishEvent(new MissionCreatedEvent(1L, "mission-0", 100));
+			status.setRollbackOnly();
+		});
+
+		// then
+		verifyNoInteractions(sseService);
+	}
+
+	@Test
+	void 트랜잭션이_없으면_바로_보냄() {
+		// when
+		eventPublisher.publishEvent(new MissionCreatedEvent(1L, "mission-0", 100));
+
+		// then
+		verify(sseService).push(eq("events:child:1"), eq("mission"), any());
+		verifyNoMoreInteractions(sseService);
+	}
+
+	@Test
+	void 묶인_이벤트의_id는_마지막_이벤트_id를_따름() {
+		// when
+		SseFrame batch = SseFrame.batch(List.of(
+			new SseFrame(3L, "feed", "a"),
+			new SseFrame(4L, "feed", "b"),
+			new SseFrame(null, "heartbeat", "now")));
+
+		// then
+		assertThat(batch.isBatch()).isTrue();
+		assertThat(batch.id()).isEqualTo(4L);
+		assertThat((List<?>)batch.data()).hasSize(3);
+	}
+}
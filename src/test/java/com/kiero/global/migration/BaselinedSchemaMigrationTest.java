@@ -0,0 +1,174 @@
+package com.kiero.global.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ddl-auto로 만들어진 기존 DB처럼 V1을 baseline으로 표시한 스키마에서 V2부터 마지막 버전까지 마이그레이션이 실행되는지 확인함
+- 시작 스키마는 V1이 아니라 Hibernate가 생성한 형태의 스키마(db/hibernate-baseline-schema.sql)이며, 외래 키 이름이 V1과 다름
+- Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class BaselinedSchemaMigrationTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void loadBaselineSchemaAndMigrate() throws SQLException, IOException {
+		connection = DriverManager.getConnection(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword());
+
+		try (Statement statement = connection.createStatement()) {
+			for (String sql : loadStatements("db/hibernate-baseline-schema.sql")) {
+				statement.execute(sql);
+			}
+
+			// 부모 2명이 연결된 아이 1명, 같은 이벤트가 부모마다 복제된 피드 아이템 2개와 부모 1명에게만 있는 피드 아이템 1개
+			statement.execute("""
+				insert into parent (id, created_at, name, email, role, provider, social_id)
+				values (1, now(6), 'parent1', 'parent1@kiero.com', 'PARENT', 'KAKAO', 'social1'),
+				       (2, now(6), 'parent2', 'parent2@kiero.com', 'PARENT', 'KAKAO', 'social2')
+				""");
+			statement.execute("""
+				insert into child (id, created_at, last_name, first_name, role, coin_amount)
+				values (1, now(6), '김', 'child', 'CHILD', 0)
+				""");
+			statement.execute("""
+				insert into parent_child (created_at, parent_id, child_id)
+				values (now(6), 1, 1), (now(6), 2, 1)
+				""");
+			statement.execute("""
+				insert into feed_item (id, created_at, occurred_at, event_type, metadata, parent_id, child_id)
+				values (1, now(6), '2026-01-10 10:00:00', 'MISSION', '{"missionId": 1}', 1, 1),
+				       (2, now(6), '2026-01-10 10:00:00', 'MISSION', '{"missionId": 1}', 2, 1),
+				       (3, now(6), '2026-01-11 10:00:00', 'COUPON', '{"couponId": 1}', 1, 1)
+				""");
+		}
+
+		Flyway.configure()
+			.dataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword())
+			.locations("classpath:db/migration")
+			.baselineOnMigrate(true)
+			.baselineVersion("1")
+			.load()
+			.migrate();
+	}
+
+	@AfterAll
+	static void closeConnection() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	void 기존_스키마에서_마지막_버전까지_모든_마이그레이션이_성공함() throws SQLException {
+		Flyway flyway = Flyway.configure()
+			.dataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword())
+			.locations("classpath:db/migration")
+			.load();
+
+		assertThat(flyway.info().pending()).isEmpty();
+		assertThat(queryForString("""
+			select max(cast(version as unsigned)) from flyway_schema_history where success = 1
+			""")).isEqualTo(flyway.info().current().getVersion().getVersion());
+		assertThat(queryForLong("select count(*) from flyway_schema_history where success = 0")).isZero();
+	}
+
+	@Test
+	void 생성된_이름의_외래_키를_지우고_parent_id를_제거함() throws SQLException {
+		assertThat(queryForLong("""
+			select count(*) from information_schema.COLUMNS
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and COLUMN_NAME = 'parent_id'
+			""")).isZero();
+		assertThat(queryForLong("""
+			select count(*) from information_schema.KEY_COLUMN_USAGE
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and REFERENCED_TABLE_NAME = 'parent'
+			""")).isZero();
+	}
+
+	@Test
+	void 부모마다_복제된_피드_아이템은_하나만_남음() throws SQLException {
+		assertThat(queryForLong("select count(*) from feed_item")).isEqualTo(2);
+		assertThat(queryForLong("select count(*) from feed_item where id in (1, 3)")).isEqualTo(2);
+	}
+
+	@Test
+	void 아이_피드_커서_인덱스가_만들어짐() throws SQLException {
+		assertThat(queryForLong("""
+			select count(*) from information_schema.STATISTICS
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and INDEX_NAME = 'idx_feed_item_child_occurred'
+			""")).isEqualTo(3);
+	}
+
+	@Test
+	void feed_item은_occurred_at_기준으로_파티션되고_PK에_occurred_at이_포함됨() throws SQLException {
+		assertThat(queryForLong("""
+			select count(*) from information_schema.PARTITIONS
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and PARTITION_NAME is not null
+			""")).isEqualTo(2);
+		assertThat(queryForString("""
+			select PARTITION_NAME from information_schema.PARTITIONS
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item'
+			order by PARTITION_ORDINAL_POSITION desc limit 1
+			""")).isEqualTo("p_future");
+		assertThat(queryForString("""
+			select group_concat(COLUMN_NAME order by SEQ_IN_INDEX) from information_schema.STATISTICS
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and INDEX_NAME = 'PRIMARY'
+			""")).isEqualTo("id,occurred_at");
+		assertThat(queryForLong("""
+			select count(*) from information_schema.KEY_COLUMN_USAGE
+			where TABLE_SCHEMA = database() and TABLE_NAME = 'feed_item' and REFERENCED_TABLE_NAME is not null
+			""")).isZero();
+	}
+
+	private static String[] loadStatements(String path) throws IOException {
+		try (InputStream in = BaselinedSchemaMigrationTest.class.getClassLoader().getResourceAsStream(path)) {
+			String script = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+				.filter(line -> !line.trim().startsWith("--"))
+				.collect(Collectors.joining("\n"));
+			return Arrays.stream(script.split(";"))
+				.map(String::trim)
+				.filter(sql -> !sql.isEmpty())
+				.toArray(String[]::new);
+		}
+	}
+
+	private long queryForLong(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	private String queryForString(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package com.kiero.global.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+Flyway 마이그레이션을 MySQL 컨테이너에 적용한 뒤, 자주 실행되는 조회가 V4의 인덱스를 사용하는지 EXPLAIN으로 확인함
+- 빈 테이블에서는 옵티마이저가 인덱스를 고르지 않을 수 있으므로, 값이 고르게 퍼진 데이터를 넣고 통계를 갱신한 뒤 확인함
+- Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class HotPathIndexExplainTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+			.dataSource(MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword())
+			.locations("classpath:db/migration")
+			.load()
+			.migrate();
+
+		connection = DriverManager.getConnection(
+			MYSQL_CONTAINER.getJdbcUrl(), MYSQL_CONTAINER.getUsername(), MYSQL_CONTAINER.getPassword());
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("set session cte_max_recursion_depth = 100000");
+
+			// 부모/아이 100명
+			statement.execute("""
+				insert into parent (created_at, name, email, role, provider, social_id)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 100)
+				select now(6), concat('parent', n), concat('parent', n, '@kiero.com'), 'PARENT', 'KAKAO', concat('social', n)
+				from seq
+				""");
+			statement.execute("""
+				insert into child (created_at, last_name, first_name, role, coin_amount)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 100)
+				select now(6), '김', concat('child', n), 'CHILD', 0
+				from seq
+				""");
+
+			// 아이마다 일정 50개 (절반은 반복 일정)
+			statement.execute("""
+				insert into schedule (created_at, start_time, end_time, name, schedule_color, is_recurring,
+				                      repeat_days_mask, parent_id, child_id)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 5000)
+				select date_sub(now(6), interval (n % 60) day), '10:00:00', '11:00:00', concat('schedule', n),
+				       'SCHEDULE1', n % 2, if(n % 2 = 1, 31, 0), (n % 100) + 1, (n % 100) + 1
+				from seq
+				""");
+
+			// 30일에 걸친 scheduleDetail ((schedule_id, date)가 겹치지 않도록 15000개)
+			statement.execute("""
+				insert into schedule_detail (date, schedule_status, schedule_id)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 15000)
+				select date_add('2026-01-01', interval (n % 30) day), 'PENDING', (n % 5000) + 1
+				from seq
+				""");
+
+			// 아이마다 피드 50개, 부모-아이 쌍마다 미션 50개
+			statement.execute("""
+				insert into feed_item (created_at, occurred_at, event_type, metadata, child_id)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 5000)
+				select now(6), date_sub(now(6), interval n minute), 'MISSION', '{}', (n % 100) + 1
+				from seq
+				""");
+			statement.execute("""
+				insert into mission (created_at, name, reward, due_at, is_completed, parent_id, child_id)
+				with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 5000)
+				select now(6), concat('mission', n), 10, date_add('2026-01-01', interval (n % 60) day), 0,
+				       (n % 100) + 1, (n % 100) + 1
+				from seq
+				""");
+
+			statement.execute("analyze table parent, child, schedule, schedule_detail, feed_item, mission");
+		}
+	}
+
+	@AfterAll
+	static void closeConnection() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	void 날짜별_종료_시각_조회는_scheduleDetail의_날짜_인덱스를_사용함() throws SQLException {
+		List<ExplainRow> rows = explain("""
+			select distinct s.end_time
+			from schedule_detail sd
+			join schedule s on s.id = sd.schedule_id
+			where sd.date = ?
+			  and sd.schedule_status in ('PENDING', 'VERIFIED')
+			""", "2026-01-15");
+
+		assertThat(rowOf(rows, "sd").key()).isEqualTo("idx_schedule_detail_date_schedule");
+	}
+
+	@Test
+	void 아이의_반복_일정_조회는_schedule_복합_인덱스를_사용함() throws SQLException {
+		List<ExplainRow> rows = explain("""
+			select s.id, s.start_time, s.end_time, s.repeat_days_mask
+			from schedule s
+			where s.child_id = ?
+			  and s.is_recurring = true
+			  and s.created_at < ?
+			""", 7L, "2026-01-19 00:00:00");
+
+		assertThat(rowOf(rows, "s").key()).isEqualTo("idx_schedule_child_recurring_created");
+	}
+
+	@Test
+	void 피드_첫_페이지_조회는_정렬까지_인덱스로_처리함() throws SQLException {
+		List<ExplainRow> rows = explain("""
+			select f.id
+			from feed_item f
+			where f.child_id = ?
+			order by f.occurred_at desc, f.id desc
+			limit 20
+			""", 7L);
+
+		ExplainRow feed = rowOf(rows, "f");
+		assertThat(feed.key()).isEqualTo("idx_feed_item_child_occurred");
+		assertThat(feed.extra()).doesNotContain("Using filesort");
+	}
+
+	@Test
+	void 아이와_부모의_미션_조회는_마감일_복합_인덱스를_사용함() throws SQLException {
+		List<ExplainRow> byChild = explain("""
+			select m.id
+			from mission m
+			where m.child_id = ?
+			  and m.due_at >= ?
+			order by m.due_at
+			""", 7L, "2026-02-20");
+		List<ExplainRow> byParent = explain("""
+			select m.id
+			from mission m
+			where m.parent_id = ?
+			  and m.due_at >= ?
+			order by m.due_at
+			""", 7L, "2026-02-20");
+
+		assertThat(rowOf(byChild, "m").key()).isEqualTo("idx_mission_child_due");
+		assertThat(rowOf(byParent, "m").key()).isEqualTo("idx_mission_parent_due");
+	}
+
+	@Test
+	void 소셜_로그인_회원_조회는_parent_인덱스를_사용함() throws SQLException {
+		List<ExplainRow> rows = explain("""
+			select p.id
+			from parent p
+			where p.social_id = ?
+			  and p.provider = 'KAKAO'
+			""", "social7");
+
+		assertThat(rowOf(rows, "p").key()).isEqualTo("idx_parent_social_provider");
+	}
+
+	private List<ExplainRow> explain(String sql, Object... params) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+			for (int i = 0; i < params.length; i++) {
+				statement.setObject(i + 1, params[i]);
+			}
+
+			List<ExplainRow> rows = new ArrayList<>();
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					rows.add(new ExplainRow(
+						resultSet.getString("table"),
+						resultSet.getString("key"),
+						Optional.ofNullable(resultSet.getString("Extra")).orElse("")
+					));
+				}
+			}
+			return rows;
+		}
+	}
+
+	private ExplainRow rowOf(List<ExplainRow> rows, String tableAlias) {
+		return rows.stream()
+			.filter(row -> tableAlias.equals(row.table()))
+			.findFirst()
+			.orElseThrow(() -> new AssertionError("EXPLAIN 결과에 " + tableAlias + " 테이블이 없음: " + rows));
+	}
+
+	private record ExplainRow(String table, String key, String extra) {
+	}
+}
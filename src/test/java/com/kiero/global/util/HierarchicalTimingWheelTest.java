@@ -0,0 +1,91 @@
+package com.kiero.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+	@Test
+	void 만료_시각이_되기_전에는_반환되지_않음() {
+		// given
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+		wheel.schedule("a", 55);
+
+		// when & then
+		assertThat(wheel.advanceTo(49)).isEmpty();
+		assertThat(wheel.advanceTo(50)).containsExactly("a");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void 상위_레벨에_등록된_항목도_하위_레벨로_내려와_제시각에_만료됨() {
+		// given
+		// 레벨 0: 80ms, 레벨 1: 640ms, 레벨 2: 5120ms
+		HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+		List<Long> expirations = List.of(15L, 95L, 700L, 3_333L, 12_345L);
+		expirations.forEach(expiration -> wheel.schedule(expiration, expiration));
+
+		// when
+		List<long[]> fired = new ArrayList<>();
+		for (long now = 0; now <= 13_000; now += 10) {
+			for (Long expiration : wheel.advanceTo(now)) {
+				fired.add(new long[] {expiration, now});
+			}
+		}
+
+		// then
+		assertThat(fired).hasSize(expirations.size());
+		for (long[] f : fired) {
+			// 틱(10ms) 단위로 내림한 만료 시각에 반환됨
+			assertThat(f[1]).isEqualTo(f[0] - f[0] % 10);
+		}
+	}
+
+	@Test
+	void 한_번에_여러_틱을_진행해도_모두_만료됨() {
+		// given
+		HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 4, 0);
+		for (int i = 1; i <= 100; i++) {
+			wheel.schedule(i, i * 37L);
+		}
+
+		// when
+		List<Integer> expired = wheel.advanceTo(100 * 37L);
+
+		// then
+		assertThat(expired).hasSize(100);
+		assertThat(expired).isSorted();
+	}
+
+	@Test
+	void 취소된_항목은_만료되지_않음() {
+		// given
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+		HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 1_000);
+		wheel.schedule("kept", 1_000);
+
+		// when
+		boolean result = cancelled.cancel();
+
+		// then
+		assertThat(result).isTrue();
+		assertThat(cancelled.cancel()).isFalse();
+		assertThat(wheel.advanceTo(2_000)).containsExactly("kept");
+	}
+
+	@Test
+	void 이미_지난_시각으로_등록하면_다음_진행에서_바로_만료됨() {
+		// given
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1_000);
+
+		// when
+		wheel.schedule("late", 500);
+
+		// then
+		assertThat(wheel.advanceTo(1_010)).containsExactly("late");
+	}
+}
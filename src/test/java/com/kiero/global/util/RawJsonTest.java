@@ -0,0 +1,41 @@
+package com.kiero.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class RawJsonTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	record Holder(String name, RawJson metadata) {
+	}
+
+	@Test
+	void 직렬화하면_원문이_그대로_들어감() throws Exception {
+		// given
+		Holder holder = new Holder("feed", RawJson.of("{\"content\":\"받아쓰기 만점\",\"amount\":35}"));
+
+		// when
+		String json = objectMapper.writeValueAsString(holder);
+
+		// then
+		assertThat(json).isEqualTo("{\"name\":\"feed\",\"metadata\":{\"content\":\"받아쓰기 만점\",\"amount\":35}}");
+	}
+
+	@Test
+	void 역직렬화하면_중첩된_값도_원문으로_복사됨() throws Exception {
+		// given
+		String json = "{\"name\":\"feed\",\"metadata\":{\"a\":[1,{\"b\":null}],\"c\":\"d\"}}";
+
+		// when
+		Holder holder = objectMapper.readValue(json, Holder.class);
+
+		// then
+		assertThat(holder.name()).isEqualTo("feed");
+		assertThat(holder.metadata()).isEqualTo(RawJson.of("{\"a\":[1,{\"b\":null}],\"c\":\"d\"}"));
+		assertThat(objectMapper.writeValueAsString(holder)).isEqualTo(json);
+	}
+}
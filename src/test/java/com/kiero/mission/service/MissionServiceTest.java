@@ -56,6 +56,10 @@ public class MissionServiceTest {
 
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
+	private final LocalDate today = LocalDate.of(2026, 1, 15);
+	private final Clock fixedClock = Clock.fixed(
+		LocalDateTime.of(today, LocalTime.of(23, 59)).atZone(KST).toInstant(), KST);
+
 	private Parent parent;
 	private Child child;
 	private Mission mission;
@@ -63,6 +67,8 @@ public class MissionServiceTest {
 	@BeforeEach
 	void setUp() {
 		// Given: 기본 테스트 데이터 준비
+		ReflectionTestUtils.setField(missionService, "clock", fixedClock);
+
 		parent = Parent.builder()
 			.id(1L)
 			.email("parent@test.com")
@@ -80,7 +86,7 @@ public class MissionServiceTest {
 			.id(1L)
 			.name("수학 숙제하기")
 			.reward(50)
-			.dueAt(LocalDate.now().plusDays(1))
+			.dueAt(today.plusDays(1))
 			.isCompleted(false)
 			.parent(parent)
 			.child(child)
@@ -127,6 +133,7 @@ public class MissionServiceTest {
 			assertThat(publishedEvent.childId()).isEqualTo(childId);
 			assertThat(publishedEvent.amount()).isEqualTo(reward);
 			assertThat(publishedEvent.name()).isEqualTo("수학 숙제하기");
+			assertThat(publishedEvent.occurredAt()).isEqualTo(LocalDateTime.now(fixedClock));
 
 			// Then 5: Repository 호출 검증
 			verify(missionRepository, times(1)).findByIdWithLock(missionId);
@@ -191,6 +198,31 @@ public class MissionServiceTest {
 			verify(eventPublisher, never()).publishEvent(any());
 		}
 
+		@Test
+		void 마감일이_주입된_시계의_오늘이면_완료할_수_있다() {
+			// Given
+			Mission dueTodayMission = Mission.builder()
+				.id(1L)
+				.name("오늘 마감 미션")
+				.reward(50)
+				.dueAt(today)
+				.isCompleted(false)
+				.parent(parent)
+				.child(child)
+				.build();
+
+			given(missionRepository.findByIdWithLock(1L))
+				.willReturn(Optional.of(dueTodayMission));
+			given(childRepository.findByIdWithLock(1L))
+				.willReturn(Optional.of(child));
+
+			// When
+			missionService.completeMission(1L, 1L);
+
+			// Then
+			assertThat(dueTodayMission.isCompleted()).isTrue();
+		}
+
 		@Test
 		void 마감일이_지난_미션을_완료하려고_하면_MISSION_EXPIRED_예외가_발생한다() {
 			// Given
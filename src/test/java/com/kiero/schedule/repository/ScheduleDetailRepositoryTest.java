@@ -0,0 +1,114 @@
+package com.kiero.schedule.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.kiero.schedule.domain.enums.ScheduleStatus;
+
+/*
+MySQL 컨테이너에 Flyway 스키마를 만들고, 종료된 일정의 상태 일괄 변경이 대상 행만 바꾸는지 확인함
+- Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public class ScheduleDetailRepositoryTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	@DynamicPropertySource
+	static void configureTestDatabase(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+		registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+	}
+
+	@Autowired
+	ScheduleDetailRepository scheduleDetailRepository;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private final LocalDate today = LocalDate.of(2026, 1, 15);
+
+	private Long parentId;
+	private Long childId;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("""
+			insert into parent (created_at, name, email, role, provider, social_id)
+			values ('2026-01-01', 'parent', 'parent@kiero.com', 'PARENT', 'KAKAO', 'social')
+			""");
+		parentId = jdbcTemplate.queryForObject("select max(id) from parent", Long.class);
+		jdbcTemplate.update("""
+			insert into child (created_at, last_name, first_name, role, coin_amount)
+			values ('2026-01-01', '김', 'child', 'CHILD', 0)
+			""");
+		childId = jdbcTemplate.queryForObject("select max(id) from child", Long.class);
+	}
+
+	@Test
+	void 해당_날짜에_종료된_fromStatus_일정만_toStatus로_바뀜() {
+		// given
+		// 기준 시각 11시: 10시에 끝난 일정, 9시에 끝났지만 인증된 일정, 12시에 끝나는 일정, 어제의 끝난 일정
+		Long endedSchedule = insertSchedule(LocalTime.of(9, 0), LocalTime.of(10, 0));
+		Long verifiedSchedule = insertSchedule(LocalTime.of(8, 0), LocalTime.of(9, 0));
+		Long runningSchedule = insertSchedule(LocalTime.of(11, 0), LocalTime.of(12, 0));
+
+		Long ended = insertDetail(endedSchedule, today, ScheduleStatus.PENDING);
+		Long endedButVerified = insertDetail(verifiedSchedule, today, ScheduleStatus.VERIFIED);
+		Long running = insertDetail(runningSchedule, today, ScheduleStatus.PENDING);
+		Long endedOtherDate = insertDetail(endedSchedule, today.minusDays(1), ScheduleStatus.PENDING);
+
+		// when
+		int changed = scheduleDetailRepository.bulkChangeStatusOfEndedSchedules(
+			today, LocalTime.of(11, 0), ScheduleStatus.PENDING, ScheduleStatus.FAILED);
+
+		// then
+		assertThat(changed).isEqualTo(1);
+		assertThat(statusOf(ended)).isEqualTo("FAILED");
+		assertThat(statusOf(endedButVerified)).isEqualTo("VERIFIED");
+		assertThat(statusOf(running)).isEqualTo("PENDING");
+		assertThat(statusOf(endedOtherDate)).isEqualTo("PENDING");
+	}
+
+	private Long insertSchedule(LocalTime startTime, LocalTime endTime) {
+		jdbcTemplate.update("""
+			insert into schedule (created_at, start_time, end_time, name, schedule_color, is_recurring,
+			                      repeat_days_mask, parent_id, child_id)
+			values ('2026-01-01', ?, ?, 'schedule', 'SCHEDULE1', false, 0, ?, ?)
+			""", startTime, endTime, parentId, childId);
+		return jdbcTemplate.queryForObject("select max(id) from schedule", Long.class);
+	}
+
+	private Long insertDetail(Long scheduleId, LocalDate date, ScheduleStatus status) {
+		jdbcTemplate.update("insert into schedule_detail (date, schedule_status, schedule_id) values (?, ?, ?)",
+			date, status.name(), scheduleId);
+		return jdbcTemplate.queryForObject("select max(id) from schedule_detail", Long.class);
+	}
+
+	private String statusOf(Long scheduleDetailId) {
+		return jdbcTemplate.queryForObject("select schedule_status from schedule_detail where id = ?",
+			String.class, scheduleDetailId);
+	}
+}
@@ -0,0 +1,92 @@
+package com.kiero.schedule.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.kiero.schedule.domain.enums.DayOfWeek;
+import com.kiero.schedule.repository.dto.NormalScheduleInterval;
+import com.kiero.schedule.repository.dto.RecurringScheduleInterval;
+
+public class ScheduleIntervalIndexTest {
+
+	@Test
+	void 긴_구간이_앞에_있어도_뒤쪽_구간과의_겹침을_찾음() {
+		// given
+		ScheduleIntervalIndex index = ScheduleIntervalIndex.of(
+			List.of(
+				new RecurringScheduleInterval(DayOfWeek.MON.bit(), LocalTime.of(9, 0), LocalTime.of(18, 0)),
+				new RecurringScheduleInterval(DayOfWeek.MON.bit(), LocalTime.of(10, 0), LocalTime.of(11, 0))
+			),
+			List.of()
+		);
+
+		// when & then
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.MON), LocalTime.of(17, 0), LocalTime.of(19, 0))).isTrue();
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.MON), LocalTime.of(18, 0), LocalTime.of(19, 0))).isFalse();
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.TUE), LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+	}
+
+	@Test
+	void 끝과_시작이_맞닿은_구간은_겹치지_않음() {
+		// given
+		ScheduleIntervalIndex index = ScheduleIntervalIndex.of(
+			List.of(),
+			List.of(new NormalScheduleInterval(LocalDate.of(2026, 1, 19), LocalTime.of(10, 0), LocalTime.of(11, 0)))
+		);
+
+		// when & then
+		List<LocalDate> dates = List.of(LocalDate.of(2026, 1, 19));
+		assertThat(index.overlapsNormalOnDates(dates, LocalTime.of(9, 0), LocalTime.of(10, 0))).isFalse();
+		assertThat(index.overlapsNormalOnDates(dates, LocalTime.of(11, 0), LocalTime.of(12, 0))).isFalse();
+		assertThat(index.overlapsNormalOnDates(dates, LocalTime.of(10, 59), LocalTime.of(12, 0))).isTrue();
+	}
+
+	@Test
+	void 단일일정은_해당_날짜의_요일로도_검사됨() {
+		// given
+		// 2026-01-19는 월요일
+		ScheduleIntervalIndex index = ScheduleIntervalIndex.of(
+			List.of(),
+			List.of(new NormalScheduleInterval(LocalDate.of(2026, 1, 19), LocalTime.of(10, 0), LocalTime.of(11, 0)))
+		);
+
+		// when & then
+		assertThat(index.overlapsNormalOnDayOfWeeks(List.of(DayOfWeek.MON), LocalTime.of(10, 30), LocalTime.of(12, 0)))
+			.isTrue();
+		assertThat(index.overlapsNormalOnDayOfWeeks(List.of(DayOfWeek.TUE), LocalTime.of(10, 30), LocalTime.of(12, 0)))
+			.isFalse();
+	}
+
+	@Test
+	void 추가한_구간도_이후_검사에_반영됨() {
+		// given
+		ScheduleIntervalIndex index = ScheduleIntervalIndex.of(List.of(), List.of());
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.WED), LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+
+		// when
+		index.addRecurring(DayOfWeek.WED, LocalTime.of(10, 30), LocalTime.of(11, 30));
+
+		// then
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.WED), LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+	}
+
+	@Test
+	void 반복_요일_마스크의_요일마다_구간이_등록됨() {
+		// given
+		int monAndWed = DayOfWeek.toMask(List.of(DayOfWeek.MON, DayOfWeek.WED));
+		ScheduleIntervalIndex index = ScheduleIntervalIndex.of(
+			List.of(new RecurringScheduleInterval(monAndWed, LocalTime.of(10, 0), LocalTime.of(11, 0))),
+			List.of()
+		);
+
+		// when & then
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.MON), LocalTime.of(10, 30), LocalTime.of(12, 0))).isTrue();
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.WED), LocalTime.of(10, 30), LocalTime.of(12, 0))).isTrue();
+		assertThat(index.overlapsRecurring(List.of(DayOfWeek.TUE), LocalTime.of(10, 30), LocalTime.of(12, 0))).isFalse();
+	}
+}
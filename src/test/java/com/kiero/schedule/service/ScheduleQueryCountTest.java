@@ -0,0 +1,175 @@
+package com.kiero.schedule.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.kiero.child.repository.ChildRepository;
+import com.kiero.global.config.QueryDslConfig;
+import com.kiero.parent.repository.ParentChildRepository;
+import com.kiero.parent.repository.ParentRepository;
+import com.kiero.schedule.presentation.dto.ScheduleTabResponse;
+import com.kiero.schedule.presentation.dto.TodayScheduleResponse;
+import com.kiero.schedule.repository.FireLitRecordRepository;
+import com.kiero.schedule.repository.ScheduleDetailRepository;
+import com.kiero.schedule.repository.ScheduleQueryRepository;
+import com.kiero.schedule.repository.ScheduleRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+MySQL 컨테이너에 Flyway 스키마를 만들고, 일정 탭/오늘 일정 조회가 실행하는 SQL 수를 Hibernate Statistics로 확인함
+- 조회 경로에 쿼리가 늘어나면(지연 로딩 N+1 등) 실패하도록 현재 쿼리 수를 고정함
+- Docker가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, ScheduleQueryRepository.class})
+@Testcontainers(disabledWithoutDocker = true)
+public class ScheduleQueryCountTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+		.withDatabaseName("testdb")
+		.withUsername("test")
+		.withPassword("test");
+
+	@DynamicPropertySource
+	static void configureTestDatabase(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL_CONTAINER::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL_CONTAINER::getUsername);
+		registry.add("spring.datasource.password", MYSQL_CONTAINER::getPassword);
+	}
+
+	@Autowired
+	ParentRepository parentRepository;
+	@Autowired
+	ChildRepository childRepository;
+	@Autowired
+	ParentChildRepository parentChildRepository;
+	@Autowired
+	ScheduleRepository scheduleRepository;
+	@Autowired
+	ScheduleDetailRepository scheduleDetailRepository;
+	@Autowired
+	FireLitRecordRepository fireLitRecordRepository;
+	@Autowired
+	ScheduleQueryRepository scheduleQueryRepository;
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	private final LocalDate today = LocalDate.of(2026, 1, 15);
+	private final Clock fixedClock = Clock.fixed(
+		LocalDateTime.of(today, LocalTime.of(11, 30)).atZone(ZoneId.of("Asia/Seoul")).toInstant(),
+		ZoneId.of("Asia/Seoul")
+	);
+
+	private ScheduleService scheduleService;
+	private Statistics statistics;
+	private Long parentId;
+	private Long childId;
+
+	@BeforeEach
+	void setUp() {
+		scheduleService = new ScheduleService(
+			parentRepository,
+			childRepository,
+			parentChildRepository,
+			scheduleRepository,
+			scheduleDetailRepository,
+			fireLitRecordRepository,
+			scheduleQueryRepository,
+			mock(TodayScheduleDetailMaterializer.class),
+			mock(ScheduleDetailBulkGenerator.class),
+			mock(ScheduleStatusTransitionTimer.class),
+			mock(TodayScheduleSnapshotCache.class),
+			transactionManager,
+			mock(ApplicationEventPublisher.class),
+			fixedClock
+		);
+
+		// 부모 1명, 아이 1명, 반복 일정 3개와 단일 일정 3개 (각각 오늘 scheduleDetail 포함)
+		jdbcTemplate.update("""
+			insert into parent (created_at, name, email, role, provider, social_id)
+			values ('2026-01-01', 'parent', 'parent@kiero.com', 'PARENT', 'KAKAO', 'social')
+			""");
+		parentId = jdbcTemplate.queryForObject("select max(id) from parent", Long.class);
+		jdbcTemplate.update("""
+			insert into child (created_at, last_name, first_name, role, coin_amount)
+			values ('2026-01-01', '김', 'child', 'CHILD', 0)
+			""");
+		childId = jdbcTemplate.queryForObject("select max(id) from child", Long.class);
+		jdbcTemplate.update("insert into parent_child (created_at, parent_id, child_id) values ('2026-01-01', ?, ?)",
+			parentId, childId);
+
+		for (int i = 0; i < 6; i++) {
+			boolean recurring = i % 2 == 0;
+			jdbcTemplate.update("""
+				insert into schedule (created_at, start_time, end_time, name, schedule_color, is_recurring,
+				                      repeat_days_mask, parent_id, child_id)
+				values ('2026-01-01', ?, ?, ?, 'SCHEDULE1', ?, ?, ?, ?)
+				""", LocalTime.of(9 + i, 0), LocalTime.of(10 + i, 0), "schedule" + i, recurring,
+				recurring ? 127 : 0, parentId, childId);
+			Long scheduleId = jdbcTemplate.queryForObject("select max(id) from schedule", Long.class);
+			jdbcTemplate.update("insert into schedule_detail (date, schedule_status, schedule_id) values (?, ?, ?)",
+				today, "PENDING", scheduleId);
+		}
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void 일정_탭_조회는_일정_수와_상관없이_4개의_쿼리만_실행함() {
+		// given
+		// 변경 전 경로는 parent, child, parent_child, schedule, 불피우기 여부, 반복 요일, scheduleDetail로 7개였음
+
+		// when
+		ScheduleTabResponse response = scheduleService.getSchedules(today.minusDays(3), today.plusDays(3), parentId,
+			childId);
+
+		// then
+		// parent_child 존재 여부, 불피우기 기록, 반복 일정 행, 단일 일정 행
+		assertThat(response).isNotNull();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+	}
+
+	@Test
+	void 오늘_일정_조회는_scheduleDetail과_일정을_한_번에_읽음() {
+		// when
+		TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
+
+		// then
+		// 오늘 scheduleDetail + schedule (fetch join), 불피우기 기록
+		assertThat(response.totalSchedule()).isEqualTo(6);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
@@ -24,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.kiero.child.domain.Child;
 import com.kiero.child.exception.ChildErrorCode;
@@ -35,7 +36,6 @@ import com.kiero.parent.repository.ParentChildRepository;
 import com.kiero.parent.repository.ParentRepository;
 import com.kiero.schedule.domain.Schedule;
 import com.kiero.schedule.domain.ScheduleDetail;
-import com.kiero.schedule.domain.ScheduleRepeatDays;
 import com.kiero.schedule.domain.enums.DayOfWeek;
 import com.kiero.schedule.domain.enums.ScheduleColor;
 import com.kiero.schedule.domain.enums.ScheduleStatus;
@@ -52,9 +52,14 @@ import com.kiero.schedule.presentation.dto.RecurringScheduleDto;
 import com.kiero.schedule.presentation.dto.ScheduleAddRequest;
 import com.kiero.schedule.presentation.dto.ScheduleTabResponse;
 import com.kiero.schedule.presentation.dto.TodayScheduleResponse;
+import com.kiero.schedule.repository.FireLitRecordRepository;
 import com.kiero.schedule.repository.ScheduleDetailRepository;
-import com.kiero.schedule.repository.ScheduleRepeatDaysRepository;
+import com.kiero.schedule.repository.ScheduleQueryRepository;
 import com.kiero.schedule.repository.ScheduleRepository;
+import com.kiero.schedule.repository.dto.NormalScheduleInterval;
+import com.kiero.schedule.repository.dto.NormalScheduleRow;
+import com.kiero.schedule.repository.dto.RecurringScheduleInterval;
+import com.kiero.schedule.repository.dto.RecurringScheduleRow;
 
 @ExtendWith(MockitoExtension.class)
 public class ScheduleServiceTest {
@@ -68,10 +73,22 @@ public class ScheduleServiceTest {
 	@Mock
 	ScheduleRepository scheduleRepository;
 	@Mock
-	ScheduleRepeatDaysRepository scheduleRepeatDaysRepository;
-	@Mock
 	ScheduleDetailRepository scheduleDetailRepository;
 	@Mock
+	FireLitRecordRepository fireLitRecordRepository;
+	@Mock
+	ScheduleQueryRepository scheduleQueryRepository;
+	@Mock
+	TodayScheduleDetailMaterializer todayScheduleDetailMaterializer;
+	@Mock
+	ScheduleDetailBulkGenerator scheduleDetailBulkGenerator;
+	@Mock
+	ScheduleStatusTransitionTimer scheduleStatusTransitionTimer;
+	@Mock
+	TodayScheduleSnapshotCache todayScheduleSnapshotCache;
+	@Mock
+	PlatformTransactionManager transactionManager;
+	@Mock
 	ApplicationEventPublisher eventPublisher;
 	@Mock
 	Clock clock;
@@ -98,7 +115,7 @@ public class ScheduleServiceTest {
 	class AddSchedule {
 
 		@Test
-		void 정상이면_저장하고_반복일정이면_scheduleRepeatDays_저장() {
+		void 정상이면_저장하고_반복일정이면_반복요일_마스크_저장() {
 			// given
 			Long parentId = 1L;
 			Long childId = 1L;
@@ -117,29 +134,96 @@ public class ScheduleServiceTest {
 			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
 
 			given(child.getId()).willReturn(childId);
-			given(scheduleRepeatDaysRepository
-				.findSchedulesByChildIdAndDayOfWeeks(anyLong(), anyList()))
-				.willReturn(List.of());
-
-			given(scheduleDetailRepository
-				.findAllByScheduleChildIdAndDateGreaterThanEqual(anyLong(), any(LocalDate.class)))
-				.willReturn(List.of());
-
 			given(scheduleRepository.save(any(Schedule.class))).willReturn(savedSchedule);
 
 			// when
 			scheduleService.addSchedule(req, parentId, childId);
 
 			// then 1: 일정 저장이 호출됨
-			verify(scheduleRepository, times(1)).save(any(Schedule.class));
+			ArgumentCaptor<Schedule> captor = ArgumentCaptor.forClass(Schedule.class);
+			verify(scheduleRepository, times(1)).save(captor.capture());
 
-			// then 2: 반복 일정이면 repeatDays 저장이 호출됨
-			verify(scheduleRepeatDaysRepository, times(1)).saveAll(anyList());
+			// then 2: 반복 요일이 마스크로 저장됨
+			assertThat(captor.getValue().getRepeatDaysMask()).isEqualTo(DayOfWeek.MON.bit() | DayOfWeek.TUE.bit());
 
 			// then 3: 일정 디테일 저장은 호출되지 않음
 			verify(scheduleDetailRepository, never()).save(any(ScheduleDetail.class));
 		}
 
+		@Test
+		void 반복요일에_오늘이_포함되면_오늘_scheduleDetail_즉시_저장() {
+			// given
+			Long parentId = 1L;
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+
+			Parent parent = mock(Parent.class);
+			Child child = mock(Child.class);
+			Schedule savedSchedule = mock(Schedule.class);
+
+			// fixedClock 기준 오늘(2026-01-15)은 목요일
+			ScheduleAddRequest req = new ScheduleAddRequest("첫번째 일정", true, LocalTime.of(11, 0), LocalTime.of(11, 30),
+				ScheduleColor.SCHEDULE1,
+				"MON, THU", null);
+
+			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
+			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
+
+			given(child.getId()).willReturn(childId);
+			given(scheduleRepository.save(any(Schedule.class))).willReturn(savedSchedule);
+
+			// when
+			scheduleService.addSchedule(req, parentId, childId);
+
+			// then
+			ArgumentCaptor<List<ScheduleDetail>> captor = ArgumentCaptor.forClass(List.class);
+			verify(scheduleDetailRepository).saveAll(captor.capture());
+			assertThat(captor.getValue()).hasSize(1);
+			assertThat(captor.getValue().get(0).getDate()).isEqualTo(LocalDate.of(2026, 1, 15));
+			assertThat(captor.getValue().get(0).getScheduleStatus()).isEqualTo(ScheduleStatus.PENDING);
+			verify(scheduleStatusTransitionTimer).arm(eq(LocalDate.of(2026, 1, 15)), isNull());
+		}
+
+		@Test
+		void horizon_모드면_horizon_기간_내_반복요일의_scheduleDetail_저장() {
+			// given
+			Long parentId = 1L;
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			ReflectionTestUtils.setField(scheduleService, "horizonDays", 7);
+
+			Parent parent = mock(Parent.class);
+			Child child = mock(Child.class);
+			Schedule savedSchedule = mock(Schedule.class);
+
+			// 2026-01-15(목) ~ 2026-01-22(목) 중 월, 목요일 => 01-15, 01-19, 01-22
+			ScheduleAddRequest req = new ScheduleAddRequest("첫번째 일정", true, LocalTime.of(11, 0), LocalTime.of(11, 30),
+				ScheduleColor.SCHEDULE1,
+				"MON, THU", null);
+
+			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
+			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
+
+			given(child.getId()).willReturn(childId);
+			given(scheduleRepository.save(any(Schedule.class))).willReturn(savedSchedule);
+
+			// when
+			scheduleService.addSchedule(req, parentId, childId);
+
+			// then
+			ArgumentCaptor<List<ScheduleDetail>> captor = ArgumentCaptor.forClass(List.class);
+			verify(scheduleDetailRepository).saveAll(captor.capture());
+			assertThat(captor.getValue())
+				.extracting(ScheduleDetail::getDate)
+				.containsExactly(
+					LocalDate.of(2026, 1, 15),
+					LocalDate.of(2026, 1, 19),
+					LocalDate.of(2026, 1, 22)
+				);
+		}
+
 		@Test
 		void 정상이면_저장하고_단일일정이면_scheduleDetail_저장() {
 			// given
@@ -162,21 +246,80 @@ public class ScheduleServiceTest {
 			given(scheduleRepository.save(any(Schedule.class))).willReturn(savedSchedule);
 
 			given(child.getId()).willReturn(childId);
-			given(scheduleDetailRepository
-				.findByDateInAndChildId(anyList(), eq(childId)))
-				.willReturn(List.of());
-
-			given(scheduleRepeatDaysRepository
-				.findSchedulesByChildIdAndDayOfWeekIn(anyLong(), anyList()))
-				.willReturn(List.of());
-
 			// when
 			scheduleService.addSchedule(req, parentId, childId);
 
 			// then
-			verify(scheduleRepository).save(any(Schedule.class));
+			ArgumentCaptor<Schedule> captor = ArgumentCaptor.forClass(Schedule.class);
+			verify(scheduleRepository).save(captor.capture());
 			verify(scheduleDetailRepository).saveAll(anyList());
-			verify(scheduleRepeatDaysRepository, never()).saveAll(any());
+			assertThat(captor.getValue().getRepeatDaysMask()).isZero();
+		}
+
+		@Test
+		void 반복일정이_같은_요일의_단일일정과_시간이_겹치면_중복_예외() {
+			// given
+			Long parentId = 1L;
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+
+			Parent parent = mock(Parent.class);
+			Child child = mock(Child.class);
+
+			ScheduleAddRequest req = new ScheduleAddRequest("첫번째 일정", true, LocalTime.of(11, 0), LocalTime.of(11, 30),
+				ScheduleColor.SCHEDULE1,
+				"MON, TUE", null);
+
+			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
+			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
+			given(child.getId()).willReturn(childId);
+
+			// 2026-01-19는 월요일
+			given(scheduleDetailRepository.findNormalIntervalsByChildIdAndDateGreaterThanEqual(childId, today))
+				.willReturn(List.of(
+					new NormalScheduleInterval(LocalDate.of(2026, 1, 19), LocalTime.of(11, 20), LocalTime.of(12, 0))));
+
+			// when & then
+			assertThatThrownBy(() -> scheduleService.addSchedule(req, parentId, childId))
+				.isInstanceOf(KieroException.class)
+				.extracting(e -> ((KieroException)e).getBaseCode())
+				.isEqualTo(ScheduleErrorCode.SCHEDULE_DUPLICATED);
+
+			verify(scheduleRepository, never()).save(any(Schedule.class));
+		}
+
+		@Test
+		void 단일일정이_같은_요일의_반복일정과_시간이_겹치면_중복_예외() {
+			// given
+			Long parentId = 1L;
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+
+			Parent parent = mock(Parent.class);
+			Child child = mock(Child.class);
+
+			// 2026-01-16은 금요일
+			ScheduleAddRequest req = new ScheduleAddRequest("첫번째 일정", false, LocalTime.of(11, 0), LocalTime.of(11, 30),
+				ScheduleColor.SCHEDULE1,
+				null, "2026-01-16");
+
+			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
+			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
+			given(child.getId()).willReturn(childId);
+
+			given(scheduleRepository.findRecurringIntervalsByChildId(childId))
+				.willReturn(List.of(
+					new RecurringScheduleInterval(DayOfWeek.FRI.bit(), LocalTime.of(10, 0), LocalTime.of(11, 1))));
+
+			// when & then
+			assertThatThrownBy(() -> scheduleService.addSchedule(req, parentId, childId))
+				.isInstanceOf(KieroException.class)
+				.extracting(e -> ((KieroException)e).getBaseCode())
+				.isEqualTo(ScheduleErrorCode.SCHEDULE_DUPLICATED);
+
+			verify(scheduleRepository, never()).save(any(Schedule.class));
 		}
 
 		@Test
@@ -350,7 +493,6 @@ public class ScheduleServiceTest {
 			given(schedule.getChild()).willReturn(child);
 			given(child.getId()).willReturn(childId);
 
-			given(sd.getStoneUsedAt()).willReturn(null);
 			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 
 			// when
@@ -363,6 +505,65 @@ public class ScheduleServiceTest {
 			verify(eventPublisher, times(1)).publishEvent(any(NowScheduleCompleteEvent.class));
 		}
 
+		@Test
+		void 오늘_불피우기_기록이_있으면_인증할_수_없음() {
+			// given
+			Long childId = 1L;
+			Long scheduleDetailId = 10L;
+			NowScheduleCompleteRequest req = new NowScheduleCompleteRequest("http://test-img.jpeg");
+
+			ScheduleDetail sd = mock(ScheduleDetail.class);
+			Schedule schedule = mock(Schedule.class);
+			Child child = mock(Child.class);
+
+			given(scheduleDetailRepository.findById(scheduleDetailId)).willReturn(Optional.of(sd));
+			given(sd.getSchedule()).willReturn(schedule);
+			given(schedule.getChild()).willReturn(child);
+			given(child.getId()).willReturn(childId);
+			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
+			given(sd.getDate()).willReturn(today);
+			given(fireLitRecordRepository.existsByChildIdAndDate(childId, today)).willReturn(true);
+
+			// when & then
+			assertThatThrownBy(() -> scheduleService.completeNowSchedule(childId, scheduleDetailId, req))
+				.isInstanceOf(KieroException.class)
+				.extracting(e -> ((KieroException)e).getBaseCode())
+				.isEqualTo(ScheduleErrorCode.FIRE_LIT_ALREADY_COMPLETE);
+			verify(sd, never()).changeScheduleStatus(any());
+		}
+
+		@Test
+		void 인증하면_오늘_일정_순서에_맞는_불조각_종류를_저장() {
+			// given
+			Long childId = 1L;
+			Long scheduleDetailId = 10L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			NowScheduleCompleteRequest req = new NowScheduleCompleteRequest("http://test-img.jpeg");
+
+			ScheduleDetail first = mock(ScheduleDetail.class);
+			ScheduleDetail sd = mock(ScheduleDetail.class);
+			Schedule firstSchedule = mock(Schedule.class);
+			Schedule schedule = mock(Schedule.class);
+			Child child = mock(Child.class);
+
+			given(scheduleDetailRepository.findById(scheduleDetailId)).willReturn(Optional.of(sd));
+			given(sd.getSchedule()).willReturn(schedule);
+			given(schedule.getChild()).willReturn(child);
+			given(child.getId()).willReturn(childId);
+			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
+
+			given(first.getSchedule()).willReturn(firstSchedule);
+			given(firstSchedule.getCreatedAt()).willReturn(LocalDateTime.of(2026, 1, 1, 0, 0));
+			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(2026, 1, 1, 0, 0));
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(first, sd));
+
+			// when
+			scheduleService.completeNowSchedule(childId, scheduleDetailId, req);
+
+			// then
+			verify(sd).changeStoneType(StoneType.GRIT);
+		}
+
 		@Test
 		void childId가_다르면_접근거부_예외() {
 			// given
@@ -460,15 +661,6 @@ public class ScheduleServiceTest {
 
 		private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-		/**
-		 * alreadyUsed 예외 케이스용: stoneUsedAt만 있으면 됨 (status/stoneType/schedule 전부 불필요)
-		 */
-		private ScheduleDetail mockDetailOnlyStoneUsedAt(LocalDateTime stoneUsedAt) {
-			ScheduleDetail sd = mock(ScheduleDetail.class);
-			given(sd.getStoneUsedAt()).willReturn(stoneUsedAt);
-			return sd;
-		}
-
 		/**
 		 * 정상 흐름용: filterTodayCreatedSchedules 통과를 위해 schedule.createdAt/startTime 필요
 		 * + status는 totalSchedule/gotStones 계산에 쓰이므로 필요
@@ -477,8 +669,7 @@ public class ScheduleServiceTest {
 		private ScheduleDetail mockDetailForNormalFlow(
 			LocalDate today,
 			ScheduleStatus status,
-			StoneType stoneTypeOrNull,
-			LocalDateTime stoneUsedAt
+			StoneType stoneTypeOrNull
 		) {
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
@@ -488,7 +679,6 @@ public class ScheduleServiceTest {
 			given(sd.getSchedule()).willReturn(schedule);
 
 			given(sd.getScheduleStatus()).willReturn(status);
-			given(sd.getStoneUsedAt()).willReturn(stoneUsedAt);
 
 			// stoneType은 VERIFIED/COMPLETED만 호출될 수 있으니 그때만 스텁
 			if (stoneTypeOrNull != null) {
@@ -505,11 +695,12 @@ public class ScheduleServiceTest {
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 			Child child = mock(Child.class);
 			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(fireLitRecordRepository.claim(eq(childId), eq(today), any(LocalDateTime.class))).willReturn(1);
 
 			// PENDING은 stoneType 호출 안 될 수 있으니 null
-			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.PENDING, null, null);
+			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.PENDING, null);
 			// COMPLETED는 gotStones에 들어가므로 stoneType 필요
-			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.GRIT, null);
+			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.GRIT);
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1, sd2));
 
@@ -534,11 +725,12 @@ public class ScheduleServiceTest {
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 			Child child = mock(Child.class);
 			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(fireLitRecordRepository.claim(eq(childId), eq(today), any(LocalDateTime.class))).willReturn(1);
 
-			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.VERIFIED, StoneType.GRIT, null);
-			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.COURAGE, null);
+			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.VERIFIED, StoneType.GRIT);
+			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.COURAGE);
 			// SKIPPED는 stoneType 호출 안 될 수 있으니 null
-			ScheduleDetail skippedSd = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null, null);
+			ScheduleDetail skippedSd = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null);
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(
 				List.of(sd1, sd2, skippedSd));
@@ -563,10 +755,11 @@ public class ScheduleServiceTest {
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 			Child child = mock(Child.class);
 			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(fireLitRecordRepository.claim(eq(childId), eq(today), any(LocalDateTime.class))).willReturn(1);
 
-			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.PENDING, null, null);
-			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.COURAGE, null);
-			ScheduleDetail sd3 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null, null);
+			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.PENDING, null);
+			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.COMPLETED, StoneType.COURAGE);
+			ScheduleDetail sd3 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null);
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1, sd2, sd3));
 
@@ -590,10 +783,11 @@ public class ScheduleServiceTest {
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 			Child child = mock(Child.class);
 			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(fireLitRecordRepository.claim(eq(childId), eq(today), any(LocalDateTime.class))).willReturn(1);
 
-			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null, null);
-			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null, null);
-			ScheduleDetail sd3 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null, null);
+			ScheduleDetail sd1 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null);
+			ScheduleDetail sd2 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null);
+			ScheduleDetail sd3 = mockDetailForNormalFlow(today, ScheduleStatus.SKIPPED, null);
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1, sd2, sd3));
 
@@ -627,7 +821,7 @@ public class ScheduleServiceTest {
 		}
 
 		@Test
-		void 이미_불피우기_완료된_일정이_있으면_예외() {
+		void 오늘_불피우기_기록을_선점하지_못하면_예외() {
 			// given
 			Long childId = 1L;
 
@@ -636,10 +830,14 @@ public class ScheduleServiceTest {
 			Child child = mock(Child.class);
 			given(childRepository.findById(childId)).willReturn(Optional.of(child));
 
-			// stoneUsedAt만 있으면 earliestStoneUsedAt != null 로 예외 발생
-			ScheduleDetail alreadyUsed = mockDetailOnlyStoneUsedAt(LocalDateTime.of(2026, 1, 14, 9, 0));
+			ScheduleDetail sd = mock(ScheduleDetail.class);
+			Schedule schedule = mock(Schedule.class);
+			given(schedule.getCreatedAt()).willReturn(today.minusDays(1).atStartOfDay());
+			given(sd.getSchedule()).willReturn(schedule);
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 
-			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(alreadyUsed));
+			// 이미 오늘의 기록이 있으면 insert ignore가 0을 반환함
+			given(fireLitRecordRepository.claim(eq(childId), eq(today), any(LocalDateTime.class))).willReturn(0);
 
 			// when & then
 			assertThatThrownBy(() -> scheduleService.fireLit(childId))
@@ -647,8 +845,28 @@ public class ScheduleServiceTest {
 				.extracting(e -> ((KieroException)e).getBaseCode())
 				.isEqualTo(ScheduleErrorCode.FIRE_LIT_ALREADY_COMPLETE);
 
+			verify(sd, never()).changeStoneUsedAt(any());
+			verify(child, never()).addCoin(anyInt());
 			verify(eventPublisher, never()).publishEvent(any());
-			verify(alreadyUsed, never()).changeStoneUsedAt(any());
+		}
+
+		@Test
+		void 오늘_일정이_없으면_불피우기_기록을_선점하지_않음() {
+			// given
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			Child child = mock(Child.class);
+			given(childRepository.findById(childId)).willReturn(Optional.of(child));
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of());
+
+			// when
+			FireLitResponse response = scheduleService.fireLit(childId);
+
+			// then
+			// 기록이 남지 않으므로 이후 일정이 생기면 같은 날 다시 불피우기를 할 수 있음
+			verify(fireLitRecordRepository, never()).claim(any(), any(), any());
+			assertThat(response.gotStones()).isEmpty();
+			assertThat(response.earnedCoinAmount()).isEqualTo(0);
 		}
 	}
 
@@ -962,17 +1180,12 @@ public class ScheduleServiceTest {
 			// given
 			Long parentId = 1L;
 			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 
 			LocalDate startDate = LocalDate.of(2026, 1, 1);
 			LocalDate endDate = LocalDate.of(2026, 1, 31);
 
-			Parent parent = mock(Parent.class);
-			Child child = mock(Child.class);
-
-			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
-			given(childRepository.findById(childId)).willReturn(Optional.of(child));
-			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
-			given(scheduleRepository.findAllByChildId(childId)).willReturn(List.of());
+			given(parentChildRepository.existsByParentIdAndChildId(parentId, childId)).willReturn(true);
 
 			// when
 			ScheduleTabResponse response = scheduleService.getSchedules(startDate, endDate, parentId, childId);
@@ -980,6 +1193,9 @@ public class ScheduleServiceTest {
 			// then
 			assertThat(response.recurringSchedules()).isEqualTo(List.of());
 			assertThat(response.normalSchedules()).isEqualTo(List.of());
+
+			// 접근 가능하면 부모/아이 엔티티를 따로 조회하지 않음
+			verifyNoInteractions(parentRepository, childRepository);
 		}
 
 		@Test
@@ -989,46 +1205,21 @@ public class ScheduleServiceTest {
 			Long childId = 1L;
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 
+			// 2026-01-01(목)이 속한 주의 월요일은 2025-12-29, 다음 주 월요일은 2026-01-05
 			LocalDate startDate = LocalDate.of(2026, 1, 1);
 			LocalDate endDate = LocalDate.of(2026, 1, 31);
-
-			Parent parent = mock(Parent.class);
-			Child child = mock(Child.class);
-
-			Schedule schedule = mock(Schedule.class);
 			Long scheduleId = 100L;
 
-			ScheduleRepeatDays rdMon = mock(ScheduleRepeatDays.class);
-			ScheduleRepeatDays rdWed = mock(ScheduleRepeatDays.class);
-
-			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(2025, 12, 29, 10, 0));
-
-			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
-			given(childRepository.findById(childId)).willReturn(Optional.of(child));
-			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
-
-			given(scheduleRepository.findAllByChildId(childId)).willReturn(List.of(schedule));
-
-			given(schedule.getId()).willReturn(scheduleId);
-			given(schedule.isRecurring()).willReturn(true);
-
-			given(schedule.getStartTime()).willReturn(LocalTime.of(11, 0));
-			given(schedule.getEndTime()).willReturn(LocalTime.of(11, 30));
-			given(schedule.getName()).willReturn("첫번째 일정");
-			given(schedule.getScheduleColor()).willReturn(ScheduleColor.SCHEDULE1);
+			given(parentChildRepository.existsByParentIdAndChildId(parentId, childId)).willReturn(true);
 
 			// 불피우기 여부
-			given(scheduleDetailRepository.existsStoneUsedToday(eq(List.of(scheduleId)), any(LocalDate.class)))
-				.willReturn(false);
+			given(fireLitRecordRepository.existsByChildIdAndDate(childId, today)).willReturn(false);
 
-			// repeatDays -> scheduleId 매핑되도록 세팅
-			given(rdMon.getSchedule()).willReturn(schedule);
-			given(rdWed.getSchedule()).willReturn(schedule);
-			given(rdMon.getDayOfWeek()).willReturn(DayOfWeek.MON);
-			given(rdWed.getDayOfWeek()).willReturn(DayOfWeek.WED);
-
-			given(scheduleRepeatDaysRepository.findAllByScheduleIdsIn(eq(List.of(scheduleId))))
-				.willReturn(List.of(rdMon, rdWed));
+			given(scheduleQueryRepository.findRecurringScheduleRows(childId, LocalDate.of(2026, 1, 5).atStartOfDay()))
+				.willReturn(List.of(
+					new RecurringScheduleRow(scheduleId, LocalTime.of(11, 0), LocalTime.of(11, 30), "첫번째 일정",
+						ScheduleColor.SCHEDULE1, DayOfWeek.WED.bit() | DayOfWeek.MON.bit())
+				));
 
 			// when
 			ScheduleTabResponse response = scheduleService.getSchedules(startDate, endDate, parentId, childId);
@@ -1044,9 +1235,6 @@ public class ScheduleServiceTest {
 			assertThat(dto.name()).isEqualTo("첫번째 일정");
 			assertThat(dto.colorCode()).isEqualTo(ScheduleColor.SCHEDULE1.getColorCode());
 			assertThat(dto.dayOfWeek()).isEqualTo("MON, WED");
-
-			verify(scheduleDetailRepository, never())
-				.findAllByScheduleIdInAndDateBetween(anyList(), any(LocalDate.class), any(LocalDate.class));
 		}
 
 		@Test
@@ -1060,36 +1248,16 @@ public class ScheduleServiceTest {
 			LocalDate endDate = LocalDate.of(2026, 1, 31);
 			LocalDate scheduleDate = LocalDate.of(2026, 1, 17);
 
-			Parent parent = mock(Parent.class);
-			Child child = mock(Child.class);
-
-			Schedule schedule = mock(Schedule.class);
-			ScheduleDetail scheduleDetail = mock(ScheduleDetail.class);
-			Long scheduleId = 100L;
-
-			given(parentRepository.findById(parentId)).willReturn(Optional.of(parent));
-			given(childRepository.findById(childId)).willReturn(Optional.of(child));
-			given(parentChildRepository.existsByParentAndChild(parent, child)).willReturn(true);
-
-			given(scheduleRepository.findAllByChildId(childId)).willReturn(List.of(schedule));
-
-			given(schedule.getId()).willReturn(scheduleId);
-			given(schedule.isRecurring()).willReturn(false);
-
-			given(schedule.getStartTime()).willReturn(LocalTime.of(11, 0));
-			given(schedule.getEndTime()).willReturn(LocalTime.of(11, 30));
-			given(schedule.getName()).willReturn("첫번째 일정");
-			given(schedule.getScheduleColor()).willReturn(ScheduleColor.SCHEDULE1);
+			given(parentChildRepository.existsByParentIdAndChildId(parentId, childId)).willReturn(true);
 
 			// 불피우기 여부
-			given(scheduleDetailRepository.existsStoneUsedToday(eq(List.of(scheduleId)), any(LocalDate.class)))
-				.willReturn(false);
-
-			given(scheduleDetail.getSchedule()).willReturn(schedule);
-			given(scheduleDetail.getDate()).willReturn(scheduleDate);
+			given(fireLitRecordRepository.existsByChildIdAndDate(childId, today)).willReturn(false);
 
-			given(scheduleDetailRepository.findAllByScheduleIdInAndDateBetween(List.of(scheduleId), startDate,
-				endDate)).willReturn(List.of(scheduleDetail));
+			given(scheduleQueryRepository.findNormalScheduleRows(childId, startDate, endDate))
+				.willReturn(List.of(
+					new NormalScheduleRow(LocalTime.of(11, 0), LocalTime.of(11, 30), "첫번째 일정",
+						ScheduleColor.SCHEDULE1, scheduleDate)
+				));
 
 			// when
 			ScheduleTabResponse response = scheduleService.getSchedules(startDate, endDate, parentId, childId);
@@ -1105,9 +1273,6 @@ public class ScheduleServiceTest {
 			assertThat(dto.name()).isEqualTo("첫번째 일정");
 			assertThat(dto.colorCode()).isEqualTo(ScheduleColor.SCHEDULE1.getColorCode());
 			assertThat(dto.date()).isEqualTo(LocalDate.of(2026, 1, 17));
-
-			verify(scheduleRepeatDaysRepository, never())
-				.findAllByScheduleIdsIn(anyList());
 		}
 	}
 
@@ -1124,16 +1289,34 @@ public class ScheduleServiceTest {
 			);
 			ReflectionTestUtils.setField(scheduleService, "clock", clockFri);
 
-			given(scheduleRepeatDaysRepository.findSchedulesToCreateTodayDetail(DayOfWeek.FRI, fixedDate))
-				.willReturn(List.of(mock(Schedule.class)));
+			// when
+			scheduleService.createTodayScheduleDetail();
+
+			// then
+			verify(scheduleDetailBulkGenerator).generate(fixedDate);
+			verify(scheduleDetailRepository, never()).saveAll(anyList());
+			verify(scheduleStatusTransitionTimer).armDate(fixedDate);
+		}
+
+		@Test
+		void horizon_모드면_오늘부터_horizon_마지막_날까지_생성() {
+			// given
+			LocalDate fixedDate = LocalDate.of(2026, 1, 16);
+			Clock clockFri = Clock.fixed(
+				fixedDate.atTime(0, 0).atZone(KST).toInstant(),
+				KST
+			);
+			ReflectionTestUtils.setField(scheduleService, "clock", clockFri);
+			ReflectionTestUtils.setField(scheduleService, "horizonDays", 2);
 
 			// when
 			scheduleService.createTodayScheduleDetail();
 
 			// then
-			ArgumentCaptor<List<ScheduleDetail>> captor = ArgumentCaptor.forClass(List.class);
-			verify(scheduleDetailRepository).saveAll(captor.capture());
-			assertThat(captor.getValue()).hasSize(1);
+			verify(scheduleDetailBulkGenerator).generate(fixedDate);
+			verify(scheduleDetailBulkGenerator).generate(fixedDate.plusDays(1));
+			verify(scheduleDetailBulkGenerator).generate(fixedDate.plusDays(2));
+			verifyNoMoreInteractions(scheduleDetailBulkGenerator);
 		}
 	}
 
@@ -1195,47 +1378,90 @@ public class ScheduleServiceTest {
 		}
 
 		@Test
-		void 오늘_반복일정이_있으면_scheduleDetail_자동_생성() {
+		void 요청한_아이의_당일_반복일정_detail_생성을_요청() {
 			// given
 			Long childId = 1L;
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
-			Schedule schedule = mock(Schedule.class);
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of());
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of(schedule));
+			// when
+			scheduleService.getTodaySchedule(childId);
+
+			// then
+			verify(todayScheduleDetailMaterializer).materializeRecurringSchedulesCreatedToday(childId, today);
+			verify(scheduleDetailRepository, never()).saveAll(anyList());
+		}
+
+		@Test
+		void 이미_생성한_날이면_당일_반복일정_detail_생성을_요청하지_않음() {
+			// given
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			given(todayScheduleDetailMaterializer.isMaterialized(childId, today)).willReturn(true);
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of());
 
 			// when
 			scheduleService.getTodaySchedule(childId);
 
 			// then
-			ArgumentCaptor<List<ScheduleDetail>> captor = ArgumentCaptor.forClass(List.class);
-			verify(scheduleDetailRepository).saveAll(captor.capture());
+			verify(todayScheduleDetailMaterializer, never()).materializeRecurringSchedulesCreatedToday(any(), any());
+		}
+
+		@Test
+		void 스냅샷_캐시에_있으면_트랜잭션을_시작하지_않고_반환() {
+			// given
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			TodayScheduleResponse cached = TodayScheduleResponse.of(
+				null, 0, null, null, null, null, 0, 0, TodayScheduleStatus.NO_SCHEDULE, false, false);
+			given(todayScheduleSnapshotCache.get(childId, today)).willReturn(cached);
 
-			List<ScheduleDetail> saved = captor.getValue();
-			assertThat(saved).hasSize(1);
+			// when
+			TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
 
-			ScheduleDetail created = saved.get(0);
-			assertThat(created.getSchedule()).isSameAs(schedule);
-			assertThat(created.getDate()).isEqualTo(today);
-			assertThat(created.getScheduleStatus()).isEqualTo(ScheduleStatus.PENDING);
+			// then
+			assertThat(response).isSameAs(cached);
+			verifyNoInteractions(scheduleDetailRepository, todayScheduleDetailMaterializer, transactionManager);
 		}
 
 		@Test
-		void 오늘_반복일정이_이미_detail이_있으면_중복_생성되지_않음() {
+		void 스냅샷_캐시에_없으면_계산한_응답을_다음_일정_경계까지_저장() {
 			// given
 			Long childId = 1L;
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			ScheduleDetail sd = mock(ScheduleDetail.class);
+			Schedule schedule = mock(Schedule.class);
+
+			TodayScheduleSnapshotCache.Stamp stamp = new TodayScheduleSnapshotCache.Stamp(3L, "0");
+			given(todayScheduleSnapshotCache.stamp(childId, today)).willReturn(stamp);
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
+			given(sd.getSchedule()).willReturn(schedule);
+			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
+			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(2026, 1, 1, 0, 0));
+			given(schedule.getStartTime()).willReturn(LocalTime.of(12, 0));
+			given(schedule.getEndTime()).willReturn(LocalTime.of(13, 0));
+
+			// when
+			TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
+
+			// then
+			// 현재 시각 11:30 이후 첫 경계는 일정 시작 시각인 12:00
+			verify(todayScheduleSnapshotCache).put(childId, today, stamp, response, today.atTime(12, 0));
+		}
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
+		@Test
+		void horizon_모드면_당일_반복일정_detail_생성을_생략() {
+			// given
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			ReflectionTestUtils.setField(scheduleService, "horizonDays", 7);
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of());
 
 			// when
 			scheduleService.getTodaySchedule(childId);
 
 			// then
-			verify(scheduleDetailRepository, never()).saveAll(anyList());
+			verifyNoInteractions(todayScheduleDetailMaterializer);
 		}
 
 		@Test
@@ -1253,12 +1479,9 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 			given(sd.getSchedule()).willReturn(schedule);
 			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
-			given(sd.getStoneUsedAt()).willReturn(null);
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 
 			// when
 			TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
@@ -1275,8 +1498,6 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getSchedule()).willReturn(schedule);
@@ -1299,15 +1520,14 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getSchedule()).willReturn(schedule);
 			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.COMPLETED);
 			given(schedule.getStartTime()).willReturn(LocalTime.of(23, 59));
 			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(today, LocalTime.of(12, 0)));
-			given(sd.getStoneUsedAt()).willReturn(LocalDateTime.of(today, LocalTime.of(0, 0)));
+			given(fireLitRecordRepository.findLitAt(childId, today))
+				.willReturn(Optional.of(LocalDateTime.of(today, LocalTime.of(0, 0))));
 
 			// when
 			TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
@@ -1316,6 +1536,31 @@ public class ScheduleServiceTest {
 			assertThat(response.totalSchedule()).isEqualTo(0);
 		}
 
+		@Test
+		void scheduleDetail에_stoneUsedAt이_없어도_불피우기_기록이_있으면_FIRE_LIT() {
+			// given
+			// 불피우기 이후 scheduleDetail이 다시 생성된 경우
+			Long childId = 1L;
+			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
+			Schedule schedule = mock(Schedule.class);
+			ScheduleDetail sd = mock(ScheduleDetail.class);
+
+			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
+			given(sd.getSchedule()).willReturn(schedule);
+			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.COMPLETED);
+			given(schedule.getCreatedAt()).willReturn(today.minusDays(1).atStartOfDay());
+			given(schedule.getStartTime()).willReturn(LocalTime.of(9, 0));
+			given(schedule.getEndTime()).willReturn(LocalTime.of(10, 0));
+			given(fireLitRecordRepository.findLitAt(childId, today))
+				.willReturn(Optional.of(LocalDateTime.of(today, LocalTime.of(10, 30))));
+
+			// when
+			TodayScheduleResponse response = scheduleService.getTodaySchedule(childId);
+
+			// then
+			assertThat(response.scheduleStatus()).isEqualTo(TodayScheduleStatus.FIRE_LIT);
+		}
+
 		@Test
 		void 종료시간이_지났고_PENDING이면_FAILED로_변경() {
 			// given
@@ -1329,8 +1574,6 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getSchedule()).willReturn(schedule);
 			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(today, LocalTime.of(0, 0)));
@@ -1358,8 +1601,6 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getSchedule()).willReturn(schedule);
 			given(schedule.getCreatedAt()).willReturn(LocalDateTime.of(today, LocalTime.of(0, 0)));
@@ -1385,8 +1626,6 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any())).willReturn(
-				List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 
 			given(sd.getSchedule()).willReturn(schedule);
@@ -1416,8 +1655,6 @@ public class ScheduleServiceTest {
 			Schedule schedule = mock(Schedule.class);
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd));
 
@@ -1445,8 +1682,6 @@ public class ScheduleServiceTest {
 
 			ReflectionTestUtils.setField(scheduleService, "clock", fixedClock);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of());
 
@@ -1470,8 +1705,6 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1, sd2));
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
@@ -1504,8 +1737,6 @@ public class ScheduleServiceTest {
 
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1));
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd1.getSchedule()).willReturn(s1);
@@ -1532,8 +1763,6 @@ public class ScheduleServiceTest {
 
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd1));
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd1.getSchedule()).willReturn(s1);
@@ -1570,19 +1799,15 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd1, sd2));
 
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd1.getSchedule()).willReturn(s1);
-			given(sd1.getStoneUsedAt()).willReturn(null);
 
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd2.getSchedule()).willReturn(s2);
-			given(sd2.getStoneUsedAt()).willReturn(null);
 
 			LocalDateTime createdAt = LocalDateTime.of(today, LocalTime.of(0, 0));
 			LocalTime startTime = LocalTime.of(11, 0);
@@ -1626,23 +1851,18 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 			ScheduleDetail sd3 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd1, sd2, sd3));
 
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd1.getSchedule()).willReturn(s1);
-			given(sd1.getStoneUsedAt()).willReturn(null);
 
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd2.getSchedule()).willReturn(s2);
-			given(sd2.getStoneUsedAt()).willReturn(null);
 
 			given(sd3.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd3.getSchedule()).willReturn(s3);
-			given(sd3.getStoneUsedAt()).willReturn(null);
 
 			LocalDateTime createdAt = LocalDateTime.of(today, LocalTime.of(0, 0));
 			LocalTime startTime = LocalTime.of(11, 0);
@@ -1687,19 +1907,15 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd1, sd2));
 
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd1.getSchedule()).willReturn(s1);
-			given(sd1.getStoneUsedAt()).willReturn(null);
 
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd2.getSchedule()).willReturn(s2);
-			given(sd2.getStoneUsedAt()).willReturn(null);
 
 			LocalDateTime createdAt = LocalDateTime.of(today, LocalTime.of(0, 0));
 			LocalTime startTime = LocalTime.of(11, 0);
@@ -1732,19 +1948,15 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd1, sd2));
 
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd1.getSchedule()).willReturn(s1);
-			given(sd1.getStoneUsedAt()).willReturn(null);
 
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.VERIFIED);
 			given(sd2.getSchedule()).willReturn(s2);
-			given(sd2.getStoneUsedAt()).willReturn(null);
 
 			LocalDateTime createdAt = LocalDateTime.of(today, LocalTime.of(0, 0));
 			LocalTime startTime = LocalTime.of(11, 0);
@@ -1777,19 +1989,15 @@ public class ScheduleServiceTest {
 			ScheduleDetail sd1 = mock(ScheduleDetail.class);
 			ScheduleDetail sd2 = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId))
 				.willReturn(List.of(sd1, sd2));
 
 			given(sd1.getScheduleStatus()).willReturn(ScheduleStatus.SKIPPED);
 			given(sd1.getSchedule()).willReturn(s1);
-			given(sd1.getStoneUsedAt()).willReturn(null);
 
 			given(sd2.getScheduleStatus()).willReturn(ScheduleStatus.VERIFIED);
 			given(sd2.getSchedule()).willReturn(s2);
-			given(sd2.getStoneUsedAt()).willReturn(null);
 
 			LocalDateTime createdAt = LocalDateTime.of(today, LocalTime.of(0, 0));
 			LocalTime startTime = LocalTime.of(11, 0);
@@ -1820,8 +2028,6 @@ public class ScheduleServiceTest {
 
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.VERIFIED);
 			given(sd.getSchedule()).willReturn(schedule);
@@ -1848,8 +2054,6 @@ public class ScheduleServiceTest {
 
 			ScheduleDetail sd = mock(ScheduleDetail.class);
 
-			given(scheduleRepository.findRecurringSchedulesToGenerateTodayDetail(any(), any(), any()))
-				.willReturn(List.of());
 			given(scheduleDetailRepository.findByDateAndChildId(today, childId)).willReturn(List.of(sd));
 			given(sd.getScheduleStatus()).willReturn(ScheduleStatus.PENDING);
 			given(sd.getSchedule()).willReturn(schedule);
@@ -0,0 +1,157 @@
+package com.kiero.schedule.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kiero.schedule.domain.enums.TodayScheduleStatus;
+import com.kiero.schedule.presentation.dto.TodayScheduleResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+Redis 컨테이너에서 오늘 일정 스냅샷 캐시의 put/evict 순서를 확인함
+- 두 인스턴스가 같은 Redis를 쓰는 것으로 두 노드를 흉내 냄
+- Docker가 없는 환경에서는 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public class TodayScheduleSnapshotCacheTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS_CONTAINER = new GenericContainer<>("redis:7-alpine")
+		.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate stringRedisTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final LocalDate today = LocalDate.of(2026, 1, 15);
+	private final Clock fixedClock = Clock.fixed(
+		today.atTime(11, 30).atZone(ZoneId.of("Asia/Seoul")).toInstant(), ZoneId.of("Asia/Seoul"));
+	private final Long childId = 1L;
+	private final LocalDateTime validUntil = today.atTime(12, 0);
+
+	private TodayScheduleSnapshotCache nodeA;
+	private TodayScheduleSnapshotCache nodeB;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = new LettuceConnectionFactory(REDIS_CONTAINER.getHost(), REDIS_CONTAINER.getMappedPort(6379));
+		connectionFactory.afterPropertiesSet();
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+		nodeA = newNode();
+		nodeB = newNode();
+	}
+
+	private TodayScheduleSnapshotCache newNode() {
+		return new TodayScheduleSnapshotCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class),
+			objectMapper, new SimpleMeterRegistry(), fixedClock);
+	}
+
+	private TodayScheduleResponse response(int earnedStones) {
+		return TodayScheduleResponse.of(
+			null, 0, null, null, null, null, 0, earnedStones, TodayScheduleStatus.NO_SCHEDULE, false, false);
+	}
+
+	@Test
+	void 저장한_스냅샷을_다른_노드에서_Redis로_읽음() {
+		// given
+		TodayScheduleSnapshotCache.Stamp stamp = nodeA.stamp(childId, today);
+
+		// when
+		nodeA.put(childId, today, stamp, response(1), validUntil);
+
+		// then
+		assertThat(nodeA.get(childId, today)).isEqualTo(response(1));
+		assertThat(nodeB.get(childId, today)).isEqualTo(response(1));
+	}
+
+	@Test
+	void 같은_노드에서_stamp_이후_evict되면_이전_스냅샷을_저장하지_않음() {
+		// given
+		TodayScheduleSnapshotCache.Stamp stamp = nodeA.stamp(childId, today);
+		nodeA.evictAfterCommit(childId, today);
+
+		// when
+		nodeA.put(childId, today, stamp, response(1), validUntil);
+
+		// then
+		assertThat(nodeA.get(childId, today)).isNull();
+		assertThat(stringRedisTemplate.hasKey("today-schedule-snapshot:" + childId + ":" + today)).isFalse();
+	}
+
+	@Test
+	void 다른_노드에서_stamp_이후_evict되면_이전_스냅샷을_저장하지_않음() {
+		// given
+		// 노드 B가 evict 전에 조회를 시작하고, 노드 A가 커밋 후 evict함
+		TodayScheduleSnapshotCache.Stamp stamp = nodeB.stamp(childId, today);
+		nodeA.evictAfterCommit(childId, today);
+
+		// when
+		nodeB.put(childId, today, stamp, response(1), validUntil);
+
+		// then
+		assertThat(nodeA.get(childId, today)).isNull();
+		assertThat(nodeB.get(childId, today)).isNull();
+	}
+
+	@Test
+	void 다른_아이의_evict는_진행_중인_저장을_막지_않음() {
+		// given
+		// 아이 1의 조회 중에 아이 2가 이 노드와 다른 노드에서 evict됨 (다른 노드의 evict는 pub/sub로 도착)
+		TodayScheduleSnapshotCache.Stamp stamp = nodeA.stamp(childId, today);
+		nodeA.evictAfterCommit(2L, today);
+		nodeA.onMessage(new DefaultMessage(
+			"today-schedule-snapshot:evict".getBytes(StandardCharsets.UTF_8),
+			("today-schedule-snapshot:2:" + today).getBytes(StandardCharsets.UTF_8)), null);
+
+		// when
+		nodeA.put(childId, today, stamp, response(1), validUntil);
+
+		// then
+		assertThat(nodeA.get(childId, today)).isEqualTo(response(1));
+		assertThat(stringRedisTemplate.hasKey("today-schedule-snapshot:" + childId + ":" + today)).isTrue();
+	}
+
+	@Test
+	void evict_이후에_시작한_조회는_다시_저장함() {
+		// given
+		nodeA.evictAfterCommit(childId, today);
+		TodayScheduleSnapshotCache.Stamp stamp = nodeB.stamp(childId, today);
+
+		// when
+		nodeB.put(childId, today, stamp, response(2), validUntil);
+
+		// then
+		assertThat(nodeA.get(childId, today)).isEqualTo(response(2));
+	}
+}
@@ -0,0 +1,138 @@
+-- Flyway 도입 전 ddl-auto로 만들어진 운영 스키마를 흉내 낸 스키마 (마이그레이션 테스트용)
+-- baseline 커밋의 엔티티 기준으로 Hibernate가 생성하는 형태를 따름
+-- - 외래 키는 테이블 생성 후 alter table로 추가되고, 이름은 Hibernate가 생성한 FK... 형식 (V1의 fk_... 이름이 아님)
+-- - 명시적으로 이름을 준 제약은 uk_parent_child뿐임
+-- FK 이름 값 자체는 실제 운영 DB의 값이 아니며, 마이그레이션이 이름에 의존하지 않는지 확인하는 용도임
+
+create table parent
+(
+    id         bigint       not null auto_increment,
+    created_at datetime(6)  not null,
+    email      varchar(255) not null,
+    image      varchar(255),
+    name       varchar(255) not null,
+    provider   enum ('KAKAO') not null,
+    role       enum ('PARENT','CHILD','ADMIN') not null,
+    social_id  varchar(255) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table child
+(
+    coin_amount integer      not null,
+    id          bigint       not null auto_increment,
+    created_at  datetime(6)  not null,
+    first_name  varchar(255) not null,
+    last_name   varchar(255) not null,
+    role        enum ('PARENT','CHILD','ADMIN') not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table parent_child
+(
+    child_id   bigint      not null,
+    created_at datetime(6) not null,
+    id         bigint      not null auto_increment,
+    parent_id  bigint      not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table coupon
+(
+    price integer      not null,
+    id    bigint       not null auto_increment,
+    name  varchar(255) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table holiday
+(
+    date       date        not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6),
+    name       varchar(255),
+    primary key (date)
+) engine = InnoDB;
+
+create table mission
+(
+    due_at       date         not null,
+    is_completed bit          not null,
+    reward       integer      not null,
+    child_id     bigint       not null,
+    created_at   datetime(6)  not null,
+    id           bigint       not null auto_increment,
+    parent_id    bigint       not null,
+    name         varchar(255) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table feed_item
+(
+    child_id    bigint      not null,
+    created_at  datetime(6) not null,
+    id          bigint      not null auto_increment,
+    occurred_at datetime(6) not null,
+    parent_id   bigint      not null,
+    event_type  enum ('MISSION','SCHEDULE','COUPON','COMPLETE') not null,
+    metadata    json        not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table schedule
+(
+    end_time       time         not null,
+    is_recurring   bit          not null,
+    start_time     time         not null,
+    child_id       bigint       not null,
+    created_at     datetime(6)  not null,
+    id             bigint       not null auto_increment,
+    parent_id      bigint       not null,
+    name           varchar(255) not null,
+    schedule_color enum ('SCHEDULE1','SCHEDULE2','SCHEDULE3','SCHEDULE4','SCHEDULE5') not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table schedule_repeat_days
+(
+    id          bigint not null auto_increment,
+    schedule_id bigint not null,
+    day_of_week enum ('MON','TUE','WED','THU','FRI','SAT','SUN') not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table schedule_detail
+(
+    date            date        not null,
+    id              bigint      not null auto_increment,
+    schedule_id     bigint      not null,
+    stone_used_at   datetime(6),
+    image_url       varchar(255),
+    schedule_status enum ('PENDING','SKIPPED','FAILED','VERIFIED','COMPLETED') not null,
+    stone_type      enum ('COURAGE','WISDOM','GRIT'),
+    primary key (id)
+) engine = InnoDB;
+
+alter table parent_child
+    add constraint uk_parent_child unique (parent_id, child_id);
+
+alter table parent_child
+    add constraint FKqg5ofwudmu9a3u1lcyf5d2xgr foreign key (child_id) references child (id);
+alter table parent_child
+    add constraint FK7n4y0cm0bq8wppw9l1hddxk7s foreign key (parent_id) references parent (id);
+alter table mission
+    add constraint FKp3dh6sm3nbnwk4ghtogk1nb8c foreign key (child_id) references child (id);
+alter table mission
+    add constraint FKl0r0qmtm3bi9y1nn2rga3mmly foreign key (parent_id) references parent (id);
+alter table feed_item
+    add constraint FK1vldwmgkhy0ap8y8k0s0rr8ca foreign key (child_id) references child (id);
+alter table feed_item
+    add constraint FKtb8yb3xo0w5ybpyvvcj1sr8ll foreign key (parent_id) references parent (id);
+alter table schedule
+    add constraint FKe4qxpn0ibvsm0mbrrtd4rkgwc foreign key (child_id) references child (id);
+alter table schedule
+    add constraint FK2y6f4c9wq5l0mn1wrdm0n0h3e foreign key (parent_id) references parent (id);
+alter table schedule_repeat_days
+    add constraint FKg3g0lbcu5pyq9l0u2u8gqkjh4 foreign key (schedule_id) references schedule (id);
+alter table schedule_detail
+    add constraint FKqy2u0hkyvf7v3sfsdd5ka9bpm foreign key (schedule_id) references schedule (id);